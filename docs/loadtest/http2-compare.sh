@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+# HTTP/1.1 vs HTTP/2 (h2c) 부하 비교 - 커넥션 수 / 지연 시간
+#
+# 준비
+#   - h2load (nghttp2): brew install nghttp2 / apt install nghttp2-client
+#   - 앱 실행 (속도 제한 해제): ./gradlew bootRun --args='--app.rate-limit.enabled=false'
+#   - 토큰: POST /api/v1/auth/login 응답의 accessToken
+#
+# 사용
+#   TOKEN=... ./docs/loadtest/http2-compare.sh [url]
+#   ex. TOKEN=... REQUESTS=50000 CLIENTS=100 ./docs/loadtest/http2-compare.sh http://localhost:8080/api/v1/users/1
+#
+# 비교 방식
+#   - h1 : 클라이언트 CLIENTS개 = 커넥션 CLIENTS개, 커넥션당 요청 1개씩 (HTTP/1.1 keep-alive)
+#   - h2c: 커넥션 H2_CONNECTIONS개에서 동시 stream CLIENTS개 (prior knowledge, 다중화)
+#   - 실행 중 서버 포트의 ESTABLISHED 커넥션 최대값을 함께 출력
+#
+# 외부 호출(outbound) 비교: app.http-client.version=HTTP_1_1 / HTTP_2 로 각각 실행 후
+#   /api/v1/test/external 에 같은 부하를 주고 외부 서버 포트의 커넥션 수를 확인 (PORT=외부 서버 포트)
+
+set -euo pipefail
+
+URL="${1:-http://localhost:8080/api/v1/users/1}"
+TOKEN="${TOKEN:?TOKEN (access token) required}"
+REQUESTS="${REQUESTS:-20000}"
+CLIENTS="${CLIENTS:-100}"
+H2_CONNECTIONS="${H2_CONNECTIONS:-2}"
+PORT="${PORT:-$(echo "$URL" | sed -E 's#^[a-z]+://[^:/]+:?([0-9]*).*#\1#')}"
+PORT="${PORT:-80}"
+
+command -v h2load >/dev/null || { echo "h2load not found (nghttp2)"; exit 1; }
+
+count_connections() {
+  if command -v ss >/dev/null; then
+    ss -Htn state established "( sport = :$PORT or dport = :$PORT )" | wc -l
+  else
+    netstat -an | grep -E "[.:]$PORT[[:space:]]" | grep -c ESTABLISHED || true
+  fi
+}
+
+# 부하 실행 중 커넥션 수 최대값 측정
+run() {
+  local name="$1"; shift
+  local max=0 pid current
+  h2load "$@" -n "$REQUESTS" -H "Authorization: Bearer $TOKEN" "$URL" > "/tmp/h2load-$name.log" 2>&1 &
+  pid=$!
+  while kill -0 "$pid" 2>/dev/null; do
+    current=$(count_connections)
+    (( current > max )) && max=$current
+    sleep 0.2
+  done
+  wait "$pid" || { cat "/tmp/h2load-$name.log"; exit 1; }
+
+  echo "===== $name (max established connections on :$PORT = $max) ====="
+  grep -E "^(finished in|requests:|status codes:|time for request:|time to 1st byte:|req/s)" "/tmp/h2load-$name.log"
+  echo
+}
+
+# warm-up (JIT / 캐시)
+h2load --h1 -n 2000 -c 10 -H "Authorization: Bearer $TOKEN" "$URL" > /dev/null 2>&1 || true
+
+run "http1.1" --h1 -c "$CLIENTS" -m 1
+run "h2c" -c "$H2_CONNECTIONS" -m $(( (CLIENTS + H2_CONNECTIONS - 1) / H2_CONNECTIONS ))
@@ -0,0 +1,77 @@
+#!/usr/bin/env bash
+# 기동 시간(time-to-ready) 벤치마크 - 빌드(커밋)별 기록을 CSV로 누적
+#
+# ready 시간: JVM 시작 ~ ApplicationReadyEvent (warm-up 등 ApplicationRunner 포함)
+#   = StartupTimeReporter의 "ready in {n} ms" 로그 (app.startup.exit-on-ready=true로 ready 직후 종료)
+#
+# 준비
+#   jar     : ./gradlew bootJar
+#   cds     : ./gradlew cdsArchive
+#   aot-cds : ./gradlew cdsArchive -Paot   (AOT는 빌드 시 프로필 기준으로 bean 조건이 고정됨)
+#   DB / Redis 실행 (docs/integration/docker-compose.yml), 접속 정보는 환경 변수로 (SPRING_DATASOURCE_URL 등)
+#
+# 사용
+#   ./docs/startup/startup-benchmark.sh [mode...]        (기본: jar cds)
+#   ex. RUNS=10 PROFILE=prd ./docs/startup/startup-benchmark.sh jar cds
+#
+# 출력: 모드별 중앙값 / 최소 / 최대 (ms), HISTORY 파일에 한 줄씩 추가
+#   timestamp,commit,mode,runs,median_ms,min_ms,max_ms
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+RUNS="${RUNS:-5}"
+PROFILE="${PROFILE:-prd}"
+HISTORY="${HISTORY:-$ROOT/build/startup-history.csv}"
+JAVA="${JAVA:-java}"
+MODES=("$@")
+[ ${#MODES[@]} -eq 0 ] && MODES=(jar cds)
+
+COMMIT="$(git -C "$ROOT" rev-parse --short HEAD 2>/dev/null || echo unknown)"
+APP_ARGS=("--spring.profiles.active=$PROFILE" "--app.startup.exit-on-ready=true" "--app.startup.slowest-steps=0")
+
+# 모드별 실행 디렉터리 / JVM 옵션
+command_for() {
+  case "$1" in
+    jar)
+      JAR="$(ls "$ROOT"/build/libs/*.jar | grep -v -- '-plain.jar' | head -1)"
+      DIR="$ROOT"; JVM_ARGS=() ;;
+    cds)
+      JAR="$(ls "$ROOT"/build/cds/*.jar | head -1)"
+      DIR="$ROOT/build/cds"; JVM_ARGS=(-XX:SharedArchiveFile=application.jsa -Xshare:auto) ;;
+    aot-cds)
+      JAR="$(ls "$ROOT"/build/cds/*.jar | head -1)"
+      DIR="$ROOT/build/cds"; JVM_ARGS=(-XX:SharedArchiveFile=application.jsa -Xshare:auto -Dspring.aot.enabled=true) ;;
+    *)
+      echo "unknown mode: $1 (jar | cds | aot-cds)"; exit 1 ;;
+  esac
+}
+
+mkdir -p "$(dirname "$HISTORY")"
+[ -f "$HISTORY" ] || echo "timestamp,commit,mode,runs,median_ms,min_ms,max_ms" > "$HISTORY"
+
+for mode in "${MODES[@]}"; do
+  command_for "$mode"
+  times=()
+  for ((i = 1; i <= RUNS; i++)); do
+    log="$(cd "$DIR" && "$JAVA" "${JVM_ARGS[@]}" -jar "$JAR" "${APP_ARGS[@]}" 2>&1 || true)"
+    ms="$(echo "$log" | sed -nE 's/.*ready in ([0-9]+) ms.*/\1/p' | tail -1)"
+    if [ -z "$ms" ]; then
+      echo "$log" | tail -30
+      echo "[$mode] run $i: no 'ready in' line"; exit 1
+    fi
+    times+=("$ms")
+    echo "[$mode] run $i: ${ms} ms"
+  done
+
+  sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+  median="${sorted[$(( ${#sorted[@]} / 2 ))]}"
+  min="${sorted[0]}"
+  max="${sorted[${#sorted[@]}-1]}"
+  echo "[$mode] median ${median} ms (min ${min}, max ${max})"
+  echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$COMMIT,$mode,$RUNS,$median,$min,$max" >> "$HISTORY"
+done
+
+echo
+echo "history: $HISTORY"
+tail -n 10 "$HISTORY" | column -t -s,
@@ -0,0 +1,82 @@
+package com.boilerplate.springbootjava.benchmark;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.common.dto.PageResponseDto;
+import com.boilerplate.springbootjava.infrastructure.config.RedisConfig;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 사용자 목록 응답 JSON 직렬화 비교
+ * - reflection: Blackbird 없는 ObjectMapper, 요청마다 writeValue (기존 기본 경로)
+ * - blackbird: API ObjectMapper (Blackbird), 요청마다 writeValue
+ * - precompiled: API ObjectMapper로 미리 만든 ObjectWriter (PrecompiledJsonHttpMessageConverter 경로)
+ * - ./gradlew jmh -PjmhIncludes=JsonSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"reflection", "blackbird", "precompiled"})
+    public String mode;
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private ObjectMapper mapper;
+    private ObjectWriter writer;
+    private PageResponseDto<UserResponseDto> page;
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        ObjectMapper apiMapper = new RedisConfig().objectMapper();
+        mapper = switch (mode) {
+            case "reflection" -> new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .registerModule(new ParameterNamesModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            case "blackbird", "precompiled" -> apiMapper;
+            default -> throw new IllegalArgumentException(mode);
+        };
+        writer = apiMapper.writerFor(apiMapper.getTypeFactory()
+                .constructParametricType(PageResponseDto.class, UserResponseDto.class));
+        page = page(pageSize);
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        if ("precompiled".equals(mode)) {
+            writer.writeValue(out, page);
+        } else {
+            mapper.writeValue(out, page);
+        }
+    }
+
+    private static UserResponseDto user(long id) {
+        Instant now = Instant.now();
+        return new UserResponseDto(id, UserRole.USER, "user" + id + "@example.com", "User " + id,
+                "010-1234-5678", UserStatus.ACTIVE, now, now, 0L);
+    }
+
+    private static PageResponseDto<UserResponseDto> page(int size) {
+        List<UserResponseDto> content = LongStream.rangeClosed(1, size)
+                .mapToObj(JsonSerializationBenchmark::user)
+                .toList();
+        return PageResponseDto.of(content, 0, size, 10_000);
+    }
+}
@@ -0,0 +1,84 @@
+package com.boilerplate.springbootjava.benchmark;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.common.dto.PageResponseDto;
+import com.boilerplate.springbootjava.infrastructure.cache.CacheTypeRegistry;
+import com.boilerplate.springbootjava.infrastructure.cache.CompactRedisSerializer;
+import com.boilerplate.springbootjava.infrastructure.config.RedisConfig;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * users / userList 캐시 값 직렬화 비교 (GenericJackson2JsonRedisSerializer vs CompactRedisSerializer)
+ * - ./gradlew jmh -PjmhIncludes=RedisSerializerBenchmark
+ * - 직렬화 크기(bytes)는 setup 시 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisSerializerBenchmark {
+
+    @Param({"json", "smile", "smile-lz4"})
+    public String format;
+
+    // 0: 단건 (users), n: n건 페이지 (userList)
+    @Param({"0", "10", "100"})
+    public int pageSize;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper redisObjectMapper = new RedisConfig().redisObjectMapper();
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        CacheTypeRegistry registry = new CacheTypeRegistry()
+                .register(1, UserResponseDto.class)
+                .register(2, redisObjectMapper.getTypeFactory()
+                        .constructParametricType(PageResponseDto.class, UserResponseDto.class));
+
+        serializer = switch (format) {
+            case "json" -> json;
+            case "smile" -> new CompactRedisSerializer(CompactRedisSerializer.defaultSmileMapper(), registry, 0, 1 << 20, json);
+            case "smile-lz4" -> new CompactRedisSerializer(CompactRedisSerializer.defaultSmileMapper(), registry, 1024, 1 << 20, json);
+            default -> throw new IllegalArgumentException(format);
+        };
+
+        value = pageSize == 0 ? user(1) : page(pageSize);
+        bytes = serializer.serialize(value);
+        System.out.printf("%n[bytes] format=%s pageSize=%d size=%d%n", format, pageSize, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+
+    private static UserResponseDto user(long id) {
+        Instant now = Instant.now();
+        return new UserResponseDto(id, UserRole.USER, "user" + id + "@example.com", "User " + id,
+                "010-1234-5678", UserStatus.ACTIVE, now, now, 0L);
+    }
+
+    private static PageResponseDto<UserResponseDto> page(int size) {
+        List<UserResponseDto> content = LongStream.rangeClosed(1, size)
+                .mapToObj(RedisSerializerBenchmark::user)
+                .toList();
+        return PageResponseDto.of(content, 0, size, 10_000);
+    }
+}
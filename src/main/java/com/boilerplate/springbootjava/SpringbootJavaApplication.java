@@ -2,14 +2,25 @@ package com.boilerplate.springbootjava;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing
+@EnableAsync
+@EnableScheduling
 @SpringBootApplication
 public class SpringbootJavaApplication {
 
+    // 기동 단계 기록 최대 수 (초과분은 버림)
+    private static final int STARTUP_STEPS_CAPACITY = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(SpringbootJavaApplication.class, args);
+        SpringApplication application = new SpringApplication(SpringbootJavaApplication.class);
+        // 기동 단계별 소요 시간 기록 (GET /actuator/startup)
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
 
 }
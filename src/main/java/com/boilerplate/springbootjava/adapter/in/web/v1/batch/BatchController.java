@@ -0,0 +1,103 @@
+package com.boilerplate.springbootjava.adapter.in.web.v1.batch;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.batch.dto.BatchRequestDto;
+import com.boilerplate.springbootjava.adapter.in.web.v1.batch.dto.BatchResponseDto;
+import com.boilerplate.springbootjava.infrastructure.batch.BatchDispatcher;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/api/v1/batch")
+public class BatchController {
+
+    private final BatchDispatcher batchDispatcher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 묶음 요청
+     * POST /api/v1/batch
+     * - 하위 요청을 병렬 실행 (인증은 batch 요청 것을 공유, 권한 / 속도 제한은 하위 요청마다 확인)
+     * - 하위 요청 결과와 관계없이 200, 결과는 요청 순서대로 responses[].status / headers / body
+     */
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<BatchResponseDto> batch(@Valid @RequestBody BatchRequestDto request,
+                                                  HttpServletRequest servletRequest,
+                                                  HttpServletResponse servletResponse) {
+        List<BatchDispatcher.SubRequest> subRequests = request.requests().stream()
+                .map(item -> new BatchDispatcher.SubRequest(
+                        item.method(),
+                        item.path(),
+                        item.headers(),
+                        item.body() != null && !item.body().isNull()
+                                ? item.body().toString().getBytes(StandardCharsets.UTF_8)
+                                : null))
+                .toList();
+
+        List<BatchDispatcher.SubResponse> subResponses =
+                batchDispatcher.dispatch(servletRequest, servletResponse, subRequests);
+
+        List<BatchResponseDto.Item> items = new ArrayList<>(subResponses.size());
+        for (int i = 0; i < subResponses.size(); i++) {
+            String id = request.requests().get(i).id();
+            items.add(toItem(id != null ? id : Integer.toString(i), subResponses.get(i)));
+        }
+        return ResponseEntity.ok(new BatchResponseDto(items));
+    }
+
+    private BatchResponseDto.Item toItem(String id, BatchDispatcher.SubResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        response.headers().forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                headers.put(name, String.join(", ", values));
+            }
+        });
+        return new BatchResponseDto.Item(id, response.status(), headers, body(response));
+    }
+
+    /**
+     * JSON 응답은 그대로 포함, 그 외는 문자열
+     */
+    private JsonNode body(BatchDispatcher.SubResponse response) {
+        if (response.body().length == 0) {
+            return null;
+        }
+
+        MediaType contentType = response.headers().getContentType();
+        if (contentType == null || contentType.isCompatibleWith(MediaType.APPLICATION_JSON)
+                || contentType.getSubtype().endsWith("+json")) {
+            try {
+                return objectMapper.readTree(response.body());
+            } catch (IOException e) {
+                // JSON이 아니면 문자열로
+            }
+        }
+        Charset charset = contentType != null && contentType.getCharset() != null
+                ? contentType.getCharset()
+                : StandardCharsets.UTF_8;
+        return TextNode.valueOf(new String(response.body(), charset));
+    }
+}
@@ -0,0 +1,35 @@
+package com.boilerplate.springbootjava.adapter.in.web.v1.batch.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.Map;
+
+public record BatchRequestDto(
+        @NotEmpty(message = "하위 요청은 1개 이상이어야 합니다")
+        List<@Valid Item> requests
+) {
+    /**
+     * 하위 요청
+     * - id: 응답에 그대로 돌려줌 (없으면 순서 번호)
+     * - path: query string 포함 (예: /api/v1/users?page=0&size=10)
+     * - headers: 하위 요청 헤더 (batch 요청의 헤더는 상속하지 않음, 인증은 batch 요청 것을 공유)
+     */
+    public record Item(
+            String id,
+
+            @NotBlank(message = "method는 필수입니다")
+            String method,
+
+            @NotBlank(message = "path는 필수입니다")
+            String path,
+
+            Map<String, String> headers,
+
+            JsonNode body
+    ) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.boilerplate.springbootjava.adapter.in.web.v1.batch.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+import java.util.Map;
+
+public record BatchResponseDto(
+        List<Item> responses
+) {
+    /**
+     * 하위 응답 (요청 순서와 같음)
+     * - body: JSON 응답은 그대로, 그 외는 문자열
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public record Item(
+            String id,
+            int status,
+            Map<String, String> headers,
+            JsonNode body
+    ) {
+    }
+}
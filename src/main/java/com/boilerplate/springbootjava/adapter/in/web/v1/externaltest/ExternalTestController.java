@@ -5,6 +5,7 @@ import com.boilerplate.springbootjava.adapter.in.web.v1.externaltest.dto.Externa
 import com.boilerplate.springbootjava.adapter.in.web.v1.externaltest.dto.ExternalItemUpdateRequestDto;
 import com.boilerplate.springbootjava.application.externaltest.port.in.ExternalTestUseCase;
 import com.boilerplate.springbootjava.common.dto.PageResponseDto;
+import com.boilerplate.springbootjava.infrastructure.external.async.ExternalCallExecutor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -14,20 +15,28 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 외부 API를 호출하는 엔드포인트 - 모두 비동기 (CompletableFuture)
+ * - 외부 호출은 ExternalCallExecutor(virtual thread)에서 실행, 기다리는 동안 요청 스레드는 반환
+ */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(path = "/api/v1/test/external")
 public class ExternalTestController {
 
     private final ExternalTestUseCase externalTestUseCase;
+    private final ExternalCallExecutor externalCallExecutor;
 
     /**
      * POST /api/v1/test/external
      */
     @PostMapping
-    public ResponseEntity<ExternalItemResponseDto> createExternalItem(@Valid @RequestBody ExternalItemCreateRequestDto request) {
-        ExternalItemResponseDto response = externalTestUseCase.createExternalItem(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public CompletableFuture<ResponseEntity<ExternalItemResponseDto>> createExternalItem(
+            @Valid @RequestBody ExternalItemCreateRequestDto request) {
+        return externalCallExecutor.supply(() -> externalTestUseCase.createExternalItem(request))
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
     /**
@@ -35,9 +44,9 @@ public class ExternalTestController {
      * GET /api/v1/test/external/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ExternalItemResponseDto> getExternalItem(@PathVariable Long id) {
-        ExternalItemResponseDto response = externalTestUseCase.getExternalItem(id);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<ExternalItemResponseDto>> getExternalItem(@PathVariable Long id) {
+        return externalCallExecutor.supply(() -> externalTestUseCase.getExternalItem(id))
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -45,10 +54,10 @@ public class ExternalTestController {
      * GET /api/v1/test/external?page=0&size=10&sort=createdAt,desc
      */
     @GetMapping
-    public ResponseEntity<PageResponseDto<ExternalItemResponseDto>> getAllExternalItems(
+    public CompletableFuture<ResponseEntity<PageResponseDto<ExternalItemResponseDto>>> getAllExternalItems(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        PageResponseDto<ExternalItemResponseDto> response = externalTestUseCase.getAllExternalItems(pageable);
-        return ResponseEntity.ok(response);
+        return externalCallExecutor.supply(() -> externalTestUseCase.getAllExternalItems(pageable))
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -56,11 +65,11 @@ public class ExternalTestController {
      * PUT /api/v1/test/external/{id}
      */
     @PutMapping("/{id}")
-    public ResponseEntity<ExternalItemResponseDto> updateExternalItem(
+    public CompletableFuture<ResponseEntity<ExternalItemResponseDto>> updateExternalItem(
             @PathVariable Long id,
             @Valid @RequestBody ExternalItemUpdateRequestDto request) {
-        ExternalItemResponseDto response = externalTestUseCase.updateExternalItem(id, request);
-        return ResponseEntity.ok(response);
+        return externalCallExecutor.supply(() -> externalTestUseCase.updateExternalItem(id, request))
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -68,9 +77,9 @@ public class ExternalTestController {
      * DELETE /api/v1/test/external/{id}
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteExternalItem(@PathVariable Long id) {
-        externalTestUseCase.deleteExternalItem(id);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteExternalItem(@PathVariable Long id) {
+        return externalCallExecutor.run(() -> externalTestUseCase.deleteExternalItem(id))
+                .thenApply(ignored -> ResponseEntity.noContent().build());
     }
 
-}
\ No newline at end of file
+}
@@ -1,26 +1,45 @@
 package com.boilerplate.springbootjava.adapter.in.web.v1.user;
 
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserChangesResponseDto;
 import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserCreateRequestDto;
 import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
 import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserUpdateRequestDto;
+import com.boilerplate.springbootjava.application.user.port.in.UserSyncUseCase;
 import com.boilerplate.springbootjava.application.user.port.in.UserUseCase;
 import com.boilerplate.springbootjava.common.dto.PageResponseDto;
+import com.boilerplate.springbootjava.infrastructure.cache.ResponseBodyCache;
+import com.boilerplate.springbootjava.infrastructure.cache.UserCacheVersions;
+import com.boilerplate.springbootjava.infrastructure.cache.UserListGeneration;
+import com.boilerplate.springbootjava.infrastructure.cache.UserResponseBodyCache;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(path = "/api/v1/users")
 public class UserController {
 
+    private static final String RELEASE_BODY_CALLBACK = UserController.class.getName() + ".releaseBody";
+
     private final UserUseCase userUseCase;
+    private final UserSyncUseCase userSyncUseCase;
+    private final UserListGeneration userListGeneration;
+    private final UserResponseBodyCache userResponseBodyCache;
+    private final UserCacheVersions userCacheVersions;
 
     /**
      * 사용자 생성
@@ -32,30 +51,68 @@ public class UserController {
     )
     public ResponseEntity<UserResponseDto> createUser(@Valid @RequestBody UserCreateRequestDto request) {
         UserResponseDto response = userUseCase.createUser(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(UserETags.of(response))
+                .body(response);
     }
 
     /**
      * 사용자 조회 (단건)
      * GET /api/users/{id}
+     * - If-None-Match가 현재 ETag와 같으면 304 (캐시 조회만 수행, 본문 직렬화 없음)
+     * - 응답 JSON 캐시 히트 시 users 캐시 / Jackson을 거치지 않고 저장된 본문을 복사 없이 그대로 응답 (ResponseBodyHttpMessageConverter)
+     * - 응답 JSON 캐시 미스 + If-None-Match: users hash 캐시에서 version / updatedAt만 읽어 일치하면 304
+     * - ETag는 요청당 하나 (304로 끝나는 hash 캐시 ETag 또는 응답 본문의 ETag) - checkNotModified는 한 번만 호출
      */
     @GetMapping(value = "/{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<UserResponseDto> getUser(@PathVariable Long id) {
-        UserResponseDto response = userUseCase.getUser(id);
-        return ResponseEntity.ok(response);
+    @ApiResponse(responseCode = "200",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = UserResponseDto.class)))
+    public ResponseEntity<ResponseBodyCache.Body> getUser(@PathVariable Long id, WebRequest webRequest) {
+        ResponseBodyCache.Body body = userResponseBodyCache.get(id);
+        if (body != null) {
+            // 본문 기록 전에 끝나는 경우(304 / 예외 / 연결 끊김)에도 요청 종료 시 slot pin 해제 (중복 해제는 무시)
+            RequestContextHolder.currentRequestAttributes().registerDestructionCallback(
+                    RELEASE_BODY_CALLBACK, body::release, RequestAttributes.SCOPE_REQUEST);
+        } else {
+            String[] ifNoneMatch = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+            UserCacheVersions.Version cached = ifNoneMatch != null ? userCacheVersions.find(id) : null;
+            if (cached != null) {
+                String eTag = UserETags.of(id, cached.version(), cached.updatedAt());
+                if (UserETags.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+                    webRequest.checkNotModified(eTag);
+                    return null;
+                }
+            }
+
+            long loadToken = userResponseBodyCache.beginLoad(id);
+            UserResponseDto response = userUseCase.getUser(id);
+            body = userResponseBodyCache.put(id, loadToken, UserETags.of(response), response);
+        }
+
+        // 304 처리 + ETag 헤더 설정
+        if (webRequest.checkNotModified(body.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     /**
      * 모든 사용자 조회 (페이징)
      * GET /api/users?page=0&size=10&sort=createdAt,desc
+     * - ETag는 목록 세대로 계산하므로, If-None-Match가 같으면 목록을 조회하지 않고 304
+     * - 본문은 PrecompiledJsonHttpMessageConverter가 미리 만든 ObjectWriter로 응답 스트림에 바로 기록 (WebMvcConfig)
      */
     @GetMapping(
             produces = MediaType.APPLICATION_JSON_VALUE
     )
     public ResponseEntity<PageResponseDto<UserResponseDto>> getAllUsers(
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
         /*
         Pageable은 JSR-380(Bean Validation) 대상 객체가 아니므로, @Valid 를 사용 불가함. 아래와 같은 방식으로 추후 validation 필요.
 
@@ -74,13 +131,37 @@ public class UserController {
         }
          */
 
+        // 목록 조회 전에 세대를 읽음 (조회 도중 변경되어도 ETag가 본문보다 오래된 쪽이 되어 다음 요청에서 갱신됨)
+        long generation = userListGeneration.current();
+        if (generation >= 0 && webRequest.checkNotModified(UserETags.ofList(generation))) {
+            return null;
+        }
+
         PageResponseDto<UserResponseDto> response = userUseCase.getAllUsers(pageable);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 사용자 변경분 조회 (미러링용)
+     * GET /api/users/changes?since={nextToken}&limit=500
+     * - since 없이 호출하면 최초 동기화 (전체 사용자)
+     * - hasMore가 false가 될 때까지 nextToken으로 반복 호출
+     * - 410: 토큰이 삭제 기록 보관 기간을 지남 (전체 재동기화 필요)
+     */
+    @GetMapping(value = "/changes",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<UserChangesResponseDto> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        UserChangesResponseDto response = userSyncUseCase.getChanges(since, limit);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 사용자 수정
      * PUT /api/users/{id}
+     * - If-Match: 조회 시 받은 ETag와 현재 버전이 다르면 412 (lost update 방지)
      */
     @PutMapping(value = "/{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -88,9 +169,13 @@ public class UserController {
     )
     public ResponseEntity<UserResponseDto> updateUser(
             @PathVariable Long id,
-            @Valid @RequestBody UserUpdateRequestDto request) {
-        UserResponseDto response = userUseCase.updateUser(id, request);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody UserUpdateRequestDto request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = UserETags.expectedVersion(id, ifMatch);
+        UserResponseDto response = userUseCase.updateUser(id, request, expectedVersion);
+        return ResponseEntity.ok()
+                .eTag(UserETags.of(response))
+                .body(response);
     }
 
     /**
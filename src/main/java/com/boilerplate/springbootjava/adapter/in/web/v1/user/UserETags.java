@@ -0,0 +1,86 @@
+package com.boilerplate.springbootjava.adapter.in.web.v1.user;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.common.exception.CustomException;
+import com.boilerplate.springbootjava.common.exception.errorcode.UserErrorCode;
+import org.springframework.http.ETag;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+
+/**
+ * 사용자 리소스 ETag
+ * - 응답 본문을 직렬화하지 않고 식별 정보만으로 계산 (strong ETag)
+ * - 단건: "{id}-{version}-{updatedAt(ms, 16진수)}"
+ * - 목록: "list-{세대}" (ETag는 URL 단위이므로 페이지 정보는 포함하지 않음)
+ */
+final class UserETags {
+
+    private UserETags() {
+    }
+
+    static String of(UserResponseDto user) {
+        return of(user.id(), user.version(), user.updatedAt());
+    }
+
+    static String of(Long id, long version, @Nullable Instant updatedAt) {
+        long updatedAtMillis = updatedAt != null ? updatedAt.toEpochMilli() : 0L;
+        return "\"" + id + "-" + version + "-" + Long.toHexString(updatedAtMillis) + "\"";
+    }
+
+    static String ofList(long generation) {
+        return "\"list-" + generation + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더 값 중 eTag와 일치하는 것이 있는지 (weak 비교, "*" 포함)
+     * - 응답 헤더를 건드리지 않고 확인만 (304로 끝낼 때만 checkNotModified 호출)
+     */
+    static boolean matchesIfNoneMatch(@Nullable String[] ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ETag current = ETag.create(eTag);
+        for (String value : ifNoneMatch) {
+            for (ETag candidate : ETag.parse(value)) {
+                if (candidate.isWildcard() || candidate.compare(current, false)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match 헤더에서 기대 버전 추출
+     *
+     * @return 조건 없음("*" 또는 헤더 없음)이면 null
+     * @throws CustomException 이 사용자의 strong ETag가 하나도 없는 경우 (412)
+     */
+    @Nullable
+    static Long expectedVersion(Long id, @Nullable String ifMatch) {
+        if (!StringUtils.hasText(ifMatch) || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+
+        String prefix = "\"" + id + "-";
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-Match는 strong 비교만 허용 (weak ETag 무시)
+            if (!tag.startsWith(prefix) || !tag.endsWith("\"")) {
+                continue;
+            }
+            String[] parts = tag.substring(prefix.length(), tag.length() - 1).split("-");
+            if (parts.length == 2) {
+                try {
+                    return Long.parseLong(parts[0]);
+                } catch (NumberFormatException ignored) {
+                    // 다음 후보 확인
+                }
+            }
+        }
+        throw new CustomException(UserErrorCode.USER_PRECONDITION_FAILED,
+                "If-Match 조건이 현재 사용자와 일치하지 않습니다: " + id);
+    }
+}
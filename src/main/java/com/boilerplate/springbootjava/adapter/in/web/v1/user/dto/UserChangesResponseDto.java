@@ -0,0 +1,19 @@
+package com.boilerplate.springbootjava.adapter.in.web.v1.user.dto;
+
+import java.util.List;
+
+/**
+ * 사용자 변경분
+ *
+ * @param changed   생성/수정된 사용자 (updatedAt, id 오름차순)
+ * @param deleted   삭제된 사용자 id
+ * @param nextToken 다음 요청의 since 값
+ * @param hasMore   true이면 바로 다음 요청 필요 (false이면 주기적으로 요청)
+ */
+public record UserChangesResponseDto(
+        List<UserResponseDto> changed,
+        List<Long> deleted,
+        String nextToken,
+        boolean hasMore
+) {
+}
@@ -1,9 +1,11 @@
 package com.boilerplate.springbootjava.adapter.in.web.v1.user.dto;
 
+import com.boilerplate.springbootjava.infrastructure.json.UtcMillisInstantSerializer;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserEntity;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Builder;
 
 import java.time.Instant;
@@ -16,10 +18,13 @@ public record UserResponseDto(
         String name,
         String phoneNumber,
         UserStatus status,
-        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = UtcMillisInstantSerializer.PATTERN, timezone = "UTC")
+        @JsonSerialize(using = UtcMillisInstantSerializer.class)
         Instant createdAt,
-        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
-        Instant updatedAt
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = UtcMillisInstantSerializer.PATTERN, timezone = "UTC")
+        @JsonSerialize(using = UtcMillisInstantSerializer.class)
+        Instant updatedAt,
+        long version
 ) {
 
     public static UserResponseDto from(UserEntity entity) {
@@ -31,7 +36,8 @@ public record UserResponseDto(
                 entity.getPhoneNumber(),
                 entity.getStatus(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 }
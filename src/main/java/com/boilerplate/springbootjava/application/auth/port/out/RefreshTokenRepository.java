@@ -1,11 +1,27 @@
 package com.boilerplate.springbootjava.application.auth.port.out;
 
 import com.boilerplate.springbootjava.infrastructure.persistence.auth.RefreshTokenEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    /**
+     * 최근 토큰을 발급받은 사용자 id (최근 순)
+     */
+    @Query("""
+            select r.userId from RefreshTokenEntity r
+            where r.createdAt >= :since
+            group by r.userId
+            order by max(r.createdAt) desc
+            """)
+    List<Long> findRecentlyActiveUserIds(@Param("since") Instant since, Limit limit);
 }
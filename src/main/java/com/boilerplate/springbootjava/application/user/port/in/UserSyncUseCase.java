@@ -0,0 +1,8 @@
+package com.boilerplate.springbootjava.application.user.port.in;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserChangesResponseDto;
+
+public interface UserSyncUseCase {
+
+    UserChangesResponseDto getChanges(String since, int limit);
+}
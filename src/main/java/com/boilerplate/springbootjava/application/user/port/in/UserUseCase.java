@@ -16,5 +16,7 @@ public interface UserUseCase {
 
     UserResponseDto updateUser(Long id, UserUpdateRequestDto request);
 
+    UserResponseDto updateUser(Long id, UserUpdateRequestDto request, Long expectedVersion);
+
     void deleteUser(Long id);
 }
@@ -1,9 +1,14 @@
 package com.boilerplate.springbootjava.application.user.port.out;
 
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +16,24 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByEmail(String email);
 
     Optional<UserEntity> findByEmail(String email);
+
+    @Query("select u.id from UserEntity u")
+    List<Long> findAllIds();
+
+    @Query("select max(u.id) from UserEntity u")
+    Optional<Long> findMaxId();
+
+    /**
+     * (updatedAt, id) 기준 keyset 조회 (idx_users_updated_at_id)
+     */
+    @Query("""
+            select u from UserEntity u
+            where (u.updatedAt > :after or (u.updatedAt = :after and u.id > :afterId))
+              and u.updatedAt <= :until
+            order by u.updatedAt asc, u.id asc
+            """)
+    List<UserEntity> findChangedSince(@Param("after") Instant after,
+                                      @Param("afterId") long afterId,
+                                      @Param("until") Instant until,
+                                      Limit limit);
 }
@@ -0,0 +1,34 @@
+package com.boilerplate.springbootjava.application.user.port.out;
+
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserTombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface UserTombstoneRepository extends JpaRepository<UserTombstoneEntity, Long> {
+
+    /**
+     * (deletedAt, userId) 기준 keyset 조회
+     */
+    @Query("""
+            select t from UserTombstoneEntity t
+            where (t.deletedAt > :after or (t.deletedAt = :after and t.userId > :afterId))
+              and t.deletedAt <= :until
+            order by t.deletedAt asc, t.userId asc
+            """)
+    List<UserTombstoneEntity> findDeletedSince(@Param("after") Instant after,
+                                               @Param("afterId") long afterId,
+                                               @Param("until") Instant until,
+                                               Limit limit);
+
+    @Modifying
+    @Query("delete from UserTombstoneEntity t where t.deletedAt < :before")
+    int deleteAllDeletedBefore(@Param("before") Instant before);
+}
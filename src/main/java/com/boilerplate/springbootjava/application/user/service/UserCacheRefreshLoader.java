@@ -0,0 +1,23 @@
+package com.boilerplate.springbootjava.application.user.service;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.application.user.port.out.UserRepository;
+import com.boilerplate.springbootjava.infrastructure.cache.CacheRefreshLoaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * users 캐시 조기 갱신(XFetch / hot key refresh-ahead) loader 등록
+ * - UserService.getUser를 다시 호출하지 않고 DB에서 바로 조회 (캐시 / 인터셉터 / 미존재 처리 없음)
+ * - 사라진 사용자는 null - 갱신하지 않고 그대로 만료
+ */
+@Component
+public class UserCacheRefreshLoader {
+
+    private static final String USERS_CACHE = "users";
+
+    public UserCacheRefreshLoader(CacheRefreshLoaders refreshLoaders, UserRepository userRepository) {
+        refreshLoaders.register(USERS_CACHE, key -> userRepository.findById((Long) key)
+                .map(UserResponseDto::from)
+                .orElse(null));
+    }
+}
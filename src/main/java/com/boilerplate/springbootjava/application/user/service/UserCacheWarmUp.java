@@ -0,0 +1,194 @@
+package com.boilerplate.springbootjava.application.user.service;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.application.auth.port.out.RefreshTokenRepository;
+import com.boilerplate.springbootjava.application.user.port.in.UserUseCase;
+import com.boilerplate.springbootjava.application.user.port.out.UserRepository;
+import com.boilerplate.springbootjava.common.dto.PageResponseDto;
+import com.boilerplate.springbootjava.infrastructure.cache.CacheCircuitBreakers;
+import com.boilerplate.springbootjava.infrastructure.cache.RedisCacheKeys;
+import com.boilerplate.springbootjava.infrastructure.cache.RedisHashCache;
+import com.boilerplate.springbootjava.infrastructure.cache.RedisShards;
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 기동 시 users / userList 캐시 warm-up
+ * - ApplicationRunner: 완료(또는 제한 시간 초과) 후 readiness가 ACCEPTING_TRAFFIC으로 전환됨
+ * - users: 최근 활동 사용자 id를 묶음으로 DB 조회 후 Redis에 파이프라인 기록 (이미 있는 값은 유지)
+ *   저장 형식(value / hash)은 app.cache.caches.users.storage를 따름, 샤딩 시 노드별 파이프라인
+ * - userList: 기본 정렬(UserController @PageableDefault)의 앞쪽 페이지를 캐시 경로로 조회
+ * - 실패해도 기동은 계속 진행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheWarmUp implements ApplicationRunner {
+
+    private static final String USERS_CACHE = "users";
+    // UserController 목록 조회 기본값과 같아야 캐시 키가 일치함
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserUseCase userUseCase;
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheCircuitBreakers circuitBreakers;
+    private final RedisHashCache<UserResponseDto> userHashCache;
+    private final ObjectProvider<RedisShards> redisShards;
+    private final AppCacheProperties appCacheProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AppCacheProperties.WarmUp settings = appCacheProperties.getWarmUp();
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        long deadline = started + settings.getTimeBudget().toNanos();
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-warmup-");
+        threadFactory.setDaemon(true);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, settings.getParallelism()), threadFactory);
+
+        int users = 0;
+        int pages = 0;
+        try {
+            Future<Integer> listTask = executor.submit(() -> warmUpListPages(settings.getListPages(), deadline));
+
+            List<Long> ids = refreshTokenRepository.findRecentlyActiveUserIds(
+                    Instant.now().minus(settings.getActiveWithin()), Limit.of(settings.getMaxUsers()));
+            List<Future<Integer>> userTasks = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += settings.getBatchSize()) {
+                List<Long> batch = ids.subList(from, Math.min(from + settings.getBatchSize(), ids.size()));
+                userTasks.add(executor.submit(() -> warmUpUsers(batch, deadline)));
+            }
+
+            for (Future<Integer> task : userTasks) {
+                users += await(task, deadline);
+            }
+            pages = await(listTask, deadline);
+        } catch (TimeoutException e) {
+            log.warn("UserCacheWarmUp - time budget {} exceeded, continuing startup", settings.getTimeBudget());
+        } catch (Exception e) {
+            log.warn("UserCacheWarmUp - failed, continuing startup", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("UserCacheWarmUp - {} users, {} list pages in {} ms",
+                users, pages, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * @return Redis에 기록 요청한 사용자 수
+     */
+    int warmUpUsers(List<Long> ids, long deadline) {
+        RedisCacheConfiguration config = redisCacheManager.getCacheConfigurations().get(USERS_CACHE);
+        if (config == null || System.nanoTime() > deadline || !circuitBreakers.isRedisAvailable(USERS_CACHE)) {
+            return 0;
+        }
+
+        List<UserResponseDto> users = userRepository.findAllById(ids).stream()
+                .map(UserResponseDto::from)
+                .toList();
+        if (users.isEmpty() || System.nanoTime() > deadline) {
+            return 0;
+        }
+
+        if (appCacheProperties.spec(USERS_CACHE).getStorage() == AppCacheProperties.CacheSpec.Storage.HASH) {
+            Map<Long, UserResponseDto> byId = new LinkedHashMap<>();
+            users.forEach(user -> byId.put(user.id(), user));
+            userHashCache.putAllIfAbsent(byId);
+            return users.size();
+        }
+
+        RedisShards shards = redisShards.getIfAvailable();
+        Map<StringRedisTemplate, List<UserResponseDto>> byNode = shards != null && shards.isSharded(USERS_CACHE)
+                ? partition(shards, config, users)
+                : Map.of(stringRedisTemplate, users);
+
+        byNode.forEach((template, part) -> template.executePipelined((RedisCallback<Object>) connection -> {
+            for (UserResponseDto user : part) {
+                byte[] key = ByteUtils.getBytes(config.getKeySerializationPair()
+                        .write(RedisCacheKeys.of(USERS_CACHE, config, user.id())));
+                byte[] value = ByteUtils.getBytes(config.getValueSerializationPair().write(user));
+                connection.stringCommands().set(key, value, expiration(config, user),
+                        RedisStringCommands.SetOption.ifAbsent());
+            }
+            return null;
+        }));
+        return users.size();
+    }
+
+    /**
+     * @return 조회한 페이지 수
+     */
+    int warmUpListPages(int pageCount, long deadline) {
+        int warmed = 0;
+        for (int page = 0; page < pageCount && System.nanoTime() < deadline; page++) {
+            PageResponseDto<UserResponseDto> result =
+                    userUseCase.getAllUsers(PageRequest.of(page, DEFAULT_PAGE_SIZE, DEFAULT_SORT));
+            warmed++;
+            if (!result.hasNext()) {
+                break;
+            }
+        }
+        return warmed;
+    }
+
+    private static Map<StringRedisTemplate, List<UserResponseDto>> partition(RedisShards shards,
+                                                                            RedisCacheConfiguration config,
+                                                                            List<UserResponseDto> users) {
+        Map<StringRedisTemplate, List<UserResponseDto>> byNode = new LinkedHashMap<>();
+        shards.partition(users, user -> RedisCacheKeys.of(USERS_CACHE, config, user.id()))
+                .forEach((shard, part) -> byNode.put(shard.template(), part));
+        return byNode;
+    }
+
+    private static Expiration expiration(RedisCacheConfiguration config, UserResponseDto user) {
+        Duration ttl = config.getTtlFunction().getTimeToLive(user.id(), user);
+        return ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl);
+    }
+
+    private static int await(Future<Integer> task, long deadline)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0 && !task.isDone()) {
+            throw new TimeoutException();
+        }
+        return task.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+    }
+}
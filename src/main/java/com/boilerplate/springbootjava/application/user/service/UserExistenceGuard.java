@@ -0,0 +1,64 @@
+package com.boilerplate.springbootjava.application.user.service;
+
+import com.boilerplate.springbootjava.infrastructure.cache.UserIdBloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 존재하지 않는 사용자 id 조회 방어
+ * - 1차: Bloom filter (메모리, 확실히 없는 id)
+ * - 2차: 미존재 결과 캐시 (userNotFound, 짧은 TTL)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserExistenceGuard {
+
+    public static final String NOT_FOUND_CACHE = "userNotFound";
+
+    private final UserIdBloomFilter userIdBloomFilter;
+    private final CacheManager cacheManager;
+
+    /**
+     * DB 조회 없이 미존재로 판단 가능한지
+     */
+    public boolean isKnownAbsent(Long id) {
+        if (!userIdBloomFilter.mightContain(id)) {
+            return true;
+        }
+
+        try {
+            Cache cache = cacheManager.getCache(NOT_FOUND_CACHE);
+            return cache != null && cache.get(id) != null;
+        } catch (Exception e) {
+            // 캐시 장애 시 DB 조회로 진행
+            log.warn("UserExistenceGuard - lookup failed: {}", id, e);
+            return false;
+        }
+    }
+
+    /**
+     * 미존재 결과 기록
+     * - 조회 트랜잭션은 예외로 롤백되므로 커밋 이후가 아닌 즉시 반영되는 putIfAbsent 사용
+     */
+    public void recordAbsent(Long id) {
+        try {
+            Cache cache = cacheManager.getCache(NOT_FOUND_CACHE);
+            if (cache != null) {
+                cache.putIfAbsent(id, Boolean.TRUE);
+            }
+        } catch (Exception e) {
+            log.warn("UserExistenceGuard - record failed: {}", id, e);
+        }
+    }
+
+    /**
+     * 생성된 id 반영 (미존재 캐시 삭제는 UserService의 @CacheEvict에서 커밋 이후 처리)
+     */
+    public void recordCreated(Long id) {
+        userIdBloomFilter.put(id);
+    }
+}
@@ -5,38 +5,54 @@ import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto
 import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserUpdateRequestDto;
 import com.boilerplate.springbootjava.application.user.port.in.UserUseCase;
 import com.boilerplate.springbootjava.application.user.port.out.UserRepository;
+import com.boilerplate.springbootjava.application.user.port.out.UserTombstoneRepository;
 import com.boilerplate.springbootjava.common.dto.PageResponseDto;
 import com.boilerplate.springbootjava.common.exception.CustomException;
 import com.boilerplate.springbootjava.common.exception.errorcode.UserErrorCode;
+import com.boilerplate.springbootjava.infrastructure.cache.PatchableCache;
+import com.boilerplate.springbootjava.infrastructure.cache.UserListGeneration;
+import com.boilerplate.springbootjava.infrastructure.coalescing.CoalesceRequests;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserEntity;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserTombstoneEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService implements UserUseCase {
     private final UserRepository userRepository;
+    private final UserTombstoneRepository userTombstoneRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserExistenceGuard userExistenceGuard;
+    private final UserListGeneration userListGeneration;
+    private final CacheManager cacheManager;
 
     /**
      * 사용자 생성
-     * 목록에 대한 캐시 삭제
+     * 목록에 대한 캐시 삭제 + 미존재 캐시 삭제
      */
     @Transactional
-    @CacheEvict(value = "userList", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "userList", allEntries = true),
+            @CacheEvict(value = UserExistenceGuard.NOT_FOUND_CACHE, key = "#result.id")
+    })
     public UserResponseDto createUser(UserCreateRequestDto request) {
         // 이메일 중복 체크
         if (userRepository.existsByEmail(request.email())) {
@@ -54,15 +70,26 @@ public class UserService implements UserUseCase {
                 .build();
 
         UserEntity savedUser = userRepository.save(user);
+        userExistenceGuard.recordCreated(savedUser.getId());
+        userListGeneration.bumpAfterCommit();
         return UserResponseDto.from(savedUser);
     }
 
     /**
      * 사용자 조회 (단건)
      * 캐시에 저장
+     * - sync = true: 캐시 미스 시 키 단위 single-flight 적재 (StampedeProtectedCache)
+     * - 미존재 시 예외를 던지므로 null은 캐싱되지 않음 (미존재 결과는 userNotFound에 짧게 캐싱)
+     * - condition: Bloom filter 상 없는 id는 캐시(락 포함)를 거치지 않고 바로 거절
+     * - @CoalesceRequests는 붙이지 않음 (동시 미스는 StampedeProtectedCache가 이미 키 단위로 합침)
      */
-    @Cacheable(value = "users", key = "#id", unless = "#result == null")
+    @Cacheable(value = "users", key = "#id", sync = true, condition = "@userIdBloomFilter.mightContain(#id)")
     public UserResponseDto getUser(Long id) {
+        // 확실히 없거나 최근 미존재로 확인된 id는 DB 조회 없이 거절
+        if (userExistenceGuard.isKnownAbsent(id)) {
+            throw new CustomException(UserErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + id);
+        }
+
         log.info("getUser: {} (Cache Miss)", id);
 
         // Cache test
@@ -73,16 +100,22 @@ public class UserService implements UserUseCase {
 //        }
 
         UserEntity user = userRepository.findById(id)
-                .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + id));
+                .orElseThrow(() -> {
+                    userExistenceGuard.recordAbsent(id);
+                    return new CustomException(UserErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + id);
+                });
         return UserResponseDto.from(user);
     }
 
     /**
      * 모든 사용자 조회 (페이징)
      * 리스트 조회 캐싱
+     * - 키에 목록 세대를 포함하여, 변경 이후에는 이전 세대의 페이지(다른 노드의 L1 포함)를 조회하지 않음
+     * - @CoalesceRequests: 같은 페이지 동시 요청은 한 번만 조회 (userList는 sync 적재가 아니므로 캐시 미스 / 5페이지 이후 모두)
      */
+    @CoalesceRequests
     @Cacheable(value = "userList",
-            key = "#pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort",
+            key = "@userListGeneration.current() + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort",
             condition = "#pageable.pageNumber < 5" // First 5 pages
     )
     public PageResponseDto<UserResponseDto> getAllUsers(Pageable pageable) {
@@ -97,17 +130,36 @@ public class UserService implements UserUseCase {
 
     /**
      * 사용자 정보 수정
-     * 캐시 갱신 + 리스트 캐시 무효화
+     * 캐시 갱신 (변경 필드만) + 리스트 캐시 무효화
      */
     @Transactional
-    @Caching(
-            put = @CachePut(value = "users", key = "#id"),
-            evict = @CacheEvict(value = "userList", allEntries = true)
-    )
+    @CacheEvict(value = "userList", allEntries = true)
     public UserResponseDto updateUser(Long id, UserUpdateRequestDto request) {
+        return update(id, request, null);
+    }
+
+    /**
+     * 사용자 정보 수정 (조건부)
+     * - expectedVersion과 현재 버전이 다르면 412 (If-Match)
+     * - 확인 이후 커밋 전에 다른 수정이 끼어들면 @Version에 의해 OptimisticLockingFailureException (409)
+     */
+    @Transactional
+    @CacheEvict(value = "userList", allEntries = true)
+    public UserResponseDto updateUser(Long id, UserUpdateRequestDto request, @Nullable Long expectedVersion) {
+        return update(id, request, expectedVersion);
+    }
+
+    private UserResponseDto update(Long id, UserUpdateRequestDto request, @Nullable Long expectedVersion) {
         UserEntity user = userRepository.findById(id)
                 .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + id));
 
+        if (expectedVersion != null && expectedVersion != user.getVersion()) {
+            throw new CustomException(UserErrorCode.USER_PRECONDITION_FAILED,
+                    "사용자 정보가 변경되었습니다: " + id + " (현재 버전: " + user.getVersion() + ")");
+        }
+
+        UserResponseDto before = UserResponseDto.from(user);
+
         // 변경 감지(Dirty Checking)를 통한 업데이트
         // UserEntity에 업데이트 메서드 추가 필요
         if (request.name() != null) {
@@ -121,16 +173,33 @@ public class UserService implements UserUseCase {
                     .status(user.getStatus())
                     .createdAt(user.getCreatedAt())
                     .updatedAt(user.getUpdatedAt())
+                    .version(user.getVersion())
                     .build();
-            user = userRepository.save(user);
+            // 즉시 flush하여 증가된 version / updatedAt을 응답(및 캐시)에 반영
+            user = userRepository.saveAndFlush(user);
+            userListGeneration.bumpAfterCommit();
         }
 
-        return UserResponseDto.from(user);
+        UserResponseDto after = UserResponseDto.from(user);
+        updateUserCache(id, before, after);
+        return after;
+    }
+
+    /**
+     * users 캐시 갱신 (커밋 이후 반영)
+     * - hash 저장소면 변경된 필드만 HSET, 아니면 전체 put (@CachePut과 같음)
+     */
+    private void updateUserCache(Long id, UserResponseDto before, UserResponseDto after) {
+        Cache cache = cacheManager.getCache("users");
+        if (cache != null) {
+            PatchableCache.patchOrPut(cache, id, before, after);
+        }
     }
 
     /**
      * 사용자 삭제
      * 모든 관련 캐시 무효화
+     * 변경분 동기화를 위해 삭제 기록(tombstone) 저장
      */
     @Transactional
     @Caching(evict = {
@@ -142,5 +211,7 @@ public class UserService implements UserUseCase {
             throw new CustomException(UserErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + id);
         }
         userRepository.deleteById(id);
+        userTombstoneRepository.save(new UserTombstoneEntity(id, Instant.now()));
+        userListGeneration.bumpAfterCommit();
     }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.boilerplate.springbootjava.application.user.service;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserChangesResponseDto;
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.application.user.port.in.UserSyncUseCase;
+import com.boilerplate.springbootjava.application.user.port.out.UserRepository;
+import com.boilerplate.springbootjava.application.user.port.out.UserTombstoneRepository;
+import com.boilerplate.springbootjava.common.exception.CustomException;
+import com.boilerplate.springbootjava.common.exception.errorcode.UserErrorCode;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserEntity;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserTombstoneEntity;
+import com.boilerplate.springbootjava.infrastructure.properties.UserSyncProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 사용자 변경분 동기화
+ * - 사용자: (updated_at, id) keyset 조회
+ * - 삭제: user_tombstones (deleted_at, user_id) keyset 조회
+ * - 두 목록을 각각 페이징하고, 토큰에 각각의 워터마크를 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserSyncService implements UserSyncUseCase {
+
+    private final UserRepository userRepository;
+    private final UserTombstoneRepository userTombstoneRepository;
+    private final UserSyncProperties userSyncProperties;
+
+    /**
+     * @param since 이전 응답의 nextToken (없으면 최초 동기화)
+     * @param limit 목록별 최대 건수
+     */
+    @Override
+    public UserChangesResponseDto getChanges(@Nullable String since, int limit) {
+        int size = Math.clamp(limit, 1, userSyncProperties.getMaxLimit());
+        Instant now = Instant.now();
+        // 커밋 순서와 updated_at 순서가 다를 수 있으므로 safety lag 이전 변경분까지만 반환
+        Instant until = now.minus(userSyncProperties.getSafetyLag());
+
+        UserSyncToken token = StringUtils.hasText(since) ? UserSyncToken.decode(since) : UserSyncToken.initial(until);
+        if (token.deletedAfter().isBefore(now.minus(userSyncProperties.getTombstoneRetention()))) {
+            throw new CustomException(UserErrorCode.SYNC_TOKEN_EXPIRED,
+                    "동기화 토큰이 삭제 기록 보관 기간을 지났습니다. 전체 재동기화가 필요합니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<UserEntity> users = userRepository.findChangedSince(
+                token.userAfter(), token.userAfterId(), until, Limit.of(size + 1));
+        boolean moreUsers = users.size() > size;
+        if (moreUsers) {
+            users = users.subList(0, size);
+        }
+
+        List<UserTombstoneEntity> tombstones = userTombstoneRepository.findDeletedSince(
+                token.deletedAfter(), token.deletedAfterId(), until, Limit.of(size + 1));
+        boolean moreDeleted = tombstones.size() > size;
+        if (moreDeleted) {
+            tombstones = tombstones.subList(0, size);
+        }
+
+        return new UserChangesResponseDto(
+                users.stream().map(UserResponseDto::from).toList(),
+                tombstones.stream().map(UserTombstoneEntity::getUserId).toList(),
+                nextToken(token, users, tombstones, moreDeleted, until).encode(),
+                moreUsers || moreDeleted
+        );
+    }
+
+    private UserSyncToken nextToken(UserSyncToken token,
+                                    List<UserEntity> users,
+                                    List<UserTombstoneEntity> tombstones,
+                                    boolean moreDeleted,
+                                    Instant until) {
+        Instant userAfter = token.userAfter();
+        long userAfterId = token.userAfterId();
+        if (!users.isEmpty()) {
+            UserEntity last = users.get(users.size() - 1);
+            userAfter = last.getUpdatedAt();
+            userAfterId = last.getId();
+        }
+
+        Instant deletedAfter = token.deletedAfter();
+        long deletedAfterId = token.deletedAfterId();
+        if (moreDeleted) {
+            UserTombstoneEntity last = tombstones.get(tombstones.size() - 1);
+            deletedAfter = last.getDeletedAt();
+            deletedAfterId = last.getUserId();
+        } else if (until.isAfter(deletedAfter)) {
+            // until까지 모두 전달했으므로 워터마크를 until로 전진 (삭제가 없어도 토큰이 만료되지 않도록)
+            deletedAfter = until;
+            deletedAfterId = Long.MAX_VALUE;
+        }
+
+        return new UserSyncToken(userAfter, userAfterId, deletedAfter, deletedAfterId);
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.user-sync.purge-interval:1h}")
+    public void purgeExpiredTombstones() {
+        Instant before = Instant.now().minus(userSyncProperties.getTombstoneRetention());
+        int purged = userTombstoneRepository.deleteAllDeletedBefore(before);
+        if (purged > 0) {
+            log.info("UserSyncService - purged {} tombstones deleted before {}", purged, before);
+        }
+    }
+}
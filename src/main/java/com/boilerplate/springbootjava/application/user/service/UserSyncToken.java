@@ -0,0 +1,49 @@
+package com.boilerplate.springbootjava.application.user.service;
+
+import com.boilerplate.springbootjava.common.exception.CustomException;
+import com.boilerplate.springbootjava.common.exception.errorcode.UserErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 변경분 동기화 워터마크 (클라이언트에는 불투명한 문자열로 전달)
+ * - 사용자: 마지막으로 전달한 (updatedAt, id)
+ * - 삭제: 마지막으로 전달한 (deletedAt, userId)
+ */
+record UserSyncToken(Instant userAfter, long userAfterId, Instant deletedAfter, long deletedAfterId) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 최초 동기화 - 사용자 전체 + 동기화 시작 이후의 삭제
+     */
+    static UserSyncToken initial(Instant syncStart) {
+        return new UserSyncToken(Instant.EPOCH, 0L, syncStart, 0L);
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                userAfter.toString(), Long.toString(userAfterId),
+                deletedAfter.toString(), Long.toString(deletedAfterId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static UserSyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unsupported token format");
+            }
+            return new UserSyncToken(
+                    Instant.parse(parts[1]), Long.parseLong(parts[2]),
+                    Instant.parse(parts[3]), Long.parseLong(parts[4]));
+        } catch (RuntimeException e) {
+            throw new CustomException(UserErrorCode.SYNC_TOKEN_INVALID, "유효하지 않은 동기화 토큰입니다: " + token, e);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
@@ -226,6 +228,40 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
     }
 
+    // 11. 동시 수정 충돌 (낙관적 락)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<CustomErrorResponseDto> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        CustomErrorResponseDto response = CustomErrorResponseDto.of(
+                HttpStatus.CONFLICT,
+                HttpStatus.CONFLICT.name(),
+                "다른 요청에 의해 이미 수정되었습니다. 다시 조회 후 시도해주세요.",
+                request.getRequestURI()
+        );
+
+        log.error("Optimistic locking failure: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // 12. 비동기 요청 처리 시간 초과 (spring.mvc.async.request-timeout)
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<CustomErrorResponseDto> handleAsyncRequestTimeout(
+            AsyncRequestTimeoutException ex,
+            HttpServletRequest request) {
+
+        CustomErrorResponseDto response = CustomErrorResponseDto.of(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                HttpStatus.SERVICE_UNAVAILABLE.name(),
+                "요청 처리 시간이 초과되었습니다.",
+                request.getRequestURI()
+        );
+
+        log.error("Async request timeout: {}", request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     // 나머지 모든 예외
     @ExceptionHandler(Exception.class)
     public ResponseEntity<CustomErrorResponseDto> handleException(Exception e, HttpServletRequest request) {
@@ -0,0 +1,41 @@
+package com.boilerplate.springbootjava.common.exception.errorcode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum BatchErrorCode implements ErrorCode {
+
+    // 400
+    BATCH_TOO_MANY_ITEMS("BATCH_40001", HttpStatus.BAD_REQUEST,
+            "Too many batch items."),
+    BATCH_PATH_INVALID("BATCH_40002", HttpStatus.BAD_REQUEST,
+            "Batch item path is not allowed."),
+
+    // 403
+    BATCH_ITEM_FORBIDDEN("BATCH_40301", HttpStatus.FORBIDDEN,
+            "Not allowed to access batch item."),
+
+    // 404
+    BATCH_DISABLED("BATCH_40401", HttpStatus.NOT_FOUND,
+            "Batch requests are disabled."),
+
+    // 405
+    BATCH_METHOD_NOT_ALLOWED("BATCH_40501", HttpStatus.METHOD_NOT_ALLOWED,
+            "Batch item method is not allowed."),
+
+    // 500
+    BATCH_ITEM_FAILED("BATCH_50001", HttpStatus.INTERNAL_SERVER_ERROR,
+            "Batch item failed."),
+
+    // 504
+    BATCH_ITEM_TIMEOUT("BATCH_50401", HttpStatus.GATEWAY_TIMEOUT,
+            "Batch item timed out.");
+
+    private final String code;
+    private final HttpStatus httpStatus;
+    private final String message;
+
+}
@@ -16,6 +16,10 @@ public enum CommonErrorCode implements ErrorCode {
     XXX_NOT_ALLOWED("XXX_40301", HttpStatus.FORBIDDEN,
             "Not allowed to XXX."),
 
+    // 429
+    TOO_MANY_REQUESTS("COMMON_42901", HttpStatus.TOO_MANY_REQUESTS,
+            "Too many requests. Retry later."),
+
     // 500
     XXX_SERVER_ERROR("XXX_50001", HttpStatus.INTERNAL_SERVER_ERROR,
             "Server Error XXX.");
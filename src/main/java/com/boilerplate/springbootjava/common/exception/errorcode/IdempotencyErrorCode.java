@@ -0,0 +1,31 @@
+package com.boilerplate.springbootjava.common.exception.errorcode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum IdempotencyErrorCode implements ErrorCode {
+
+    // 400
+    IDEMPOTENCY_KEY_INVALID("IDEMPOTENCY_40001", HttpStatus.BAD_REQUEST,
+            "Idempotency-Key is invalid."),
+
+    // 409
+    IDEMPOTENCY_IN_PROGRESS("IDEMPOTENCY_40901", HttpStatus.CONFLICT,
+            "A request with the same Idempotency-Key is still in progress. Retry later."),
+
+    // 413
+    IDEMPOTENCY_REQUEST_TOO_LARGE("IDEMPOTENCY_41301", HttpStatus.PAYLOAD_TOO_LARGE,
+            "Request body is too large for an idempotent request."),
+
+    // 422
+    IDEMPOTENCY_KEY_REUSED("IDEMPOTENCY_42201", HttpStatus.UNPROCESSABLE_ENTITY,
+            "Idempotency-Key was already used for a different request.");
+
+    private final String code;
+    private final HttpStatus httpStatus;
+    private final String message;
+
+}
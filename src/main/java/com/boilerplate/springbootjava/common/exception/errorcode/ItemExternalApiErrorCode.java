@@ -28,6 +28,10 @@ public enum ItemExternalApiErrorCode implements ErrorCode {
             "EXTERNAL_500", HttpStatus.INTERNAL_SERVER_ERROR,
             "외부 API 서버 오류가 발생했습니다."),
 
+    EXTERNAL_TIMEOUT(
+            "EXTERNAL_504", HttpStatus.GATEWAY_TIMEOUT,
+            "외부 API 응답 시간이 초과되었습니다."),
+
     EXTERNAL_UNKNOWN_ERROR(
             "EXTERNAL_UNKNOWN", HttpStatus.INTERNAL_SERVER_ERROR,
             "외부 API 호출 중 알 수 없는 오류가 발생했습니다.");
@@ -11,6 +11,8 @@ public enum UserErrorCode implements ErrorCode {
     // 400
     EMAIL_TYPE_INVALID("USER_40001", HttpStatus.BAD_REQUEST,
             "EMAIL type is invalid."),
+    SYNC_TOKEN_INVALID("USER_40002", HttpStatus.BAD_REQUEST,
+            "Sync token is invalid."),
 
     // 409
     EMAIL_CONFLICT("USER_40901", HttpStatus.CONFLICT,
@@ -18,7 +20,15 @@ public enum UserErrorCode implements ErrorCode {
 
     // 404
     USER_NOT_FOUND("USER_40401", HttpStatus.NOT_FOUND,
-            "User not found.");
+            "User not found."),
+
+    // 410
+    SYNC_TOKEN_EXPIRED("USER_41001", HttpStatus.GONE,
+            "Sync token has expired. Full resync required."),
+
+    // 412
+    USER_PRECONDITION_FAILED("USER_41201", HttpStatus.PRECONDITION_FAILED,
+            "User has been modified.");
 
     private final String code;
     private final HttpStatus httpStatus;
@@ -0,0 +1,189 @@
+package com.boilerplate.springbootjava.infrastructure.batch;
+
+import com.boilerplate.springbootjava.common.dto.CustomErrorResponseDto;
+import com.boilerplate.springbootjava.common.exception.CustomException;
+import com.boilerplate.springbootjava.common.exception.errorcode.BatchErrorCode;
+import com.boilerplate.springbootjava.infrastructure.filter.ratelimit.RateLimitFilter;
+import com.boilerplate.springbootjava.infrastructure.properties.BatchProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * batch 하위 요청 실행기
+ * - 하위 요청마다 virtual thread에서 DispatcherServlet으로 직접 처리 (필터 체인 / TLS / JWT 파싱 / 로깅은 batch 요청에서 한 번)
+ * - 인증은 batch 요청의 Authentication을 공유, 하위 요청마다 URL 권한(SecurityConfig)과 속도 제한 정책은 따로 확인
+ * - 허용 method / 경로 prefix 밖이거나 batch 자신을 가리키면 실행하지 않음
+ * - 전체 대기 시간(timeout)을 넘긴 하위 요청은 취소 후 504
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchDispatcher {
+
+    private final DispatcherServlet dispatcherServlet;
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+    private final RateLimitFilter rateLimitFilter;
+    private final BatchProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("batch-", 0).factory());
+
+    /**
+     * @param path 컨텍스트 경로를 뺀 경로 + query string
+     * @param body JSON 본문 (없으면 null)
+     */
+    public record SubRequest(String method, String path, Map<String, String> headers, @Nullable byte[] body) {
+    }
+
+    public record SubResponse(int status, HttpHeaders headers, byte[] body) {
+    }
+
+    /**
+     * @return 하위 요청과 같은 순서의 응답
+     */
+    public List<SubResponse> dispatch(HttpServletRequest batchRequest,
+                                      HttpServletResponse batchResponse,
+                                      List<SubRequest> requests) {
+        if (!properties.isEnabled()) {
+            throw new CustomException(BatchErrorCode.BATCH_DISABLED, BatchErrorCode.BATCH_DISABLED.getMessage());
+        }
+        if (requests.size() > properties.getMaxItems()) {
+            throw new CustomException(BatchErrorCode.BATCH_TOO_MANY_ITEMS,
+                    "Too many batch items (max " + properties.getMaxItems() + ").");
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+
+        List<Future<SubResponse>> futures = new ArrayList<>(requests.size());
+        for (SubRequest request : requests) {
+            futures.add(executor.submit(() -> execute(batchRequest, batchResponse, request, authentication)));
+        }
+
+        List<SubResponse> responses = new ArrayList<>(requests.size());
+        for (int i = 0; i < futures.size(); i++) {
+            responses.add(await(futures.get(i), requests.get(i), deadline));
+        }
+        return responses;
+    }
+
+    private SubResponse execute(HttpServletRequest batchRequest,
+                                HttpServletResponse batchResponse,
+                                SubRequest request,
+                                @Nullable Authentication authentication) {
+        String method = request.method().toUpperCase();
+        if (properties.getMethods().stream().noneMatch(method::equalsIgnoreCase)) {
+            return error(BatchErrorCode.BATCH_METHOD_NOT_ALLOWED, request.path());
+        }
+        String path = pathOnly(request.path());
+        if (!isAllowedPath(batchRequest, path)) {
+            return error(BatchErrorCode.BATCH_PATH_INVALID, request.path());
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        try {
+            if (!privilegeEvaluator.isAllowed(batchRequest.getContextPath(),
+                    BatchSubRequest.decodePath(path), method, authentication)) {
+                return error(BatchErrorCode.BATCH_ITEM_FORBIDDEN, request.path());
+            }
+
+            BatchSubResponse subResponse = new BatchSubResponse(batchResponse);
+            BatchSubRequest subRequest = new BatchSubRequest(batchRequest, method, request.path(),
+                    request.headers() != null ? request.headers() : Map.of(), request.body(), subResponse);
+            if (rateLimitFilter.apply(subRequest, subResponse)) {
+                dispatcherServlet.service(subRequest, subResponse);
+                // 비동기 핸들러(CompletableFuture 등)면 결과가 나올 때까지 이 스레드에서 대기 후 ASYNC dispatch
+                subRequest.awaitAsync(() -> dispatcherServlet.service(subRequest, subResponse));
+            }
+            return new SubResponse(subResponse.getStatus(), subResponse.headers(), subResponse.body());
+        } catch (Exception e) {
+            log.warn("BatchDispatcher - {} {} failed", method, request.path(), e);
+            return error(BatchErrorCode.BATCH_ITEM_FAILED, request.path());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private SubResponse await(Future<SubResponse> future, SubRequest request, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.info("BatchDispatcher - {} {} timed out after {}", request.method(), request.path(), properties.getTimeout());
+            return error(BatchErrorCode.BATCH_ITEM_TIMEOUT, request.path());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return error(BatchErrorCode.BATCH_ITEM_TIMEOUT, request.path());
+        } catch (ExecutionException e) {
+            log.warn("BatchDispatcher - {} {} failed", request.method(), request.path(), e.getCause());
+            return error(BatchErrorCode.BATCH_ITEM_FAILED, request.path());
+        }
+    }
+
+    /**
+     * 허용 prefix 아래만, batch 자신(재귀) / 상위 경로 이동 / 빈 세그먼트는 거절
+     */
+    private boolean isAllowedPath(HttpServletRequest batchRequest, String path) {
+        String decoded = BatchSubRequest.decodePath(path);
+        String self = batchRequest.getRequestURI().substring(batchRequest.getContextPath().length());
+        return decoded.startsWith(properties.getPathPrefix())
+                && !decoded.contains("..")
+                && !decoded.contains("//")
+                && !decoded.contains(";")
+                && !decoded.contains("\\")
+                && !decoded.equals(self)
+                && !decoded.startsWith(self + "/");
+    }
+
+    private static String pathOnly(String path) {
+        int query = path.indexOf('?');
+        int fragment = path.indexOf('#');
+        int end = query >= 0 ? query : path.length();
+        return fragment >= 0 ? path.substring(0, Math.min(end, fragment)) : path.substring(0, end);
+    }
+
+    private SubResponse error(BatchErrorCode errorCode, String path) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(CustomErrorResponseDto.of(
+                    errorCode.getHttpStatus(), errorCode.getCode(), errorCode.getMessage(), path));
+            return new SubResponse(errorCode.getHttpStatus().value(), headers, body);
+        } catch (JsonProcessingException e) {
+            return new SubResponse(errorCode.getHttpStatus().value(), new HttpHeaders(), new byte[0]);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
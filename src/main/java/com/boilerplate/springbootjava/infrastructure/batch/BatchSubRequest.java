@@ -0,0 +1,461 @@
+package com.boilerplate.springbootjava.infrastructure.batch;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * batch 하위 요청 - batch 요청을 감싸되 method / 경로 / 파라미터 / 헤더 / 본문 / 속성은 독립
+ * - batch 요청 객체는 여러 하위 요청 스레드가 공유하므로 연결 정보(remote address, scheme 등) 조회만 위임
+ * - 비동기 처리(startAsync): dispatch() / complete()는 신호만 남기고, 하위 요청 스레드가 awaitAsync()에서
+ *   ASYNC dispatch를 실행 (servlet 컨테이너가 하는 일을 대신 수행, 요청 스레드 풀이 없으므로 기다려도 무방)
+ */
+class BatchSubRequest extends HttpServletRequestWrapper {
+
+    private final String method;
+    private final String requestUri;
+    private final String servletPath;
+    @Nullable
+    private final String queryString;
+    private final Map<String, String[]> parameters;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final HttpServletResponse response;
+    private String characterEncoding;
+    private volatile DispatcherType dispatcherType = DispatcherType.REQUEST;
+    @Nullable
+    private volatile AsyncCycle asyncCycle;
+
+    /**
+     * @param path 컨텍스트 경로를 뺀 경로 + query string (인코딩된 형태)
+     */
+    BatchSubRequest(HttpServletRequest batchRequest,
+                    String method,
+                    String path,
+                    Map<String, String> headers,
+                    @Nullable byte[] body,
+                    HttpServletResponse response) {
+        super(batchRequest);
+        this.response = response;
+        UriComponents uri = UriComponentsBuilder.fromUriString(path).build();
+        String rawPath = uri.getPath() != null ? uri.getPath() : "/";
+
+        this.method = method.toUpperCase();
+        this.requestUri = batchRequest.getContextPath() + rawPath;
+        this.servletPath = decodePath(rawPath);
+        this.queryString = uri.getQuery();
+        this.parameters = decodeParameters(uri.getQueryParams());
+        this.headers = new HttpHeaders();
+        headers.forEach(this.headers::add);
+        this.body = body != null ? body : new byte[0];
+        this.characterEncoding = StandardCharsets.UTF_8.name();
+
+        if (this.body.length > 0 && this.headers.getContentType() == null) {
+            this.headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * 경로 검사용 - percent-encoding을 풀어서 비교해야 우회(%2e%2e 등)를 막을 수 있음
+     */
+    static String decodePath(String rawPath) {
+        return UriUtils.decode(rawPath, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return requestUri;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer()
+                .append(getScheme()).append("://").append(getServerName());
+        int port = getServerPort();
+        if (port > 0 && !(("http".equals(getScheme()) && port == 80) || ("https".equals(getScheme()) && port == 443))) {
+            url.append(':').append(port);
+        }
+        return url.append(requestUri);
+    }
+
+    // DispatcherServlet은 기본 매핑("/")이므로 servlet path가 전체 경로
+    @Override
+    public String getServletPath() {
+        return servletPath;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getPathTranslated() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values != null && values.length > 0 ? values[0] : null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return Collections.enumeration(headers.getOrEmpty(name));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = headers.getFirst(name);
+        return value != null ? Integer.parseInt(value) : -1;
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        return headers.getFirstDate(name);
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return null;
+    }
+
+    @Override
+    public String getContentType() {
+        return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+    }
+
+    @Override
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.length;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding;
+    }
+
+    @Override
+    public void setCharacterEncoding(String encoding) {
+        this.characterEncoding = encoding;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return new BodyInputStream(body);
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                Charset.forName(characterEncoding)));
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return dispatcherType;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        AsyncCycle cycle = asyncCycle;
+        return cycle != null && !cycle.signal.isDone();
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        return startAsync(this, response);
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        if (isAsyncStarted()) {
+            throw new IllegalStateException("Async processing has already been started");
+        }
+        AsyncCycle cycle = new AsyncCycle(servletRequest, servletResponse);
+        asyncCycle = cycle;
+        return cycle;
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        AsyncCycle cycle = asyncCycle;
+        if (cycle == null || !isAsyncStarted()) {
+            throw new IllegalStateException("Async processing has not been started");
+        }
+        return cycle;
+    }
+
+    /**
+     * DispatcherServlet 처리 후 호출 - 비동기 처리가 시작됐으면 dispatch() / complete()까지 기다리고
+     * dispatch()면 ASYNC dispatch 실행, 끝나면 listener에 onComplete
+     */
+    void awaitAsync(AsyncDispatch asyncDispatch) throws Exception {
+        AsyncCycle cycle;
+        while ((cycle = asyncCycle) != null) {
+            boolean dispatch = cycle.signal.get();
+            asyncCycle = null;
+            if (dispatch) {
+                dispatcherType = DispatcherType.ASYNC;
+                asyncDispatch.dispatch();
+            }
+            // ASYNC dispatch 중 다시 startAsync()를 호출했으면 새 cycle 대기
+            if (asyncCycle == null) {
+                cycle.fireComplete();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface AsyncDispatch {
+        void dispatch() throws Exception;
+    }
+
+    private static Map<String, String[]> decodeParameters(MultiValueMap<String, String> encoded) {
+        MultiValueMap<String, String> decoded = new LinkedMultiValueMap<>();
+        encoded.forEach((name, values) -> values.forEach(value ->
+                decoded.add(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                        value != null ? URLDecoder.decode(value, StandardCharsets.UTF_8) : "")));
+
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        decoded.forEach((name, values) -> parameters.put(name, values.toArray(String[]::new)));
+        return parameters;
+    }
+
+    private static final class AsyncCycle implements AsyncContext {
+
+        // true: dispatch() / false: complete()
+        private final CompletableFuture<Boolean> signal = new CompletableFuture<>();
+        private final List<AsyncListener> listeners = new CopyOnWriteArrayList<>();
+        private final ServletRequest request;
+        private final ServletResponse response;
+        private volatile long timeout;
+
+        private AsyncCycle(ServletRequest request, ServletResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        @Override
+        public ServletRequest getRequest() {
+            return request;
+        }
+
+        @Override
+        public ServletResponse getResponse() {
+            return response;
+        }
+
+        @Override
+        public boolean hasOriginalRequestAndResponse() {
+            return request instanceof BatchSubRequest && response instanceof BatchSubResponse;
+        }
+
+        @Override
+        public void dispatch() {
+            signal.complete(true);
+        }
+
+        @Override
+        public void dispatch(String path) {
+            throw new UnsupportedOperationException("Dispatch to another path is not supported for batch items");
+        }
+
+        @Override
+        public void dispatch(ServletContext context, String path) {
+            throw new UnsupportedOperationException("Dispatch to another path is not supported for batch items");
+        }
+
+        @Override
+        public void complete() {
+            signal.complete(false);
+        }
+
+        @Override
+        public void start(Runnable run) {
+            Thread.ofVirtual().name("batch-async").start(run);
+        }
+
+        @Override
+        public void addListener(AsyncListener listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void addListener(AsyncListener listener, ServletRequest request, ServletResponse response) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public <T extends AsyncListener> T createListener(Class<T> type) throws ServletException {
+            try {
+                return type.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new ServletException(e);
+            }
+        }
+
+        @Override
+        public void setTimeout(long timeout) {
+            this.timeout = timeout;
+        }
+
+        @Override
+        public long getTimeout() {
+            return timeout;
+        }
+
+        private void fireComplete() throws IOException {
+            AsyncEvent event = new AsyncEvent(this, request, response);
+            for (AsyncListener listener : listeners) {
+                listener.onComplete(event);
+            }
+        }
+    }
+
+    private static final class BodyInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream in;
+
+        private BodyInputStream(byte[] body) {
+            this.in = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return in.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        // 본문은 이미 메모리에 있으므로 바로 읽기 가능 / 읽기 완료 통지
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            try {
+                readListener.onDataAvailable();
+                readListener.onAllDataRead();
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+
+        @Override
+        public int read() {
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return in.read(b, off, len);
+        }
+    }
+}
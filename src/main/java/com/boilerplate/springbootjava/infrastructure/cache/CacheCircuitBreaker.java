@@ -0,0 +1,192 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * 캐시 하나의 Redis 호출 circuit breaker
+ * - CLOSED: 최근 windowSize개 호출의 실패율 또는 느린 호출 비율이 임계값 이상이면 OPEN
+ * - OPEN: Redis 호출 없이 바로 미스 처리 (L1 / DB로 진행), openDuration 후 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls개 probe만 허용, 모두 정상이면 CLOSED / 하나라도 실패·지연이면 다시 OPEN
+ * - 느린 호출 기준(latencyBudget)은 캐시별로 설정
+ */
+@Slf4j
+public class CacheCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final byte SUCCESS = 0;
+    private static final byte SLOW = 1;
+    private static final byte FAILURE = 2;
+
+    private final String name;
+    private final AppCacheProperties.CircuitBreaker settings;
+    private final long latencyBudgetNanos;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 (ring buffer)
+    private final byte[] outcomes;
+    private int cursor;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private Instant lastTransitionAt = Instant.now();
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CacheCircuitBreaker(String name, AppCacheProperties.CircuitBreaker settings, Duration latencyBudget) {
+        this(name, settings, latencyBudget, System::nanoTime);
+    }
+
+    CacheCircuitBreaker(String name,
+                        AppCacheProperties.CircuitBreaker settings,
+                        Duration latencyBudget,
+                        LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.latencyBudgetNanos = latencyBudget.toNanos();
+        this.nanoClock = nanoClock;
+        this.outcomes = new byte[Math.max(1, settings.getWindowSize())];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Redis 호출 허용 여부 (HALF_OPEN에서는 probe 허용 수를 차감)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < settings.getOpenDuration().toNanos()) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * 부가 Redis 호출(락, PTTL, Pub/Sub 등)을 건너뛸지 판단 - probe 허용 수는 차감하지 않음
+     */
+    public synchronized boolean isCallPermitted() {
+        return state == State.CLOSED;
+    }
+
+    public void onSuccess(long elapsedNanos) {
+        record(elapsedNanos > latencyBudgetNanos ? SLOW : SUCCESS);
+    }
+
+    public void onError() {
+        record(FAILURE);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(
+                state,
+                recorded,
+                rate(failures),
+                rate(slowCalls),
+                Duration.ofNanos(latencyBudgetNanos),
+                lastTransitionAt
+        );
+    }
+
+    private synchronized void record(byte outcome) {
+        if (state == State.OPEN) {
+            // OPEN 이전에 시작된 호출의 결과는 무시
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (outcome != SUCCESS) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= settings.getHalfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        if (recorded == outcomes.length) {
+            forget(outcomes[cursor]);
+        } else {
+            recorded++;
+        }
+        outcomes[cursor] = outcome;
+        cursor = (cursor + 1) % outcomes.length;
+        if (outcome == FAILURE) {
+            failures++;
+        } else if (outcome == SLOW) {
+            slowCalls++;
+        }
+
+        if (recorded >= settings.getMinimumCalls()
+                && (rate(failures) >= settings.getFailureRateThreshold()
+                || rate(slowCalls) >= settings.getSlowCallRateThreshold())) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void forget(byte outcome) {
+        if (outcome == FAILURE) {
+            failures--;
+        } else if (outcome == SLOW) {
+            slowCalls--;
+        }
+    }
+
+    private float rate(int count) {
+        return recorded == 0 ? 0f : count * 100f / recorded;
+    }
+
+    private void transitionTo(State next) {
+        if (next == State.OPEN) {
+            log.warn("CacheCircuitBreaker - {} {} -> OPEN (failureRate={}%, slowCallRate={}%, latencyBudget={}ms)",
+                    name, state, rate(failures), rate(slowCalls), Duration.ofNanos(latencyBudgetNanos).toMillis());
+            openedAtNanos = nanoClock.getAsLong();
+        } else {
+            log.info("CacheCircuitBreaker - {} {} -> {}", name, state, next);
+        }
+
+        state = next;
+        lastTransitionAt = Instant.now();
+        halfOpenPermits = settings.getHalfOpenCalls();
+        halfOpenSuccesses = 0;
+        if (next != State.HALF_OPEN) {
+            // 새 상태는 새 window로 판단
+            recorded = 0;
+            cursor = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+
+    /**
+     * actuator 노출용 상태
+     */
+    public record Snapshot(State state,
+                           int bufferedCalls,
+                           float failureRate,
+                           float slowCallRate,
+                           Duration latencyBudget,
+                           Instant lastTransitionAt) {
+    }
+}
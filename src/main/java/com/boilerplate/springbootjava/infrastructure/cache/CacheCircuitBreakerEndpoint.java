@@ -0,0 +1,37 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 캐시별 Redis circuit breaker 상태 (GET /actuator/cachebreakers)
+ * - management.endpoints.web.exposure.include에 cachebreakers 추가 필요
+ */
+@Component
+@Endpoint(id = "cachebreakers")
+@RequiredArgsConstructor
+public class CacheCircuitBreakerEndpoint {
+
+    private final CacheCircuitBreakers circuitBreakers;
+
+    @ReadOperation
+    public Map<String, CacheCircuitBreaker.Snapshot> breakers() {
+        Map<String, CacheCircuitBreaker.Snapshot> snapshots = new TreeMap<>();
+        circuitBreakers.all().forEach(breaker -> snapshots.put(breaker.getName(), breaker.snapshot()));
+        return snapshots;
+    }
+
+    @ReadOperation
+    @Nullable
+    public CacheCircuitBreaker.Snapshot breaker(@Selector String cacheName) {
+        CacheCircuitBreaker breaker = circuitBreakers.find(cacheName);
+        return breaker != null ? breaker.snapshot() : null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 캐시 이름별 CacheCircuitBreaker 보관
+ * - app.cache.circuit-breaker.enabled=false 이면 breaker를 만들지 않음 (null)
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheCircuitBreakers {
+
+    private final AppCacheProperties properties;
+    private final ConcurrentMap<String, CacheCircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    @Nullable
+    public CacheCircuitBreaker forCache(String cacheName) {
+        if (!properties.getCircuitBreaker().isEnabled()) {
+            return null;
+        }
+        return breakers.computeIfAbsent(cacheName, name -> {
+            Duration latencyBudget = properties.spec(name).getLatencyBudget();
+            return new CacheCircuitBreaker(
+                    name,
+                    properties.getCircuitBreaker(),
+                    latencyBudget != null ? latencyBudget : properties.getCircuitBreaker().getDefaultLatencyBudget()
+            );
+        });
+    }
+
+    /**
+     * 부가 Redis 호출(락, PTTL, Pub/Sub 등) 가능 여부 - breaker가 CLOSED가 아니면 건너뜀
+     */
+    public boolean isRedisAvailable(String cacheName) {
+        CacheCircuitBreaker breaker = forCache(cacheName);
+        return breaker == null || breaker.isCallPermitted();
+    }
+
+    /**
+     * 이미 생성된 breaker만 조회 (생성하지 않음)
+     */
+    @Nullable
+    public CacheCircuitBreaker find(String cacheName) {
+        return breakers.get(cacheName);
+    }
+
+    public Collection<CacheCircuitBreaker> all() {
+        return breakers.values();
+    }
+}
@@ -0,0 +1,166 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이전 epoch 캐시 키 정리 (백그라운드)
+ * - cache:* 키를 SCAN하여 현재 epoch가 아닌 키를 UNLINK (Redis에서 비동기 해제)
+ * - 초당 삭제 수 제한으로 Redis 부하 제한
+ * - 기동을 막지 않도록 전용 daemon 스레드에서 실행
+ * - 샤딩 사용 시 각 샤드 노드도 같은 방식으로 정리
+ */
+@Slf4j
+@Component
+public class CacheEpochSweeper {
+
+    private static final String LOCK_KEY = "cache-epoch-sweeper";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(30);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectProvider<RedisShards> redisShards;
+    private final RedisCacheLock redisCacheLock;
+    private final CacheKeyEpoch cacheKeyEpoch;
+    private final AppCacheProperties.EpochSweeper properties;
+
+    private final ScheduledExecutorService executor;
+
+    public CacheEpochSweeper(StringRedisTemplate stringRedisTemplate,
+                             ObjectProvider<RedisShards> redisShards,
+                             RedisCacheLock redisCacheLock,
+                             CacheKeyEpoch cacheKeyEpoch,
+                             AppCacheProperties appCacheProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisShards = redisShards;
+        this.redisCacheLock = redisCacheLock;
+        this.cacheKeyEpoch = cacheKeyEpoch;
+        this.properties = appCacheProperties.getEpochSweeper();
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-epoch-sweeper-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleSweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        executor.schedule(this::sweep, properties.getInitialDelay().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return 삭제한 키 수
+     */
+    long sweep() {
+        Optional<String> token;
+        try {
+            token = redisCacheLock.tryLock(LOCK_KEY, LOCK_TIMEOUT);
+        } catch (Exception e) {
+            log.warn("CacheEpochSweeper - lock failed, skipping", e);
+            return 0;
+        }
+        if (token.isEmpty()) {
+            log.info("CacheEpochSweeper - another node is sweeping, skipping");
+            return 0;
+        }
+
+        String currentPrefix = cacheKeyEpoch.prefix();
+        long started = System.nanoTime();
+        long unlinked = 0;
+        try {
+            List<StringRedisTemplate> nodes = new ArrayList<>();
+            nodes.add(stringRedisTemplate);
+            redisShards.ifAvailable(shards -> shards.all().forEach(shard -> nodes.add(shard.template())));
+
+            for (StringRedisTemplate node : nodes) {
+                unlinked = sweepNode(node, currentPrefix, unlinked, started);
+            }
+
+            log.info("CacheEpochSweeper - unlinked {} keys outside {} in {} ms",
+                    unlinked, currentPrefix, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (Exception e) {
+            log.warn("CacheEpochSweeper - sweep stopped after {} keys", unlinked, e);
+        } finally {
+            try {
+                redisCacheLock.unlock(LOCK_KEY, token.get());
+            } catch (Exception e) {
+                // LOCK_TIMEOUT 후 자동 해제
+                log.debug("CacheEpochSweeper - unlock failed", e);
+            }
+        }
+        return unlinked;
+    }
+
+    /**
+     * 노드 하나 정리
+     *
+     * @return 지금까지(이전 노드 포함) 삭제한 키 수
+     */
+    private long sweepNode(StringRedisTemplate node, String currentPrefix, long unlinked, long started) {
+        try (Cursor<String> cursor = node.scan(ScanOptions.scanOptions()
+                .match(CacheKeyEpoch.ROOT + "*")
+                .count(properties.getScanCount())
+                .build())) {
+
+            List<String> batch = new ArrayList<>(properties.getScanCount());
+            while (cursor.hasNext() && !Thread.currentThread().isInterrupted()) {
+                String key = cursor.next();
+                if (key.startsWith(currentPrefix)) {
+                    continue;
+                }
+                batch.add(key);
+                if (batch.size() >= properties.getScanCount()) {
+                    unlinked += unlink(node, batch);
+                    throttle(unlinked, started);
+                }
+            }
+            unlinked += unlink(node, batch);
+        }
+        return unlinked;
+    }
+
+    private static long unlink(StringRedisTemplate node, List<String> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Long count = node.unlink(batch);
+        batch.clear();
+        return count != null ? count : 0;
+    }
+
+    // 지금까지 삭제한 수가 허용 속도를 넘으면 그만큼 대기
+    private void throttle(long unlinked, long startedNanos) {
+        long expectedNanos = TimeUnit.SECONDS.toNanos(unlinked) / Math.max(1, properties.getMaxKeysPerSecond());
+        long aheadNanos = expectedNanos - (System.nanoTime() - startedNanos);
+        if (aheadNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
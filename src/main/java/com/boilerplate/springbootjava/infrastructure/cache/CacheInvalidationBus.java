@@ -0,0 +1,121 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 노드 간 L1 캐시 무효화 (Redis Pub/Sub)
+ * - put/evict/clear 시 다른 노드의 L1 엔트리를 무효화
+ * - 자기 자신이 보낸 메시지는 무시
+ * - Pub/Sub은 전달을 보장하지 않으므로, 메시지를 놓친 경우 L1 TTL이 stale 최대 시간이 됨
+ * - Listener: L1 외의 노드 로컬 파생 데이터(ex. 응답 JSON 캐시)도 같은 시점에 무효화 (로컬 변경 + 다른 노드 메시지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheCircuitBreakers circuitBreakers;
+
+    void register(TwoLevelCache cache) {
+        subscribers.put(cache.getName(), cache);
+    }
+
+    /**
+     * L1(TwoLevelCache)이 있는 캐시만 무효화 시점이 전달됨
+     */
+    public void addListener(String cacheName, Listener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * @param redisKey 무효화할 키 (null이면 캐시 전체)
+     */
+    void publish(String cacheName, @Nullable String redisKey) {
+        notifyListeners(cacheName, redisKey);
+        if (!circuitBreakers.isRedisAvailable(cacheName)) {
+            // Redis 장애 중 - 다른 노드는 L1 TTL 이후 갱신됨
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(
+                    new CacheInvalidationMessage(nodeId, cacheName, redisKey));
+            stringRedisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (Exception e) {
+            // 다른 노드는 L1 TTL 이후 갱신됨
+            log.warn("CacheInvalidationBus - publish failed: {}::{}", cacheName, redisKey, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (Exception e) {
+            log.warn("CacheInvalidationBus - unreadable message on {}", CHANNEL, e);
+            return;
+        }
+
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        notifyListeners(invalidation.cacheName(), invalidation.key());
+
+        TwoLevelCache cache = subscribers.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+
+        if (invalidation.key() == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.key());
+        }
+    }
+
+    private void notifyListeners(String cacheName, @Nullable String redisKey) {
+        for (Listener listener : listeners.getOrDefault(cacheName, List.of())) {
+            try {
+                listener.invalidated(redisKey);
+            } catch (Exception e) {
+                log.warn("CacheInvalidationBus - listener failed: {}::{}", cacheName, redisKey, e);
+            }
+        }
+    }
+
+    /**
+     * 노드 로컬 무효화 콜백
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * @param redisKey 무효화된 키 (null이면 캐시 전체)
+         */
+        void invalidated(@Nullable String redisKey);
+    }
+
+    record CacheInvalidationMessage(String origin, String cacheName, @Nullable String key) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.boot.info.GitProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 캐시 키 epoch (버전별 네임스페이스)
+ * - 모든 캐시 키: cache:{epoch}:{cacheName}::{key}
+ * - 새 버전 배포 시 새 네임스페이스를 바로 사용 (기동 시 전체 clear 불필요)
+ * - 이전 epoch 키는 TTL로 만료되거나 CacheEpochSweeper가 정리
+ * - 우선순위: app.cache.key-epoch > 빌드 버전 + git commit > "0"
+ */
+@Slf4j
+@Component
+public class CacheKeyEpoch {
+
+    public static final String ROOT = "cache:";
+
+    private final String value;
+
+    public CacheKeyEpoch(AppCacheProperties appCacheProperties,
+                         ObjectProvider<BuildProperties> buildProperties,
+                         ObjectProvider<GitProperties> gitProperties) {
+        this.value = resolve(appCacheProperties.getKeyEpoch(),
+                buildProperties.getIfAvailable(), gitProperties.getIfAvailable());
+        log.info("CacheKeyEpoch - using cache key prefix: {}", prefix());
+    }
+
+    public String value() {
+        return value;
+    }
+
+    /**
+     * 캐시 이름 앞에 붙는 prefix (ex. cache:0.0.1-abc1234:)
+     */
+    public String prefix() {
+        return ROOT + value + ":";
+    }
+
+    private static String resolve(String configured, BuildProperties build, GitProperties git) {
+        String epoch = configured;
+        if (!StringUtils.hasText(epoch)) {
+            StringBuilder derived = new StringBuilder();
+            if (build != null && build.getVersion() != null) {
+                derived.append(build.getVersion());
+            }
+            if (git != null && git.getShortCommitId() != null) {
+                derived.append(derived.isEmpty() ? "" : "-").append(git.getShortCommitId());
+            }
+            epoch = derived.isEmpty() ? "0" : derived.toString();
+        }
+        // ':'는 키 구분자이므로 사용하지 않음
+        return epoch.trim().replace(':', '_').replaceAll("\\s+", "_");
+    }
+}
@@ -0,0 +1,29 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 캐시 이름별 백그라운드 조기 갱신 loader
+ * - @Cacheable의 valueLoader는 그 호출 전용(MethodInvocation)이라 호출이 끝난 뒤 다른 스레드에서 다시 실행할 수 없음
+ * - loader는 캐시 / 인터셉터를 거치지 않고 원본에서 조회, null이면 갱신하지 않음 (그대로 만료)
+ * - 등록하지 않은 캐시는 조기 갱신하지 않음
+ */
+@Component
+public class CacheRefreshLoaders {
+
+    private final ConcurrentMap<String, Function<Object, Object>> loaders = new ConcurrentHashMap<>();
+
+    public void register(String cacheName, Function<Object, Object> loader) {
+        loaders.put(cacheName, loader);
+    }
+
+    @Nullable
+    public Function<Object, Object> find(String cacheName) {
+        return loaders.get(cacheName);
+    }
+}
@@ -0,0 +1,51 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.springframework.lang.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시 값 타입 레지스트리 (CompactRedisSerializer용)
+ * - 클래스 이름 대신 2바이트 타입 id를 저장
+ * - 한 번 사용한 id는 다른 타입에 재사용하지 않음 (롤링 배포 중 다른 버전 노드가 읽을 수 있음)
+ * - raw class당 하나의 JavaType만 등록 (ex. PageResponseDto<UserResponseDto>)
+ */
+public class CacheTypeRegistry {
+
+    static final int MAX_ID = 0xFFFF;
+
+    private final Map<Integer, JavaType> typesById = new HashMap<>();
+    private final Map<Class<?>, Integer> idsByRawClass = new HashMap<>();
+
+    public CacheTypeRegistry register(int id, Class<?> type) {
+        return register(id, TypeFactory.defaultInstance().constructType(type));
+    }
+
+    public CacheTypeRegistry register(int id, JavaType type) {
+        if (id <= 0 || id > MAX_ID) {
+            throw new IllegalArgumentException("Type id must be between 1 and " + MAX_ID + ": " + id);
+        }
+        if (typesById.containsKey(id)) {
+            throw new IllegalArgumentException("Type id already registered: " + id);
+        }
+        if (idsByRawClass.containsKey(type.getRawClass())) {
+            throw new IllegalArgumentException("Type already registered: " + type.getRawClass().getName());
+        }
+        typesById.put(id, type);
+        idsByRawClass.put(type.getRawClass(), id);
+        return this;
+    }
+
+    @Nullable
+    Integer idOf(Object value) {
+        return idsByRawClass.get(value.getClass());
+    }
+
+    @Nullable
+    JavaType typeOf(int id) {
+        return typesById.get(id);
+    }
+}
@@ -0,0 +1,203 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Redis 캐시(L2) 앞단 circuit breaker 데코레이터
+ * - 호출 시간/실패를 CacheCircuitBreaker에 기록, Redis 오류(DataAccessException)는 미스로 처리
+ * - OPEN 동안: 조회는 바로 미스, put은 생략, evict는 기억해 두었다가 복구(CLOSED) 후 재실행
+ *   (기억 가능한 수를 넘으면 복구 후 캐시 전체 clear)
+ * - get(key, loader)는 조회 / 로더 / 저장을 나누어 로더 시간이 Redis latency로 집계되지 않도록 함
+ */
+@Slf4j
+public class CircuitBreakingCache implements PatchableCache {
+
+    private final Cache delegate;
+    private final CacheCircuitBreaker breaker;
+    private final int maxPendingEvictions;
+
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private volatile boolean pendingClear;
+
+    public CircuitBreakingCache(Cache delegate, CacheCircuitBreaker breaker, int maxPendingEvictions) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.maxPendingEvictions = maxPendingEvictions;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        return execute(() -> delegate.get(key), null);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        return execute(() -> delegate.get(key, type), null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        execute(() -> {
+            delegate.put(key, value);
+            return null;
+        }, null);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        return execute(() -> delegate.putIfAbsent(key, value), null);
+    }
+
+    @Override
+    public void patch(Object key, Object previous, Object updated) {
+        if (!(delegate instanceof PatchableCache patchable)) {
+            put(key, updated);
+            return;
+        }
+        Boolean patched = execute(() -> {
+            patchable.patch(key, previous, updated);
+            return Boolean.TRUE;
+        }, null);
+        if (patched == null) {
+            // 실행되지 않음 - 복구 후 이전 값이 남지 않도록 evict로 기억
+            remember(key);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        Boolean evicted = execute(() -> delegate.evictIfPresent(key), null);
+        if (evicted == null) {
+            // 실행되지 않음 (OPEN 또는 Redis 오류)
+            remember(key);
+            return false;
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+    }
+
+    @Override
+    public boolean invalidate() {
+        Boolean invalidated = execute(delegate::invalidate, null);
+        if (invalidated == null) {
+            pendingClear = true;
+            return false;
+        }
+        return invalidated;
+    }
+
+    /* ---------- breaker ---------- */
+
+    @Nullable
+    private <T> T execute(Supplier<T> call, @Nullable T fallback) {
+        if (!breaker.tryAcquire()) {
+            return fallback;
+        }
+
+        long start = System.nanoTime();
+        try {
+            replayPending();
+            T result = call.get();
+            breaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (DataAccessException ex) {
+            // Redis 연결/타임아웃 오류만 집계 (직렬화 오류 등은 CacheErrorHandler로 전달)
+            breaker.onError();
+            log.warn("CircuitBreakingCache - redis call failed on {} ({})", getName(), ex.toString());
+            return fallback;
+        } catch (RuntimeException ex) {
+            // Redis는 응답함 - 결과를 기록해야 HALF_OPEN 시험 호출 허가가 반환됨
+            breaker.onSuccess(System.nanoTime() - start);
+            throw ex;
+        }
+    }
+
+    private void remember(Object key) {
+        if (pendingClear) {
+            return;
+        }
+        if (pendingEvictions.size() >= maxPendingEvictions) {
+            pendingClear = true;
+            pendingEvictions.clear();
+            return;
+        }
+        pendingEvictions.add(key);
+    }
+
+    /**
+     * OPEN 동안 건너뛴 evict / clear 재실행 (CLOSED 복구 후 첫 호출들에서)
+     */
+    private void replayPending() {
+        if ((!pendingClear && pendingEvictions.isEmpty()) || breaker.getState() != CacheCircuitBreaker.State.CLOSED) {
+            return;
+        }
+        try {
+            if (pendingClear) {
+                delegate.clear();
+                pendingClear = false;
+                pendingEvictions.clear();
+                log.info("CircuitBreakingCache - cleared {} after recovery", getName());
+                return;
+            }
+            Iterator<Object> iterator = pendingEvictions.iterator();
+            while (iterator.hasNext()) {
+                delegate.evict(iterator.next());
+                iterator.remove();
+            }
+        } catch (DataAccessException ex) {
+            // 남은 항목은 다음 호출에서 재시도 (그 전에 만료되면 TTL로 정리됨)
+            breaker.onError();
+            log.warn("CircuitBreakingCache - replaying pending evictions failed on {}", getName(), ex);
+        }
+    }
+}
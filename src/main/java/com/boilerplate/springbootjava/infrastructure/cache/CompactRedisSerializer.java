@@ -0,0 +1,172 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 바이너리 Redis 값 직렬화 (Smile + 선택적 LZ4)
+ * - 형식: [FORMAT(1)][flags(1)][typeId(2)][payload]
+ *         LZ4 압축 시 payload = [원본 길이(4)][LZ4 block]
+ * - 클래스 이름 대신 CacheTypeRegistry의 타입 id 사용 (default typing / MixIn 불필요)
+ * - 레지스트리에 없는 타입과 기존(JSON) 값은 legacy serializer로 처리
+ *   (JSON은 FORMAT 바이트로 시작할 수 없으므로 첫 바이트로 구분)
+ * - 알 수 없는 타입 id (다른 버전 노드가 기록)는 null 반환 -> 캐시 미스로 처리되어 다시 적재
+ * - 손상된 값(원본 길이가 음수 / maxDecompressedSize 초과 등)은 SerializationException (할당 전에 거절)
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT = 0x01;
+    static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_SIZE = 4;
+
+    // safeInstance: JNI/Unsafe 미사용
+    private static final LZ4Factory LZ4 = LZ4Factory.safeInstance();
+
+    private final ObjectMapper smileMapper;
+    private final CacheTypeRegistry registry;
+    private final int compressionThreshold;
+    private final int maxDecompressedSize;
+    private final RedisSerializer<?> legacy;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4.safeDecompressor();
+
+    /**
+     * @param compressionThreshold 이 크기(바이트) 이상인 payload만 LZ4 압축 (0 이하면 압축 안 함)
+     * @param maxDecompressedSize  압축 해제 후 최대 크기(바이트) - 헤더의 원본 길이가 이보다 크면 거절
+     * @param legacy               기존 JSON serializer (읽기 호환 + 미등록 타입 쓰기)
+     */
+    public CompactRedisSerializer(ObjectMapper smileMapper,
+                                  CacheTypeRegistry registry,
+                                  int compressionThreshold,
+                                  int maxDecompressedSize,
+                                  RedisSerializer<?> legacy) {
+        this.smileMapper = smileMapper;
+        this.registry = registry;
+        this.compressionThreshold = compressionThreshold;
+        this.maxDecompressedSize = maxDecompressedSize;
+        this.legacy = legacy;
+    }
+
+    /**
+     * 캐시용 Smile ObjectMapper (타입 정보 없음)
+     */
+    public static ObjectMapper defaultSmileMapper() {
+        ObjectMapper mapper = new ObjectMapper(new SmileFactory());
+        mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new ParameterNamesModule());
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        Integer typeId = registry.idOf(value);
+        if (typeId == null) {
+            return ((RedisSerializer<Object>) legacy).serialize(value);
+        }
+
+        byte[] payload;
+        try {
+            payload = smileMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+
+        byte flags = 0;
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+            byte[] compressed = compress(payload);
+            // 압축 효과가 없으면 원본 유지
+            if (compressed.length < payload.length) {
+                payload = compressed;
+                flags |= FLAG_LZ4;
+            }
+        }
+
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(FORMAT)
+                .put(flags)
+                .putShort((short) typeId.intValue())
+                .put(payload)
+                .array();
+    }
+
+    @Override
+    @Nullable
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != FORMAT) {
+            return legacy.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("Truncated cache value: " + bytes.length + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        byte flags = buffer.get();
+        int typeId = Short.toUnsignedInt(buffer.getShort());
+
+        JavaType type = registry.typeOf(typeId);
+        if (type == null) {
+            log.warn("CompactRedisSerializer - unknown type id {}, treating as cache miss", typeId);
+            return null;
+        }
+
+        byte[] payload = (flags & FLAG_LZ4) != 0
+                ? decompress(bytes)
+                : Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+        try {
+            return smileMapper.readValue(payload, type);
+        } catch (Exception e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] compress(byte[] payload) {
+        int maxLength = compressor.maxCompressedLength(payload.length);
+        byte[] out = new byte[4 + maxLength];
+        ByteBuffer.wrap(out).putInt(payload.length);
+        int length = compressor.compress(payload, 0, payload.length, out, 4, maxLength);
+        return Arrays.copyOf(out, 4 + length);
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        if (bytes.length < HEADER_SIZE + 4) {
+            throw new SerializationException("Truncated compressed cache value: " + bytes.length + " bytes");
+        }
+        int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, 4).getInt();
+        if (originalLength < 0 || originalLength > maxDecompressedSize) {
+            throw new SerializationException("Invalid decompressed length: " + originalLength
+                    + " (max " + maxDecompressedSize + ")");
+        }
+        try {
+            byte[] out = new byte[originalLength];
+            decompressor.decompress(bytes, HEADER_SIZE + 4, bytes.length - HEADER_SIZE - 4, out, 0, originalLength);
+            return out;
+        } catch (Exception e) {
+            throw new SerializationException("Could not decompress cache value: " + e.getMessage(), e);
+        }
+    }
+}
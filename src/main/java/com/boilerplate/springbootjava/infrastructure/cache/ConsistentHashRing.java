@@ -0,0 +1,111 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 가상 노드 기반 consistent hash ring
+ * - 노드마다 virtualNodes개의 점을 ring에 배치, 키는 시계 방향으로 처음 만나는 노드로 매핑
+ * - 노드 추가 시 약 1/(N+1)의 키만 새 노드로 이동 (나머지 키의 위치는 유지)
+ * - 노드 위치는 노드 이름으로 결정 (목록 순서 / 주소 변경과 무관)
+ * - 불변 객체 (노드 변경 시 새로 생성)
+ */
+public class ConsistentHashRing<T> {
+
+    private final NavigableMap<Long, T> ring;
+    private final Map<String, T> nodes;
+
+    /**
+     * @param nodes        노드 이름 -> 노드
+     * @param virtualNodes 노드당 가상 노드 수 (클수록 고르게 분산, 보통 100~200)
+     */
+    public ConsistentHashRing(Map<String, T> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("ConsistentHashRing requires at least one node");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive: " + virtualNodes);
+        }
+        this.nodes = Collections.unmodifiableMap(new LinkedHashMap<>(nodes));
+        this.ring = new TreeMap<>();
+
+        new TreeMap<>(nodes).forEach((name, node) -> {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 해시 충돌 시 이름이 작은 노드가 차지 (노드 추가 순서와 무관하게 결정적)
+                ring.merge(hash(name + "#" + i), node, (existing, added) -> existing);
+            }
+        });
+    }
+
+    private ConsistentHashRing(NavigableMap<Long, T> ring, Map<String, T> nodes) {
+        this.ring = ring;
+        this.nodes = nodes;
+    }
+
+    /**
+     * 같은 배치(ring 위치)를 유지한 채 노드 값만 변환
+     */
+    public <U> ConsistentHashRing<U> map(Function<? super T, ? extends U> mapper) {
+        Map<T, U> mapped = new IdentityHashMap<>();
+        Map<String, U> mappedNodes = new LinkedHashMap<>();
+        nodes.forEach((name, node) -> mappedNodes.put(name, mapped.computeIfAbsent(node, mapper)));
+
+        NavigableMap<Long, U> mappedRing = new TreeMap<>();
+        ring.forEach((point, node) -> mappedRing.put(point, mapped.get(node)));
+        return new ConsistentHashRing<>(mappedRing, Collections.unmodifiableMap(mappedNodes));
+    }
+
+    public T nodeFor(String key) {
+        return nodeFor(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public T nodeFor(byte[] key) {
+        Map.Entry<Long, T> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * 여러 키를 노드별로 묶음 (다중 키 명령을 노드마다 나눠 실행할 때)
+     */
+    public <K> Map<T, List<K>> partition(Collection<K> items, Function<? super K, String> keyFunction) {
+        Map<T, List<K>> partitions = new LinkedHashMap<>();
+        for (K item : items) {
+            partitions.computeIfAbsent(nodeFor(keyFunction.apply(item)), node -> new ArrayList<>()).add(item);
+        }
+        return partitions;
+    }
+
+    public Map<String, T> nodes() {
+        return nodes;
+    }
+
+    static long hash(String value) {
+        return hash(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * FNV-1a 64bit + murmur3 fmix64 (짧은 키에서도 비트가 고르게 섞이도록)
+     */
+    static long hash(byte[] bytes) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
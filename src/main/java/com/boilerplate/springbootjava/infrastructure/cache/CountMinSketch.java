@@ -0,0 +1,92 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch (conservative update)
+ * - depth개 행 x width개 카운터, 키마다 행별로 하나씩 증가시키고 최솟값을 추정치로 사용
+ * - 추정치는 실제보다 작지 않음 (해시 충돌 시 과대 추정만 발생)
+ * - conservative update: 최솟값과 같은 카운터만 증가 (과대 추정 감소)
+ * - lock-free (카운터 단위 CAS), halve()로 주기적 감쇠
+ */
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9e3779b97f4a7c15L, 0xbf58476d1ce4e5b9L, 0x94d049bb133111ebL, 0xd6e8feb86659fd93L,
+            0xa0761d6478bd642fL, 0xe7037ed1a0b428dbL, 0x8ebc6af09c88c6e3L, 0x589965cc75374cc3L
+    };
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    /**
+     * @param depth 행 수 (1~8, 클수록 과대 추정 확률 감소)
+     * @param width 행당 카운터 수 (2의 거듭제곱으로 올림, 클수록 오차 감소)
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length + ": " + depth);
+        }
+        if (width < 1) {
+            throw new IllegalArgumentException("width must be positive: " + width);
+        }
+        int powerOfTwo = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        this.depth = depth;
+        this.mask = powerOfTwo - 1;
+        this.counters = new AtomicLongArray(depth * powerOfTwo);
+    }
+
+    /**
+     * @return 증가 후 추정치
+     */
+    public long increment(Object key) {
+        int hash = key.hashCode();
+        int[] indexes = new int[depth];
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = index(hash, row);
+            min = Math.min(min, counters.get(indexes[row]));
+        }
+
+        long target = min + 1;
+        for (int index : indexes) {
+            long current = counters.get(index);
+            while (current < target && !counters.compareAndSet(index, current, target)) {
+                current = counters.get(index);
+            }
+        }
+        return target;
+    }
+
+    public long estimate(Object key) {
+        int hash = key.hashCode();
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(hash, row)));
+        }
+        return min;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 (최근 접근에 가중치를 두기 위한 감쇠)
+     */
+    public void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            long current;
+            do {
+                current = counters.get(i);
+            } while (!counters.compareAndSet(i, current, current >>> 1));
+        }
+    }
+
+    private int index(int hash, int row) {
+        long h = (hash & 0xffffffffL) ^ SEEDS[row];
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return row * (mask + 1) + (int) (h & mask);
+    }
+}
@@ -0,0 +1,36 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.lang.Nullable;
+
+/**
+ * 캐시 오류를 요청 실패로 만들지 않는 CacheErrorHandler
+ * - 조회 오류: 미스로 처리하여 메서드(DB) 실행
+ * - 저장 / 삭제 오류: 로그만 남김 (삭제 실패분은 TTL로 정리)
+ * - Redis 연결/지연 오류는 CircuitBreakingCache가 먼저 처리하므로, 여기에는 주로 직렬화 오류 등이 전달됨
+ */
+@Slf4j
+public class DegradedCacheErrorHandler implements CacheErrorHandler {
+
+    @Override
+    public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+        log.warn("Cache get failed, falling through: {}::{}", cache.getName(), key, exception);
+    }
+
+    @Override
+    public void handleCachePutError(RuntimeException exception, Cache cache, Object key, @Nullable Object value) {
+        log.warn("Cache put failed: {}::{}", cache.getName(), key, exception);
+    }
+
+    @Override
+    public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+        log.warn("Cache evict failed: {}::{}", cache.getName(), key, exception);
+    }
+
+    @Override
+    public void handleCacheClearError(RuntimeException exception, Cache cache) {
+        log.warn("Cache clear failed: {}", cache.getName(), exception);
+    }
+}
@@ -0,0 +1,22 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+/**
+ * 캐시 값 <-> Redis hash 필드 변환
+ * - null 필드는 hash에 저장하지 않음
+ */
+public interface HashCodec<T> {
+
+    Class<T> type();
+
+    Map<String, String> encode(T value);
+
+    /**
+     * @return 필수 필드가 없으면 null (캐시 미스로 처리)
+     */
+    @Nullable
+    T decode(Map<String, String> fields);
+}
@@ -0,0 +1,41 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 캐시별 hot 키 (GET /actuator/hotkeys) - 이 노드 기준 추정치
+ * - management.endpoints.web.exposure.include에 hotkeys 추가 필요
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeyEndpoint {
+
+    private final HotKeyTrackers hotKeyTrackers;
+    private final AppCacheProperties properties;
+
+    @ReadOperation
+    public Map<String, List<HotKeyTracker.HotKey>> hotKeys() {
+        Map<String, List<HotKeyTracker.HotKey>> result = new TreeMap<>();
+        hotKeyTrackers.all().forEach(tracker ->
+                result.put(tracker.getName(), tracker.top(properties.getHotKeys().getTopK())));
+        return result;
+    }
+
+    @ReadOperation
+    @Nullable
+    public List<HotKeyTracker.HotKey> cacheHotKeys(@Selector String cacheName) {
+        HotKeyTracker tracker = hotKeyTrackers.find(cacheName);
+        return tracker != null ? tracker.top(properties.getHotKeys().getTopK()) : null;
+    }
+}
@@ -0,0 +1,104 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캐시 접근 heavy hitter 추적 (노드 단위)
+ * - count-min sketch로 모든 키의 접근 수를 추정, 추정치가 큰 상위 K개 키만 보관
+ * - sampleSize번 접근마다 sketch / 상위 K 카운트를 절반으로 감쇠 (최근 인기 위주)
+ * - 상위 K 안에 있고 추정치가 minHits 이상이면 hot 키
+ */
+public class HotKeyTracker {
+
+    private final String name;
+    private final AppCacheProperties.HotKeys settings;
+    private final CountMinSketch sketch;
+    private final AtomicLong accesses = new AtomicLong();
+
+    // 상위 K 키 -> 추정 접근 수
+    private final ConcurrentMap<Object, Long> top = new ConcurrentHashMap<>();
+    // 상위 K가 가득 찼을 때 진입 기준 (가장 작은 카운트)
+    private volatile long admissionThreshold;
+
+    public HotKeyTracker(String name, AppCacheProperties.HotKeys settings) {
+        this.name = name;
+        this.settings = settings;
+        this.sketch = new CountMinSketch(settings.getSketchDepth(), settings.getSketchWidth());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(Object key) {
+        long estimate = sketch.increment(key);
+
+        if (top.replace(key, estimate) == null
+                && (top.size() < settings.getTopK() || estimate > admissionThreshold)) {
+            admit(key, estimate);
+        }
+
+        if (accesses.incrementAndGet() % settings.getSampleSize() == 0) {
+            age();
+        }
+    }
+
+    public boolean isHot(Object key) {
+        Long count = top.get(key);
+        return count != null && count >= settings.getMinHits();
+    }
+
+    /**
+     * @return 추정 접근 수 내림차순 상위 limit개
+     */
+    public List<HotKey> top(int limit) {
+        return top.entrySet().stream()
+                .sorted(Map.Entry.<Object, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(entry -> new HotKey(String.valueOf(entry.getKey()), entry.getValue(),
+                        entry.getValue() >= settings.getMinHits()))
+                .toList();
+    }
+
+    private synchronized void admit(Object key, long estimate) {
+        if (top.size() >= settings.getTopK()) {
+            Map.Entry<Object, Long> coldest = coldest();
+            if (coldest == null || coldest.getValue() >= estimate) {
+                return;
+            }
+            top.remove(coldest.getKey());
+        }
+        top.put(key, estimate);
+        refreshThreshold();
+    }
+
+    private synchronized void age() {
+        sketch.halve();
+        top.replaceAll((key, count) -> count >>> 1);
+        top.values().removeIf(count -> count == 0);
+        refreshThreshold();
+    }
+
+    private void refreshThreshold() {
+        Map.Entry<Object, Long> coldest = coldest();
+        admissionThreshold = top.size() >= settings.getTopK() && coldest != null ? coldest.getValue() : 0;
+    }
+
+    private Map.Entry<Object, Long> coldest() {
+        return top.entrySet().stream().min(Comparator.comparingLong(Map.Entry::getValue)).orElse(null);
+    }
+
+    /**
+     * @param estimatedHits 감쇠 적용 후 추정 접근 수
+     * @param hot           조기 갱신 대상 여부
+     */
+    public record HotKey(String key, long estimatedHits, boolean hot) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 캐시 이름별 HotKeyTracker 보관
+ * - app.cache.hot-keys.enabled=false 이거나 caches에 없는 캐시는 추적하지 않음 (null)
+ */
+@Component
+@RequiredArgsConstructor
+public class HotKeyTrackers {
+
+    private final AppCacheProperties properties;
+    private final ConcurrentMap<String, HotKeyTracker> trackers = new ConcurrentHashMap<>();
+
+    @Nullable
+    public HotKeyTracker forCache(String cacheName) {
+        AppCacheProperties.HotKeys settings = properties.getHotKeys();
+        if (!settings.isEnabled() || !settings.getCaches().contains(cacheName)) {
+            return null;
+        }
+        return trackers.computeIfAbsent(cacheName, name -> new HotKeyTracker(name, settings));
+    }
+
+    @Nullable
+    public HotKeyTracker find(String cacheName) {
+        return trackers.get(cacheName);
+    }
+
+    public Collection<HotKeyTracker> all() {
+        return trackers.values();
+    }
+}
@@ -0,0 +1,43 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TTL jitter
+ * - 같은 시점에 적재된 엔트리들이 같은 시점에 만료(lockstep)되지 않도록 TTL을 0~jitterPercent% 만큼 랜덤하게 늘림.
+ * - 설정된 TTL보다 짧아지지는 않음.
+ */
+public class JitteredTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final long baseMillis;
+    private final long maxJitterMillis;
+
+    public JitteredTtlFunction(Duration baseTtl, int jitterPercent) {
+        if (jitterPercent < 0 || jitterPercent > 100) {
+            throw new IllegalArgumentException("jitterPercent must be between 0 and 100: " + jitterPercent);
+        }
+        this.baseMillis = baseTtl.toMillis();
+        this.maxJitterMillis = baseMillis * jitterPercent / 100;
+    }
+
+    /**
+     * jitter가 0이면 고정 TTL 함수를 반환.
+     */
+    public static RedisCacheWriter.TtlFunction of(Duration baseTtl, int jitterPercent) {
+        return jitterPercent == 0
+                ? RedisCacheWriter.TtlFunction.just(baseTtl)
+                : new JitteredTtlFunction(baseTtl, jitterPercent);
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, @Nullable Object value) {
+        if (maxJitterMillis <= 0) {
+            return Duration.ofMillis(baseMillis);
+        }
+        return Duration.ofMillis(baseMillis + ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
+    }
+}
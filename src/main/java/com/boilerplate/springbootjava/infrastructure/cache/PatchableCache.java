@@ -0,0 +1,24 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+
+/**
+ * 변경된 필드만 기록할 수 있는 캐시
+ * - previous(변경 전 값)와 updated(변경 후 값)를 비교하여 다른 필드만 저장소에 반영
+ * - 데코레이터는 대상 캐시가 지원하지 않으면 put(updated)로 처리
+ */
+public interface PatchableCache extends Cache {
+
+    void patch(Object key, Object previous, Object updated);
+
+    /**
+     * cache가 PatchableCache면 patch, 아니면 put
+     */
+    static void patchOrPut(Cache cache, Object key, Object previous, Object updated) {
+        if (cache instanceof PatchableCache patchable) {
+            patchable.patch(key, previous, updated);
+        } else {
+            cache.put(key, updated);
+        }
+    }
+}
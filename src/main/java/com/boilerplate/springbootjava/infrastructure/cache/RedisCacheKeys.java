@@ -0,0 +1,23 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+
+/**
+ * RedisCache가 실제로 사용하는 Redis key 문자열 생성 (prefix + 변환된 캐시 키)
+ * - RedisCache를 거치지 않고 같은 키에 직접 접근(PTTL, 락, 파이프라인 쓰기 등)할 때 사용
+ */
+public final class RedisCacheKeys {
+
+    private RedisCacheKeys() {
+    }
+
+    public static String of(String cacheName, RedisCacheConfiguration config, Object key) {
+        String converted = key instanceof String stringKey
+                ? stringKey
+                : config.getConversionService().convert(key, String.class);
+
+        return config.usePrefix()
+                ? config.getKeyPrefixFor(cacheName) + converted
+                : converted;
+    }
+}
@@ -0,0 +1,49 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 캐시 적재용 짧은 분산 락 (SET NX PX)
+ * - 소유 토큰이 일치할 때만 해제 (다른 노드의 락을 지우지 않도록 Lua로 비교 후 삭제)
+ * - 트랜잭션 지원이 켜진 redisTemplate 대신 StringRedisTemplate 사용 (MULTI 큐잉 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCacheLock {
+
+    private static final String LOCK_KEY_PREFIX = "lock:";
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('del', KEYS[1]) "
+                    + "else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 락 획득 시도 (대기하지 않음)
+     *
+     * @return 획득 시 해제에 필요한 소유 토큰
+     */
+    public Optional<String> tryLock(String key, Duration timeout) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY_PREFIX + key, token, timeout);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    public void unlock(String key, String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY_PREFIX + key), token);
+    }
+}
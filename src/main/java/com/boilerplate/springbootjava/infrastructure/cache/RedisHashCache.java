@@ -0,0 +1,351 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Redis hash 기반 캐시 (L2)
+ * - 엔트리 하나 = hash 하나, 속성 하나 = 필드 하나 (HashCodec)
+ * - 전체 기록: DEL + HSET + PEXPIRE (Lua, 원자적)
+ * - patch: 변경된 필드만 HSET / HDEL (TTL 유지)
+ *   저장된 version이 변경 전 값과 다르면 병합하지 않고 삭제, 엔트리가 없으면 전체 기록
+ * - getFields: 필요한 필드만 HMGET
+ * - 키 / TTL은 같은 이름의 RedisCacheConfiguration을 따름 (분산 락, PTTL 조회와 같은 키)
+ * - 연결은 RedisKeyRouter로 선택: 조회(HGETALL / HMGET)는 reader(replica), 그 외는 master, 샤딩 시 키가 속한 노드
+ */
+@Slf4j
+public class RedisHashCache<T> implements PatchableCache {
+
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) "
+                    + "if tonumber(ARGV[1]) > 0 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end "
+                    + "return 1",
+            Long.class
+    );
+
+    private static final RedisScript<Long> PUT_IF_ABSENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) "
+                    + "if tonumber(ARGV[1]) > 0 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end "
+                    + "return 1",
+            Long.class
+    );
+
+    // ARGV: versionField, expectedVersion, setCount, set 필드/값 쌍..., 삭제할 필드...
+    // 반환: 1 반영 / 0 version 불일치로 삭제 / -1 엔트리 없음
+    private static final RedisScript<Long> PATCH_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('HGET', KEYS[1], ARGV[1]) "
+                    + "if not version then return -1 end "
+                    + "if version ~= ARGV[2] then redis.call('UNLINK', KEYS[1]) return 0 end "
+                    + "local n = tonumber(ARGV[3]) "
+                    + "if n > 0 then redis.call('HSET', KEYS[1], unpack(ARGV, 4, 3 + n * 2)) end "
+                    + "if #ARGV > 3 + n * 2 then redis.call('HDEL', KEYS[1], unpack(ARGV, 4 + n * 2)) end "
+                    + "return 1",
+            Long.class
+    );
+
+    private final String name;
+    private final RedisKeyRouter router;
+    private final RedisCacheConfiguration config;
+    private final HashCodec<T> codec;
+    private final String versionField;
+
+    public RedisHashCache(String name,
+                          StringRedisTemplate stringRedisTemplate,
+                          RedisCacheConfiguration config,
+                          HashCodec<T> codec,
+                          String versionField) {
+        this(name, RedisKeyRouter.single(stringRedisTemplate, stringRedisTemplate), config, codec, versionField);
+    }
+
+    public RedisHashCache(String name,
+                          RedisKeyRouter router,
+                          RedisCacheConfiguration config,
+                          HashCodec<T> codec,
+                          String versionField) {
+        this.name = name;
+        this.router = router;
+        this.config = config;
+        this.codec = codec;
+        this.versionField = versionField;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return router;
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        T value = lookup(key);
+        return value != null ? new SimpleValueWrapper(value) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <V> V get(Object key, @Nullable Class<V> type) {
+        T value = lookup(key);
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (V) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <V> V get(Object key, Callable<V> valueLoader) {
+        T cached = lookup(key);
+        if (cached != null) {
+            return (V) cached;
+        }
+
+        V value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * 필요한 필드만 조회 (HMGET)
+     *
+     * @return 필드명 -> 값 (없는 필드는 제외, 엔트리가 없으면 빈 Map)
+     */
+    public Map<String, String> getFields(Object key, String... fields) {
+        String redisKey = redisKey(key);
+        HashOperations<String, String, String> hash = router.reader(redisKey).opsForHash();
+        List<String> values = hash.multiGet(redisKey, Arrays.asList(fields));
+
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < fields.length; i++) {
+            if (values.get(i) != null) {
+                result.put(fields[i], values.get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        T typed = cast(value);
+        String redisKey = redisKey(key);
+        router.master(redisKey).execute(PUT_SCRIPT, List.of(redisKey), writeArgs(key, typed));
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        if (value == null) {
+            return get(key);
+        }
+        T typed = cast(value);
+        String redisKey = redisKey(key);
+        Long written = router.master(redisKey).execute(PUT_IF_ABSENT_SCRIPT, List.of(redisKey), writeArgs(key, typed));
+        if (Long.valueOf(1L).equals(written)) {
+            return null;
+        }
+        // 기존 값은 master에서 조회 (replica는 아직 복제 전일 수 있음)
+        T existing = lookup(redisKey, router.master(redisKey));
+        return existing != null ? new SimpleValueWrapper(existing) : null;
+    }
+
+    /**
+     * 여러 엔트리를 파이프라인으로 기록 (이미 있는 엔트리는 유지)
+     * - 샤딩 시 노드별로 나눠 파이프라인 실행
+     */
+    public void putAllIfAbsent(Map<?, T> values) {
+        Map<StringRedisTemplate, Map<Object, T>> byNode = new LinkedHashMap<>();
+        values.forEach((key, value) -> byNode
+                .computeIfAbsent(router.master(redisKey(key)), node -> new LinkedHashMap<>())
+                .put(key, value));
+
+        byNode.forEach((template, entries) -> template.executePipelined((RedisCallback<Object>) connection -> {
+            entries.forEach((key, value) -> {
+                Object[] args = writeArgs(key, value);
+                byte[][] keysAndArgs = new byte[args.length + 1][];
+                keysAndArgs[0] = bytes(redisKey(key));
+                for (int i = 0; i < args.length; i++) {
+                    keysAndArgs[i + 1] = bytes((String) args[i]);
+                }
+                connection.scriptingCommands().eval(bytes(PUT_IF_ABSENT_SCRIPT.getScriptAsString()),
+                        ReturnType.INTEGER, 1, keysAndArgs);
+            });
+            return null;
+        }));
+    }
+
+    @Override
+    public void patch(Object key, Object previous, Object updated) {
+        T before = cast(previous);
+        T after = cast(updated);
+        Map<String, String> oldFields = codec.encode(before);
+        Map<String, String> newFields = codec.encode(after);
+
+        List<String> sets = new ArrayList<>();
+        newFields.forEach((field, value) -> {
+            if (!value.equals(oldFields.get(field))) {
+                sets.add(field);
+                sets.add(value);
+            }
+        });
+        List<String> deletes = oldFields.keySet().stream()
+                .filter(field -> !newFields.containsKey(field))
+                .toList();
+        if (sets.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(3 + sets.size() + deletes.size());
+        args.add(versionField);
+        args.add(Objects.requireNonNull(oldFields.get(versionField), versionField));
+        args.add(Integer.toString(sets.size() / 2));
+        args.addAll(sets);
+        args.addAll(deletes);
+
+        String redisKey = redisKey(key);
+        Long patched = router.master(redisKey).execute(PATCH_SCRIPT, List.of(redisKey), args.toArray());
+        if (Long.valueOf(-1L).equals(patched)) {
+            // 캐시에 없으면 전체 기록 (@CachePut과 같은 동작)
+            put(key, after);
+        } else if (Long.valueOf(0L).equals(patched)) {
+            log.debug("RedisHashCache - {}::{} version changed, evicted instead of patching", name, key);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        String redisKey = redisKey(key);
+        router.master(redisKey).unlink(redisKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String redisKey = redisKey(key);
+        return Boolean.TRUE.equals(router.master(redisKey).unlink(redisKey));
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+    }
+
+    @Override
+    public boolean invalidate() {
+        String pattern = config.getKeyPrefixFor(name) + "*";
+        long removed = 0;
+        for (StringRedisTemplate template : router.masters()) {
+            try (Cursor<String> cursor = template.scan(ScanOptions.scanOptions().match(pattern).count(500).build())) {
+                List<String> batch = new ArrayList<>(500);
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() == 500) {
+                        removed += unlink(template, batch);
+                    }
+                }
+                removed += unlink(template, batch);
+            }
+        }
+        return removed > 0;
+    }
+
+    /* ---------- internal ---------- */
+
+    @Nullable
+    private T lookup(Object key) {
+        String redisKey = redisKey(key);
+        return lookup(redisKey, router.reader(redisKey));
+    }
+
+    @Nullable
+    private T lookup(String redisKey, StringRedisTemplate template) {
+        HashOperations<String, String, String> hash = template.opsForHash();
+        Map<String, String> fields;
+        try {
+            fields = hash.entries(redisKey);
+        } catch (InvalidDataAccessApiUsageException ex) {
+            // WRONGTYPE - 같은 키에 다른 형식(문자열 값)으로 저장된 이전 엔트리
+            log.debug("RedisHashCache - replacing non-hash entry {}", redisKey);
+            router.master(redisKey).unlink(redisKey);
+            return null;
+        }
+        return fields.isEmpty() ? null : codec.decode(fields);
+    }
+
+    private Object[] writeArgs(Object key, T value) {
+        Map<String, String> fields = codec.encode(value);
+        Duration ttl = config.getTtlFunction().getTimeToLive(key, value);
+
+        Object[] args = new Object[1 + fields.size() * 2];
+        args[0] = Long.toString(ttl.isNegative() ? 0 : ttl.toMillis());
+        int i = 1;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            args[i++] = field.getKey();
+            args[i++] = field.getValue();
+        }
+        return args;
+    }
+
+    private T cast(Object value) {
+        if (!codec.type().isInstance(value)) {
+            throw new IllegalArgumentException(
+                    "Cache '" + name + "' only stores " + codec.type().getName() + ": " + value.getClass().getName());
+        }
+        return codec.type().cast(value);
+    }
+
+    private static long unlink(StringRedisTemplate template, Collection<String> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Long count = template.unlink(batch);
+        batch.clear();
+        return count != null ? count : 0;
+    }
+
+    private String redisKey(Object key) {
+        return RedisCacheKeys.of(name, config, key);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
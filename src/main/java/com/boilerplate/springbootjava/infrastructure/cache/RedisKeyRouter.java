@@ -0,0 +1,62 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis 키별 연결 선택
+ * - master: 기록 / 삭제 / Lua, reader: 조회 (replica 설정 시 replica)
+ * - 샤딩 시 키가 속한 노드의 연결
+ */
+public interface RedisKeyRouter {
+
+    StringRedisTemplate master(String redisKey);
+
+    StringRedisTemplate reader(String redisKey);
+
+    /**
+     * 패턴 삭제(SCAN)처럼 모든 노드에 보내야 하는 명령용
+     */
+    Collection<StringRedisTemplate> masters();
+
+    static RedisKeyRouter single(StringRedisTemplate master, StringRedisTemplate reader) {
+        return new RedisKeyRouter() {
+            @Override
+            public StringRedisTemplate master(String redisKey) {
+                return master;
+            }
+
+            @Override
+            public StringRedisTemplate reader(String redisKey) {
+                return reader;
+            }
+
+            @Override
+            public Collection<StringRedisTemplate> masters() {
+                return List.of(master);
+            }
+        };
+    }
+
+    static RedisKeyRouter sharded(RedisShards shards) {
+        List<StringRedisTemplate> masters = shards.all().stream().map(RedisShards.Shard::template).toList();
+        return new RedisKeyRouter() {
+            @Override
+            public StringRedisTemplate master(String redisKey) {
+                return shards.shardFor(redisKey).template();
+            }
+
+            @Override
+            public StringRedisTemplate reader(String redisKey) {
+                return shards.shardFor(redisKey).template();
+            }
+
+            @Override
+            public Collection<StringRedisTemplate> masters() {
+                return masters;
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.RedisReplicaProperties;
+import io.lettuce.core.ReadFrom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+
+/**
+ * 캐시 조회 전용 Redis 연결 (replica 우선)
+ * - spring.data.redis.sentinel 설정 시 sentinel 토폴로지, 아니면 master + app.redis.replica.nodes 정적 토폴로지
+ * - RedisConnectionFactory Bean으로 등록하지 않음 (기본 master 연결 자동 설정을 유지)
+ * - 기록 / 삭제 / 락 / Lua / Pub/Sub은 기본 연결(master) 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.redis.replica", name = "enabled", havingValue = "true")
+public class RedisReadReplica implements DisposableBean {
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisReadReplica(RedisProperties redisProperties, RedisReplicaProperties replicaProperties) {
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder client = LettuceClientConfiguration.builder()
+                .readFrom(ReadFrom.valueOf(replicaProperties.getReadFrom()));
+        if (redisProperties.getTimeout() != null) {
+            client.commandTimeout(redisProperties.getTimeout());
+        }
+
+        this.connectionFactory = new LettuceConnectionFactory(serverConfiguration(redisProperties, replicaProperties),
+                client.build());
+        this.connectionFactory.afterPropertiesSet();
+        this.connectionFactory.start();
+
+        this.stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        log.info("RedisReadReplica - cache reads routed with ReadFrom={} ({})", replicaProperties.getReadFrom(),
+                redisProperties.getSentinel() != null ? "sentinel" : "static " + replicaProperties.getNodes());
+    }
+
+    public RedisConnectionFactory getConnectionFactory() {
+        return connectionFactory;
+    }
+
+    public StringRedisTemplate getStringRedisTemplate() {
+        return stringRedisTemplate;
+    }
+
+    @Override
+    public void destroy() {
+        connectionFactory.destroy();
+    }
+
+    private static RedisConfiguration serverConfiguration(RedisProperties redisProperties,
+                                                          RedisReplicaProperties replicaProperties) {
+        RedisPassword password = RedisPassword.of(redisProperties.getPassword());
+        RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+
+        if (sentinel != null) {
+            RedisSentinelConfiguration config =
+                    new RedisSentinelConfiguration(sentinel.getMaster(), new LinkedHashSet<>(sentinel.getNodes()));
+            config.setUsername(redisProperties.getUsername());
+            config.setPassword(password);
+            config.setSentinelPassword(RedisPassword.of(sentinel.getPassword()));
+            config.setDatabase(redisProperties.getDatabase());
+            return config;
+        }
+
+        // 정적 토폴로지: 각 노드의 ROLE로 master / replica 구분
+        RedisStaticMasterReplicaConfiguration config =
+                new RedisStaticMasterReplicaConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        for (String node : replicaProperties.getNodes()) {
+            int separator = node.lastIndexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("app.redis.replica.nodes must be host:port - " + node);
+            }
+            config.addNode(node.substring(0, separator), Integer.parseInt(node.substring(separator + 1)));
+        }
+        config.setUsername(redisProperties.getUsername());
+        config.setPassword(password);
+        config.setDatabase(redisProperties.getDatabase());
+        return config;
+    }
+}
@@ -0,0 +1,128 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.RedisShardingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 샤딩 대상 캐시용 standalone Redis 노드 묶음
+ * - 키(cache:{epoch}:{cacheName}::{key}) 전체를 consistent hash로 노드에 매핑
+ * - RedisConnectionFactory Bean으로 등록하지 않음 (기본 연결 자동 설정 유지)
+ * - 분산 락 / Pub/Sub / 목록 generation은 기본 연결 사용 (키 위치와 무관)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.redis.sharding", name = "enabled", havingValue = "true")
+public class RedisShards implements DisposableBean {
+
+    /**
+     * 노드 하나 (연결 / 템플릿 / 캐시 writer)
+     */
+    public record Shard(String name,
+                        LettuceConnectionFactory connectionFactory,
+                        StringRedisTemplate template,
+                        RedisCacheWriter cacheWriter) {
+    }
+
+    private final Set<String> cacheNames;
+    private final ConsistentHashRing<Shard> ring;
+
+    public RedisShards(RedisProperties redisProperties, RedisShardingProperties shardingProperties) {
+        if (shardingProperties.getNodes().isEmpty()) {
+            throw new IllegalStateException("app.redis.sharding.enabled=true requires app.redis.sharding.nodes");
+        }
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder client = LettuceClientConfiguration.builder();
+        if (redisProperties.getTimeout() != null) {
+            client.commandTimeout(redisProperties.getTimeout());
+        }
+        LettuceClientConfiguration clientConfig = client.build();
+
+        Map<String, Shard> shards = new LinkedHashMap<>();
+        for (RedisShardingProperties.Node node : shardingProperties.getNodes()) {
+            String name = node.resolvedName();
+            if (shards.containsKey(name)) {
+                throw new IllegalStateException("Duplicate Redis shard name: " + name);
+            }
+            shards.put(name, connect(name, node, redisProperties, clientConfig));
+        }
+
+        this.cacheNames = new HashSet<>(shardingProperties.getCaches());
+        this.ring = new ConsistentHashRing<>(shards, shardingProperties.getVirtualNodes());
+
+        log.info("RedisShards - caches {} over {} nodes {}", cacheNames, shards.size(), shards.keySet());
+    }
+
+    public boolean isSharded(String cacheName) {
+        return cacheNames.contains(cacheName);
+    }
+
+    public Set<String> getCacheNames() {
+        return cacheNames;
+    }
+
+    public Shard shardFor(String redisKey) {
+        return ring.nodeFor(redisKey);
+    }
+
+    public Shard shardFor(byte[] redisKey) {
+        return ring.nodeFor(redisKey);
+    }
+
+    /**
+     * 다중 키 작업을 노드별로 묶음
+     */
+    public <K> Map<Shard, List<K>> partition(Collection<K> items, Function<? super K, String> redisKeyFunction) {
+        return ring.partition(items, redisKeyFunction);
+    }
+
+    /**
+     * 같은 ring 배치의 RedisCacheWriter
+     */
+    public ConsistentHashRing<RedisCacheWriter> cacheWriters() {
+        return ring.map(Shard::cacheWriter);
+    }
+
+    public Collection<Shard> all() {
+        return ring.nodes().values();
+    }
+
+    @Override
+    public void destroy() {
+        all().forEach(shard -> shard.connectionFactory().destroy());
+    }
+
+    private static Shard connect(String name,
+                                 RedisShardingProperties.Node node,
+                                 RedisProperties redisProperties,
+                                 LettuceClientConfiguration clientConfig) {
+        RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(node.getHost(), node.getPort());
+        server.setUsername(redisProperties.getUsername());
+        server.setPassword(RedisPassword.of(node.getPassword() != null ? node.getPassword() : redisProperties.getPassword()));
+        server.setDatabase(node.getDatabase());
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(server, clientConfig);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        return new Shard(name, connectionFactory, new StringRedisTemplate(connectionFactory),
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory));
+    }
+}
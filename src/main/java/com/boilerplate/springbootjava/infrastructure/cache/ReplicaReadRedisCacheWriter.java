@@ -0,0 +1,105 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 조회는 replica, 기록 / 삭제는 master로 보내는 RedisCacheWriter
+ * - time-to-idle 조회(GETEX, ttl != null)는 TTL을 갱신하므로 master
+ * - 복제 지연 동안 replica는 이전 값 / 미스를 반환할 수 있음 (TTL 캐시와 같은 수준의 일시적 불일치)
+ */
+public class ReplicaReadRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter master;
+    private final RedisCacheWriter replica;
+
+    public ReplicaReadRedisCacheWriter(RedisCacheWriter master, RedisCacheWriter replica) {
+        this.master = master;
+        this.replica = replica;
+    }
+
+    @Override
+    @Nullable
+    public byte[] get(String name, byte[] key) {
+        return replica.get(name, key);
+    }
+
+    @Override
+    @Nullable
+    public byte[] get(String name, byte[] key, @Nullable Duration ttl) {
+        return reader(ttl).get(name, key, ttl);
+    }
+
+    @Override
+    @Nullable
+    public byte[] get(String name, byte[] key, Supplier<byte[]> valueLoader,
+                      @Nullable Duration ttl, boolean timeToIdleEnabled) {
+        byte[] cached = timeToIdleEnabled ? null : replica.get(name, key);
+        return cached != null ? cached : master.get(name, key, valueLoader, ttl, timeToIdleEnabled);
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return master.supportsAsyncRetrieve() && replica.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, @Nullable Duration ttl) {
+        return reader(ttl).retrieve(name, key, ttl);
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        master.put(name, key, value, ttl);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        return master.store(name, key, value, ttl);
+    }
+
+    @Override
+    @Nullable
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        return master.putIfAbsent(name, key, value, ttl);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        master.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        master.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        master.clearStatistics(name);
+        replica.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        // 같은 collector를 공유하므로 조회 / 기록 통계가 하나로 집계됨
+        return new ReplicaReadRedisCacheWriter(
+                master.withStatisticsCollector(cacheStatisticsCollector),
+                replica.withStatisticsCollector(cacheStatisticsCollector));
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return master.getCacheStatistics(cacheName);
+    }
+
+    private RedisCacheWriter reader(@Nullable Duration ttl) {
+        return ttl == null ? replica : master;
+    }
+}
@@ -0,0 +1,199 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.lang.Nullable;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 직렬화된 응답 본문(byte[]) 캐시 - off-heap 고정 크기 arena
+ * - 본문은 direct ByteBuffer의 고정 크기 slot에 저장 (GC 대상 아님, 전체 크기 ≒ maxEntries * slotSize * 1.1)
+ * - 인덱스(키 -> slot / ETag)는 Caffeine, 제거(만료 / 용량 / 무효화) 시 slot 반환
+ * - slot마다 stamp(seqlock): 읽는 도중 slot이 재사용되면 미스 처리
+ * - 조회한 Body는 응답 기록이 끝날 때까지 slot을 고정(pin) - 복사 없이 arena에서 바로 응답, 끝나면 release
+ * - beginLoad / put 사이에 무효화되면 저장하지 않음 (조회 도중 변경된 이전 값이 남지 않도록)
+ */
+public class ResponseBodyCache {
+
+    private static final int STRIPES = 1_024;
+    private static final int MIN_SPARE_SLOTS = 16;
+
+    private final int slotSize;
+    private final ByteBuffer arena;
+    private final AtomicIntegerArray stamps;
+    private final AtomicIntegerArray pins;
+    private final BlockingQueue<Integer> freeSlots;
+    private final Cache<String, Entry> index;
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+
+    public ResponseBodyCache(int maxEntries, int slotSize, Duration ttl) {
+        // 교체 / 동시 기록 중에는 이전 slot이 아직 반환되지 않으므로 여유 slot 확보
+        int slots = maxEntries + Math.max(MIN_SPARE_SLOTS, maxEntries / 10);
+        this.slotSize = slotSize;
+        this.arena = ByteBuffer.allocateDirect(Math.multiplyExact(slots, slotSize));
+        this.stamps = new AtomicIntegerArray(slots);
+        this.pins = new AtomicIntegerArray(slots);
+        this.freeSlots = new ArrayBlockingQueue<>(slots);
+        for (int slot = 0; slot < slots; slot++) {
+            freeSlots.add(slot);
+        }
+        this.index = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                // 제거 즉시 slot 반환 (기본 비동기 executor 사용 시 반환이 늦어 slot 부족)
+                .executor(Runnable::run)
+                .<String, Entry>removalListener((key, entry, cause) -> {
+                    if (entry != null) {
+                        freeSlots.offer(entry.slot());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @return 캐시된 본문 (호출자가 응답 기록 후 Body.release 호출), 없으면 null
+     */
+    @Nullable
+    public Body get(String key) {
+        Entry entry = index.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+
+        int slot = entry.slot();
+        // pin 후 stamp 확인 - put은 stamp 변경 후 pin을 확인하므로 둘 중 하나는 반드시 상대를 봄
+        pins.incrementAndGet(slot);
+        if (stamps.get(slot) != entry.stamp()) {
+            pins.decrementAndGet(slot);
+            return null;
+        }
+        ByteBuffer content = arena.slice(offset(slot), entry.length()).asReadOnlyBuffer();
+        return new Body(entry.etag(), content, () -> pins.decrementAndGet(slot));
+    }
+
+    /**
+     * 원본 조회 전에 호출 - 반환값을 put에 전달
+     */
+    public long beginLoad(String key) {
+        return invalidations.get(stripe(key));
+    }
+
+    /**
+     * @return 저장 여부 (slot보다 크거나, slot 부족, beginLoad 이후 무효화된 경우 false)
+     */
+    public boolean put(String key, long loadToken, String etag, byte[] body) {
+        int stripe = stripe(key);
+        if (body.length > slotSize || invalidations.get(stripe) != loadToken) {
+            return false;
+        }
+
+        Integer slot = freeSlots.poll();
+        if (slot == null) {
+            // 용량 초과분 / 만료 엔트리 정리 후 재시도
+            index.cleanUp();
+            slot = freeSlots.poll();
+            if (slot == null) {
+                return false;
+            }
+        }
+
+        stamps.incrementAndGet(slot); // 홀수: 기록 중
+        if (pins.get(slot) != 0) {
+            // 제거된 엔트리를 아직 응답 중 - slot을 돌려놓고 이번에는 저장하지 않음
+            stamps.incrementAndGet(slot);
+            freeSlots.offer(slot);
+            return false;
+        }
+        arena.put(offset(slot), body);
+        int stamp = stamps.incrementAndGet(slot);
+
+        Entry entry = new Entry(slot, stamp, body.length, etag);
+        index.put(key, entry);
+        if (invalidations.get(stripe) != loadToken) {
+            index.asMap().remove(key, entry);
+            return false;
+        }
+        return true;
+    }
+
+    public void invalidate(String key) {
+        invalidations.incrementAndGet(stripe(key));
+        index.invalidate(key);
+    }
+
+    public void clear() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            invalidations.incrementAndGet(stripe);
+        }
+        index.invalidateAll();
+    }
+
+    public long size() {
+        return index.estimatedSize();
+    }
+
+    private int offset(int slot) {
+        return slot * slotSize;
+    }
+
+    private static int stripe(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private record Entry(int slot, int stamp, int length, String etag) {
+    }
+
+    /**
+     * 응답 본문 - 캐시 히트면 arena slot을 가리키는 read-only view, 미스면 직렬화한 byte[]
+     * - 기록이 끝나면(또는 기록하지 않을 때도) release 호출, 이후 content 사용 금지
+     */
+    public static final class Body {
+
+        private static final Runnable NO_RELEASE = () -> {
+        };
+
+        private final String etag;
+        private final ByteBuffer content;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final Runnable release;
+
+        private Body(String etag, ByteBuffer content, Runnable release) {
+            this.etag = etag;
+            this.content = content;
+            this.release = release;
+        }
+
+        public static Body of(String etag, byte[] body) {
+            return new Body(etag, ByteBuffer.wrap(body).asReadOnlyBuffer(), NO_RELEASE);
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        public int length() {
+            return content.remaining();
+        }
+
+        /**
+         * @return 본문 view (호출마다 독립된 position)
+         */
+        public ByteBuffer content() {
+            return content.duplicate();
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                release.run();
+            }
+        }
+    }
+}
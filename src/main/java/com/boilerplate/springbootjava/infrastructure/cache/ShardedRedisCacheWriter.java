@@ -0,0 +1,115 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 이름별로 샤딩 여부를 정하는 RedisCacheWriter
+ * - 샤딩 대상 캐시: 키 단위 명령은 consistent hash로 정한 노드로, clean(패턴 삭제)은 모든 노드로
+ * - 그 외 캐시: 기본 writer
+ */
+public class ShardedRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter fallback;
+    private final Set<String> shardedCaches;
+    private final ConsistentHashRing<RedisCacheWriter> shards;
+
+    public ShardedRedisCacheWriter(RedisCacheWriter fallback,
+                                   Set<String> shardedCaches,
+                                   ConsistentHashRing<RedisCacheWriter> shards) {
+        this.fallback = fallback;
+        this.shardedCaches = Set.copyOf(shardedCaches);
+        this.shards = shards;
+    }
+
+    @Override
+    @Nullable
+    public byte[] get(String name, byte[] key) {
+        return writerFor(name, key).get(name, key);
+    }
+
+    @Override
+    @Nullable
+    public byte[] get(String name, byte[] key, @Nullable Duration ttl) {
+        return writerFor(name, key).get(name, key, ttl);
+    }
+
+    @Override
+    @Nullable
+    public byte[] get(String name, byte[] key, Supplier<byte[]> valueLoader,
+                      @Nullable Duration ttl, boolean timeToIdleEnabled) {
+        return writerFor(name, key).get(name, key, valueLoader, ttl, timeToIdleEnabled);
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return fallback.supportsAsyncRetrieve()
+                && shards.nodes().values().stream().allMatch(RedisCacheWriter::supportsAsyncRetrieve);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, @Nullable Duration ttl) {
+        return writerFor(name, key).retrieve(name, key, ttl);
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        writerFor(name, key).put(name, key, value, ttl);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        return writerFor(name, key).store(name, key, value, ttl);
+    }
+
+    @Override
+    @Nullable
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        return writerFor(name, key).putIfAbsent(name, key, value, ttl);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        writerFor(name, key).remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        if (!shardedCaches.contains(name)) {
+            fallback.clean(name, pattern);
+            return;
+        }
+        shards.nodes().values().forEach(writer -> writer.clean(name, pattern));
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        fallback.clearStatistics(name);
+        shards.nodes().values().forEach(writer -> writer.clearStatistics(name));
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        // 같은 collector를 공유하므로 노드별 통계가 캐시 이름 단위로 합산됨
+        return new ShardedRedisCacheWriter(
+                fallback.withStatisticsCollector(cacheStatisticsCollector),
+                shardedCaches,
+                shards.map(writer -> writer.withStatisticsCollector(cacheStatisticsCollector)));
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return fallback.getCacheStatistics(cacheName);
+    }
+
+    private RedisCacheWriter writerFor(String name, byte[] key) {
+        return shardedCaches.contains(name) ? shards.nodeFor(key) : fallback;
+    }
+}
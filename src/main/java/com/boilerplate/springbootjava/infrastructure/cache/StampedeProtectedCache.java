@@ -0,0 +1,428 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache stampede 방지 데코레이터
+ * - @Cacheable(sync = true) 경로(get(key, Callable))에서만 동작
+ * - 노드 내부: 키 단위 single-flight (같은 키를 동시에 적재하면 한 번만 로드하고 결과를 공유)
+ * - 노드 간: Redis 분산 락으로 한 노드만 적재, 나머지는 잠시 캐시를 다시 확인하며 대기
+ * - 확률적 조기 갱신 (XFetch): 만료가 가까울수록 높은 확률로 백그라운드 재적재
+ *   (CacheRefreshLoaders에 등록한 loader 사용 - 호출의 valueLoader는 재사용하지 않음, 없으면 조기 갱신 안 함)
+ * - hot 키 (HotKeyTracker): 남은 TTL이 refreshAhead 이하이면 항상 백그라운드 재적재
+ * - Redis circuit breaker가 OPEN이면 분산 락 / 조기 갱신을 건너뜀 (노드 내부 single-flight만 유지)
+ */
+@Slf4j
+public class StampedeProtectedCache implements PatchableCache {
+
+    // Redis 장애로 락을 잡지 못했지만 적재는 진행하는 경우의 토큰
+    private static final String LOCK_UNAVAILABLE = "";
+
+    private final Cache delegate;
+    private final Function<Object, String> redisKeyResolver;
+    private final ToLongFunction<String> remainingTtlMillis;
+    private final BooleanSupplier redisAvailable;
+    private final RedisCacheLock cacheLock;
+    private final CacheRefreshLoaders refreshLoaders;
+    private final Executor refreshExecutor;
+    private final AppCacheProperties.Stampede settings;
+    @Nullable
+    private final HotKeyTracker hotKeys;
+    private final long hotRefreshAheadMillis;
+
+    // 노드 내부 진행 중인 적재 (single-flight)
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    // 백그라운드 조기 갱신 중인 키
+    private final Set<Object> refreshingKeys = ConcurrentHashMap.newKeySet();
+    // PTTL 조회 중인 키
+    private final Set<Object> probingKeys = ConcurrentHashMap.newKeySet();
+    // 조기 갱신 판단을 위한 엔트리 메타데이터 (만료 시각, 재계산 시간)
+    private final ConcurrentMap<Object, EntryMeta> entryMetas = new ConcurrentHashMap<>();
+
+    public StampedeProtectedCache(Cache delegate,
+                                  Function<Object, String> redisKeyResolver,
+                                  ToLongFunction<String> remainingTtlMillis,
+                                  BooleanSupplier redisAvailable,
+                                  RedisCacheLock cacheLock,
+                                  CacheRefreshLoaders refreshLoaders,
+                                  Executor refreshExecutor,
+                                  AppCacheProperties.Stampede settings,
+                                  @Nullable HotKeyTracker hotKeys,
+                                  Duration hotRefreshAhead) {
+        this.delegate = delegate;
+        this.redisKeyResolver = redisKeyResolver;
+        this.remainingTtlMillis = remainingTtlMillis;
+        this.redisAvailable = redisAvailable;
+        this.cacheLock = cacheLock;
+        this.refreshLoaders = refreshLoaders;
+        this.refreshExecutor = refreshExecutor;
+        this.settings = settings;
+        this.hotKeys = hotKeys;
+        this.hotRefreshAheadMillis = hotRefreshAhead.toMillis();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        recordAccess(key);
+        return delegate.get(key);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        recordAccess(key);
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        recordAccess(key);
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            refreshEarlyIfDue(key);
+            return (T) cached.get();
+        }
+        return (T) loadSingleFlight(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void patch(Object key, Object previous, Object updated) {
+        entryMetas.remove(key);
+        PatchableCache.patchOrPut(delegate, key, previous, updated);
+    }
+
+    @Override
+    public void evict(Object key) {
+        entryMetas.remove(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        entryMetas.remove(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        entryMetas.clear();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        entryMetas.clear();
+        return delegate.invalidate();
+    }
+
+    /* ---------- 적재 (single-flight) ---------- */
+
+    private Object loadSingleFlight(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(key, own);
+        if (inFlight != null) {
+            // 같은 노드에서 이미 적재 중 - 결과 공유
+            return await(key, valueLoader, inFlight);
+        }
+
+        try {
+            Object value = loadWithDistributedLock(key, valueLoader);
+            own.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            own.completeExceptionally(ex);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            inFlightLoads.remove(key, own);
+        }
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } catch (ExecutionException ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        }
+    }
+
+    private Object loadWithDistributedLock(Object key, Callable<?> valueLoader) throws Exception {
+        String redisKey = redisKeyResolver.apply(key);
+        Optional<String> token = tryLock(redisKey);
+
+        if (token.isEmpty()) {
+            // 다른 노드가 적재 중 - 잠시 기다리며 캐시 재확인, 시간 내에 채워지지 않으면 직접 적재
+            ValueWrapper loadedElsewhere = awaitLoadedElsewhere(key);
+            if (loadedElsewhere != null) {
+                return loadedElsewhere.get();
+            }
+        }
+
+        try {
+            if (token.isPresent()) {
+                // 락 획득 직전에 다른 노드가 채웠을 수 있으므로 재확인
+                ValueWrapper cached = delegate.get(key);
+                if (cached != null) {
+                    return cached.get();
+                }
+            }
+            return loadAndPut(key, valueLoader);
+        } finally {
+            token.ifPresent(t -> unlock(redisKey, t));
+        }
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) throws Exception {
+        long start = System.nanoTime();
+        Object value = valueLoader.call();
+        put(key, value, start);
+        return value;
+    }
+
+    private void put(Object key, @Nullable Object value, long loadStartNanos) {
+        long recomputeMillis = Duration.ofNanos(System.nanoTime() - loadStartNanos).toMillis();
+        delegate.put(key, value);
+        trackMeta(key, new EntryMeta(EntryMeta.UNKNOWN_EXPIRY, recomputeMillis));
+    }
+
+    @Nullable
+    private ValueWrapper awaitLoadedElsewhere(Object key) throws InterruptedException {
+        long deadline = System.nanoTime() + settings.getLockWait().toNanos();
+        long pollMillis = Math.max(1, settings.getPollInterval().toMillis());
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(pollMillis);
+            ValueWrapper cached = delegate.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    private Optional<String> tryLock(String redisKey) {
+        if (!redisAvailable.getAsBoolean()) {
+            return Optional.of(LOCK_UNAVAILABLE);
+        }
+        try {
+            return cacheLock.tryLock(redisKey, settings.getLockTimeout());
+        } catch (RuntimeException ex) {
+            // Redis 장애 시 락 없이 적재 (노드 내부 single-flight는 유지)
+            log.warn("StampedeProtectedCache - lock unavailable, loading without lock: {}", redisKey, ex);
+            return Optional.of(LOCK_UNAVAILABLE);
+        }
+    }
+
+    private void unlock(String redisKey, String token) {
+        if (LOCK_UNAVAILABLE.equals(token)) {
+            return;
+        }
+        try {
+            cacheLock.unlock(redisKey, token);
+        } catch (RuntimeException ex) {
+            // 락은 lockTimeout 후 자동 만료
+            log.warn("StampedeProtectedCache - unlock failed: {}", redisKey, ex);
+        }
+    }
+
+    /* ---------- 확률적 조기 갱신 (XFetch) ---------- */
+
+    private void refreshEarlyIfDue(Object key) {
+        Function<Object, Object> loader = refreshLoaders.find(getName());
+        if (loader == null || !redisAvailable.getAsBoolean()) {
+            return;
+        }
+        EntryMeta meta = resolveMeta(key);
+        if (meta == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        boolean hotAndExpiring = isHot(key) && meta.expiresAt() - now <= hotRefreshAheadMillis;
+        if (!hotAndExpiring && !meta.shouldRefreshEarly(now, settings.getBeta())) {
+            return;
+        }
+        if (inFlightLoads.containsKey(key) || refreshingKeys.contains(key)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> refresh(key, loader));
+        } catch (RejectedExecutionException ex) {
+            // 갱신 큐가 가득 찬 경우 - 만료 후 일반 적재 경로로 처리
+            log.debug("StampedeProtectedCache - early refresh rejected: {}", key);
+        }
+    }
+
+    private void refresh(Object key, Function<Object, Object> loader) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+
+        String redisKey = redisKeyResolver.apply(key);
+        Optional<String> token = Optional.empty();
+        try {
+            token = cacheLock.tryLock(redisKey, settings.getLockTimeout());
+            if (token.isEmpty()) {
+                // 다른 노드가 갱신 중
+                return;
+            }
+            long start = System.nanoTime();
+            Object value = loader.apply(key);
+            if (value == null) {
+                // 원본에서 사라진 키 - 갱신하지 않고 만료 / 무효화에 맡김
+                return;
+            }
+            put(key, value, start);
+            log.debug("StampedeProtectedCache - refreshed early: {}::{}", getName(), key);
+        } catch (RuntimeException ex) {
+            log.warn("StampedeProtectedCache - early refresh failed: {}::{}", getName(), key, ex);
+        } finally {
+            refreshingKeys.remove(key);
+            token.ifPresent(t -> unlock(redisKey, t));
+        }
+    }
+
+    /**
+     * 만료 시각을 모르면 (다른 노드가 적재했거나 방금 적재한 경우) PTTL 조회를 refreshExecutor에 맡기고
+     * 이번 호출은 조기 갱신을 건너뜀 - 캐시 히트 경로에서 Redis 왕복을 기다리지 않음
+     */
+    @Nullable
+    private EntryMeta resolveMeta(Object key) {
+        EntryMeta meta = entryMetas.get(key);
+        if (meta != null && meta.expiresAt() != EntryMeta.UNKNOWN_EXPIRY) {
+            if (meta.expiresAt() > System.currentTimeMillis()) {
+                return meta;
+            }
+            entryMetas.remove(key, meta);
+            meta = null;
+        }
+        // 한도 초과로 기록할 수 없는 키는 조회해도 버려지므로 생략
+        if (meta == null && !canTrack(key)) {
+            return null;
+        }
+        probeTtlAsync(key, meta);
+        return null;
+    }
+
+    private void probeTtlAsync(Object key, @Nullable EntryMeta previous) {
+        if (!probingKeys.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    probeTtl(key, previous);
+                } finally {
+                    probingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            probingKeys.remove(key);
+            log.debug("StampedeProtectedCache - ttl probe rejected: {}", key);
+        }
+    }
+
+    private void probeTtl(Object key, @Nullable EntryMeta previous) {
+        long now = System.currentTimeMillis();
+        long ttlMillis;
+        try {
+            ttlMillis = remainingTtlMillis.applyAsLong(redisKeyResolver.apply(key));
+        } catch (RuntimeException ex) {
+            log.debug("StampedeProtectedCache - ttl probe failed: {}", key, ex);
+            return;
+        }
+        if (ttlMillis <= 0) {
+            // 키 없음(-2) 또는 TTL 없음(-1)
+            return;
+        }
+
+        long recomputeMillis = previous != null
+                ? previous.recomputeMillis()
+                : settings.getDefaultRecomputeTime().toMillis();
+        trackMeta(key, new EntryMeta(now + ttlMillis, recomputeMillis));
+    }
+
+    private void trackMeta(Object key, EntryMeta meta) {
+        if (canTrack(key)) {
+            entryMetas.put(key, meta);
+        }
+    }
+
+    // hot 키는 한도를 넘어도 기록 (최대 상위 K개 추가) - 매 접근마다 PTTL 조회하지 않도록
+    private boolean canTrack(Object key) {
+        return entryMetas.size() < settings.getMaxTrackedKeys() || entryMetas.containsKey(key) || isHot(key);
+    }
+
+    /* ---------- hot 키 ---------- */
+
+    private void recordAccess(Object key) {
+        if (hotKeys != null) {
+            hotKeys.record(key);
+        }
+    }
+
+    private boolean isHot(Object key) {
+        return hotKeys != null && hotKeys.isHot(key);
+    }
+
+    /**
+     * @param expiresAt       만료 시각 (epoch millis), 모르면 UNKNOWN_EXPIRY
+     * @param recomputeMillis 값을 다시 계산하는 데 걸린 시간 (XFetch delta)
+     */
+    record EntryMeta(long expiresAt, long recomputeMillis) {
+        static final long UNKNOWN_EXPIRY = -1L;
+
+        // now - delta * beta * ln(rand) >= expiry
+        boolean shouldRefreshEarly(long now, double beta) {
+            double random = ThreadLocalRandom.current().nextDouble();
+            if (random == 0.0d) {
+                return false;
+            }
+            double gap = -Math.max(1, recomputeMillis) * beta * Math.log(random);
+            return now + gap >= expiresAt;
+        }
+    }
+}
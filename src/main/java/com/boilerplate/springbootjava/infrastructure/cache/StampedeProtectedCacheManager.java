@@ -0,0 +1,108 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대상 CacheManager의 캐시를 StampedeProtectedCache로 감싸는 CacheManager
+ */
+public class StampedeProtectedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    @Nullable
+    private final RedisShards redisShards;
+    private final RedisCacheLock cacheLock;
+    private final CacheRefreshLoaders refreshLoaders;
+    private final CacheCircuitBreakers circuitBreakers;
+    private final HotKeyTrackers hotKeyTrackers;
+    private final Executor refreshExecutor;
+    private final AppCacheProperties.Stampede settings;
+    private final AppCacheProperties.HotKeys hotKeySettings;
+
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public StampedeProtectedCacheManager(CacheManager delegate,
+                                         RedisCacheManager redisCacheManager,
+                                         StringRedisTemplate stringRedisTemplate,
+                                         @Nullable RedisShards redisShards,
+                                         RedisCacheLock cacheLock,
+                                         CacheRefreshLoaders refreshLoaders,
+                                         CacheCircuitBreakers circuitBreakers,
+                                         HotKeyTrackers hotKeyTrackers,
+                                         Executor refreshExecutor,
+                                         AppCacheProperties.Stampede settings,
+                                         AppCacheProperties.HotKeys hotKeySettings) {
+        this.delegate = delegate;
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisShards = redisShards;
+        this.cacheLock = cacheLock;
+        this.refreshLoaders = refreshLoaders;
+        this.circuitBreakers = circuitBreakers;
+        this.hotKeyTrackers = hotKeyTrackers;
+        this.refreshExecutor = refreshExecutor;
+        this.settings = settings;
+        this.hotKeySettings = hotKeySettings;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> decorate(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private Cache decorate(Cache target) {
+        RedisCacheConfiguration config = redisCacheManager.getCacheConfigurations().get(target.getName());
+        if (config == null) {
+            return target;
+        }
+
+        // 샤딩된 캐시는 키가 속한 노드에서 PTTL 조회 (락은 기본 연결)
+        boolean sharded = redisShards != null && redisShards.isSharded(target.getName());
+
+        return new StampedeProtectedCache(
+                target,
+                key -> RedisCacheKeys.of(target.getName(), config, key),
+                redisKey -> {
+                    StringRedisTemplate template =
+                            sharded ? redisShards.shardFor(redisKey).template() : stringRedisTemplate;
+                    Long ttl = template.getExpire(redisKey, TimeUnit.MILLISECONDS);
+                    return ttl != null ? ttl : -2L;
+                },
+                () -> circuitBreakers.isRedisAvailable(target.getName()),
+                cacheLock,
+                refreshLoaders,
+                refreshExecutor,
+                settings,
+                hotKeyTrackers.forCache(target.getName()),
+                hotKeySettings.getRefreshAhead()
+        );
+    }
+}
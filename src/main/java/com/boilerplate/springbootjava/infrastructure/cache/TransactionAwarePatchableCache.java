@@ -0,0 +1,32 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * TransactionAwareCacheDecorator + patch
+ * - put / evict와 같이 patch도 트랜잭션 커밋 이후에 반영
+ */
+public class TransactionAwarePatchableCache extends TransactionAwareCacheDecorator implements PatchableCache {
+
+    public TransactionAwarePatchableCache(Cache targetCache) {
+        super(targetCache);
+    }
+
+    @Override
+    public void patch(Object key, Object previous, Object updated) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PatchableCache.patchOrPut(getTargetCache(), key, previous, updated);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                PatchableCache.patchOrPut(getTargetCache(), key, previous, updated);
+            }
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * 2단계 캐시 (L1: In-process Caffeine / L2: Redis)
+ * - 조회: L1 -> L2 순서, L2 히트 시 L1에 적재
+ * - 변경: L2 반영 후 L1 갱신, 다른 노드의 L1은 CacheInvalidationBus로 무효화
+ * - patch: L2가 PatchableCache면 변경 필드만 기록, L1에는 변경 후 값 전체 저장
+ * - L1 키는 Redis key 문자열 (노드 간 무효화 메시지와 같은 형태)
+ * - 트랜잭션 처리는 TwoLevelCacheManager에서 TransactionAwareCacheDecorator로 감싸서 처리
+ */
+public class TwoLevelCache implements PatchableCache {
+
+    private final Cache l2;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final Function<Object, String> redisKeyResolver;
+    private final CacheInvalidationBus invalidationBus;
+
+    public TwoLevelCache(Cache l2,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                         Function<Object, String> redisKeyResolver,
+                         CacheInvalidationBus invalidationBus) {
+        this.l2 = l2;
+        this.l1 = l1;
+        this.redisKeyResolver = redisKeyResolver;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public String getName() {
+        return l2.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        String l1Key = redisKeyResolver.apply(key);
+        Object local = l1.getIfPresent(l1Key);
+        if (local != null) {
+            return new SimpleValueWrapper(local);
+        }
+
+        ValueWrapper remote = l2.get(key);
+        if (remote != null && remote.get() != null) {
+            l1.put(l1Key, remote.get());
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value = l2.get(key, valueLoader);
+        if (value != null) {
+            l1.put(redisKeyResolver.apply(key), value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        l2.put(key, value);
+
+        String l1Key = redisKeyResolver.apply(key);
+        if (value != null) {
+            l1.put(l1Key, value);
+        } else {
+            l1.invalidate(l1Key);
+        }
+        invalidationBus.publish(getName(), l1Key);
+    }
+
+    @Override
+    public void patch(Object key, Object previous, Object updated) {
+        PatchableCache.patchOrPut(l2, key, previous, updated);
+
+        String l1Key = redisKeyResolver.apply(key);
+        l1.put(l1Key, updated);
+        invalidationBus.publish(getName(), l1Key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+
+        String l1Key = redisKeyResolver.apply(key);
+        l1.invalidate(l1Key);
+        invalidationBus.publish(getName(), l1Key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = l2.evictIfPresent(key);
+
+        String l1Key = redisKeyResolver.apply(key);
+        l1.invalidate(l1Key);
+        invalidationBus.publish(getName(), l1Key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        invalidationBus.publish(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = l2.invalidate();
+        l1.invalidateAll();
+        invalidationBus.publish(getName(), null);
+        return invalidated;
+    }
+
+    /* ---------- 다른 노드의 무효화 메시지 처리 ---------- */
+
+    void evictLocal(String redisKey) {
+        l1.invalidate(redisKey);
+    }
+
+    void clearLocal() {
+        l1.invalidateAll();
+    }
+}
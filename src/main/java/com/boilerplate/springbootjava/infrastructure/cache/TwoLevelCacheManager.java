@@ -0,0 +1,101 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * L1(Caffeine) + L2(Redis) 2단계 CacheManager
+ * - app.cache.caches.{name}.l1.max-size > 0 인 캐시만 L1 사용
+ * - L2(Redis)는 CircuitBreakingCache로 감싸 Redis 장애/지연 시 L1 / DB로 바로 진행
+ * - redisCaches에 등록된 캐시는 RedisCache 대신 해당 구현을 L2로 사용 (ex. users -> RedisHashCache)
+ * - 모든 캐시를 TransactionAwarePatchableCache로 감싸 커밋 이후에 L1/L2/무효화 메시지를 반영
+ *   (redisCacheManager는 transactionAware 없이 생성해야 함)
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final RedisCacheManager redisCacheManager;
+    private final AppCacheProperties properties;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheCircuitBreakers circuitBreakers;
+    private final Map<String, Cache> redisCaches;
+
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                AppCacheProperties properties,
+                                CacheInvalidationBus invalidationBus,
+                                CacheCircuitBreakers circuitBreakers,
+                                Map<String, Cache> redisCaches) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.invalidationBus = invalidationBus;
+        this.circuitBreakers = circuitBreakers;
+        this.redisCaches = redisCaches;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache redisCache = redisCaches.containsKey(name) ? redisCaches.get(name) : redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName ->
+                new TransactionAwarePatchableCache(decorate(withCircuitBreaker(redisCache))));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    private Cache withCircuitBreaker(Cache redisCache) {
+        CacheCircuitBreaker breaker = circuitBreakers.forCache(redisCache.getName());
+        if (breaker == null) {
+            return redisCache;
+        }
+        return new CircuitBreakingCache(
+                redisCache,
+                breaker,
+                properties.getCircuitBreaker().getMaxPendingEvictions()
+        );
+    }
+
+    private Cache decorate(Cache l2) {
+        AppCacheProperties.L1 l1Spec = properties.spec(l2.getName()).getL1();
+        RedisCacheConfiguration config = redisCacheManager.getCacheConfigurations().get(l2.getName());
+        if (l1Spec.getMaxSize() <= 0 || config == null) {
+            return l2;
+        }
+
+        // Caffeine: W-TinyLFU admission (빈도 기반으로 한 번 쓰고 버려지는 키가 L1을 밀어내지 않음)
+        com.github.benmanes.caffeine.cache.Cache<String, Object> l1 = Caffeine.newBuilder()
+                .maximumSize(l1Spec.getMaxSize())
+                .expireAfterWrite(l1Spec.getTtl())
+                .build();
+
+        TwoLevelCache twoLevelCache = new TwoLevelCache(
+                l2,
+                l1,
+                key -> RedisCacheKeys.of(l2.getName(), config, key),
+                invalidationBus
+        );
+        invalidationBus.register(twoLevelCache);
+        return twoLevelCache;
+    }
+}
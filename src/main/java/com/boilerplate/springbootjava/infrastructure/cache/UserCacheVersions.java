@@ -0,0 +1,58 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * users hash 캐시에서 ETag 계산에 필요한 필드(version / updatedAt)만 조회 (HMGET)
+ * - 조건부 GET(If-None-Match)에서 응답 JSON 캐시 미스 시 엔트리 전체를 읽지 않고 304 판단
+ * - storage가 hash가 아니거나 circuit breaker가 OPEN이면 조회하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheVersions {
+
+    private static final String USERS_CACHE = "users";
+
+    private final RedisHashCache<UserResponseDto> userHashCache;
+    private final CacheCircuitBreakers circuitBreakers;
+    private final AppCacheProperties appCacheProperties;
+
+    /**
+     * @return 캐시된 사용자의 버전 정보, 캐시에 없거나 조회할 수 없으면 null
+     */
+    @Nullable
+    public Version find(Long id) {
+        if (appCacheProperties.spec(USERS_CACHE).getStorage() != AppCacheProperties.CacheSpec.Storage.HASH
+                || !circuitBreakers.isRedisAvailable(USERS_CACHE)) {
+            return null;
+        }
+
+        Map<String, String> fields;
+        try {
+            fields = userHashCache.getFields(id, UserHashCodec.VERSION, UserHashCodec.UPDATED_AT);
+        } catch (DataAccessException e) {
+            log.debug("UserCacheVersions - read failed: {}", id, e);
+            return null;
+        }
+
+        String version = fields.get(UserHashCodec.VERSION);
+        if (version == null) {
+            return null;
+        }
+        String updatedAt = fields.get(UserHashCodec.UPDATED_AT);
+        return new Version(id, Long.parseLong(version), updatedAt != null ? Instant.parse(updatedAt) : null);
+    }
+
+    public record Version(Long id, long version, @Nullable Instant updatedAt) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * UserResponseDto <-> Redis hash (필드 하나당 속성 하나)
+ * - Instant는 ISO-8601 문자열 (정밀도 유지)
+ * - id / version이 없으면 불완전한 엔트리로 보고 미스 처리
+ */
+public class UserHashCodec implements HashCodec<UserResponseDto> {
+
+    public static final String ID = "id";
+    public static final String ROLE = "role";
+    public static final String EMAIL = "email";
+    public static final String NAME = "name";
+    public static final String PHONE_NUMBER = "phoneNumber";
+    public static final String STATUS = "status";
+    public static final String CREATED_AT = "createdAt";
+    public static final String UPDATED_AT = "updatedAt";
+    public static final String VERSION = "version";
+
+    @Override
+    public Class<UserResponseDto> type() {
+        return UserResponseDto.class;
+    }
+
+    @Override
+    public Map<String, String> encode(UserResponseDto user) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        putIfNotNull(fields, ID, user.id());
+        putIfNotNull(fields, ROLE, user.role() != null ? user.role().name() : null);
+        putIfNotNull(fields, EMAIL, user.email());
+        putIfNotNull(fields, NAME, user.name());
+        putIfNotNull(fields, PHONE_NUMBER, user.phoneNumber());
+        putIfNotNull(fields, STATUS, user.status() != null ? user.status().name() : null);
+        putIfNotNull(fields, CREATED_AT, user.createdAt());
+        putIfNotNull(fields, UPDATED_AT, user.updatedAt());
+        fields.put(VERSION, Long.toString(user.version()));
+        return fields;
+    }
+
+    @Override
+    @Nullable
+    public UserResponseDto decode(Map<String, String> fields) {
+        if (!fields.containsKey(ID) || !fields.containsKey(VERSION)) {
+            return null;
+        }
+        return new UserResponseDto(
+                Long.valueOf(fields.get(ID)),
+                parse(fields, ROLE, UserRole::valueOf),
+                fields.get(EMAIL),
+                fields.get(NAME),
+                fields.get(PHONE_NUMBER),
+                parse(fields, STATUS, UserStatus::valueOf),
+                parse(fields, CREATED_AT, Instant::parse),
+                parse(fields, UPDATED_AT, Instant::parse),
+                Long.parseLong(fields.get(VERSION))
+        );
+    }
+
+    private static void putIfNotNull(Map<String, String> fields, String name, @Nullable Object value) {
+        if (value != null) {
+            fields.put(name, value.toString());
+        }
+    }
+
+    @Nullable
+    private static <V> V parse(Map<String, String> fields, String name, Function<String, V> parser) {
+        String value = fields.get(name);
+        return value != null ? parser.apply(value) : null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.application.user.port.out.UserRepository;
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 존재하는 사용자 id의 In-memory Bloom filter
+ * - mightContain == false 이면 확실히 없는 id (DB/캐시 조회 없이 거절 가능)
+ * - 주기적으로 전체 id를 다시 읽어 재생성 (삭제된 id 반영, false positive 비율 유지)
+ * - 스냅샷 이후 생성된 id는 다른 노드에서 생성될 수 있으므로,
+ *   스냅샷 최대 id - recentIdMargin 보다 큰 id는 항상 통과
+ * - 생성 전(기동 직후)에는 모든 id 통과
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIdBloomFilter {
+
+    private final UserRepository userRepository;
+    private final AppCacheProperties appCacheProperties;
+
+    private volatile Snapshot snapshot;
+
+    public boolean mightContain(Long id) {
+        Snapshot current = snapshot;
+        if (id == null || current == null || id > current.maxId() - current.recentIdMargin()) {
+            return true;
+        }
+        return current.filter().mightContain(id);
+    }
+
+    /**
+     * 이 노드에서 생성된 id 반영 (다음 재생성 전까지)
+     */
+    public void put(Long id) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.filter().put(id);
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.cache.negative.rebuild-interval:10m}")
+    public void rebuild() {
+        AppCacheProperties.NegativeLookup negative = appCacheProperties.getNegative();
+        try {
+            // 최대 id를 먼저 읽어 두면, 목록 조회 도중 생성된 id는 항상 최대 id보다 큼
+            long maxId = userRepository.findMaxId().orElse(0L);
+            List<Long> ids = userRepository.findAllIds();
+
+            // 재생성 주기 동안의 증가분을 고려해 여유 있게 생성
+            LongBloomFilter filter = LongBloomFilter.create(
+                    ids.size() + ids.size() / 2 + 1_024, negative.getFalsePositiveRate());
+            ids.forEach(filter::put);
+
+            snapshot = new Snapshot(filter, maxId, negative.getRecentIdMargin());
+            log.info("UserIdBloomFilter - rebuilt: ids={}, maxId={}, bits={}, hashes={}",
+                    ids.size(), maxId, filter.bitSize(), filter.hashCount());
+        } catch (Exception e) {
+            // 이전 스냅샷 유지 (없으면 모든 id 통과)
+            log.warn("UserIdBloomFilter - rebuild failed", e);
+        }
+    }
+
+    private record Snapshot(LongBloomFilter filter, long maxId, long recentIdMargin) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자 목록 세대(generation) 카운터 (Redis)
+ * - 사용자 생성/수정/삭제가 커밋될 때마다 증가
+ * - 목록 ETag와 userList 캐시 키에 포함 (세대가 바뀌면 이전 페이지 캐시는 더 이상 조회되지 않음)
+ * - 키가 없으면 현재 시각(ms)에서 시작 - 키가 사라지거나 Redis 노드가 바뀌어도
+ *   이전 세대 번호를 다시 쓰지 않음 (예전 ETag로 다른 목록에 304를 주지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserListGeneration {
+
+    static final String KEY = "users:list:generation";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheCircuitBreakers circuitBreakers;
+
+    /**
+     * @return 현재 세대 (Redis 장애 또는 userList circuit breaker가 OPEN이면 -1)
+     */
+    public long current() {
+        if (!circuitBreakers.isRedisAvailable("userList")) {
+            return -1L;
+        }
+        try {
+            String value = stringRedisTemplate.opsForValue().get(KEY);
+            if (value == null) {
+                seed();
+                value = stringRedisTemplate.opsForValue().get(KEY);
+            }
+            return value != null ? Long.parseLong(value) : -1L;
+        } catch (Exception e) {
+            log.warn("UserListGeneration - read failed", e);
+            return -1L;
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 세대 증가 (트랜잭션 밖이면 즉시)
+     */
+    public void bumpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump();
+            }
+        });
+    }
+
+    private void bump() {
+        try {
+            seed();
+            stringRedisTemplate.opsForValue().increment(KEY);
+        } catch (Exception e) {
+            // 목록 ETag/캐시가 갱신되지 않을 수 있음 (다음 변경 시 복구)
+            log.warn("UserListGeneration - bump failed", e);
+        }
+    }
+
+    private void seed() {
+        stringRedisTemplate.opsForValue().setIfAbsent(KEY, Long.toString(System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /api/v1/users/{id} 응답 JSON 캐시
+ * - 히트 시 users 캐시 조회 / DTO 생성 / Jackson 직렬화 없이 저장된 본문과 ETag를 그대로 응답
+ * - 히트도 users 캐시 접근으로 보고 hot key 추적에 기록 (users 캐시를 거치지 않아도 refresh-ahead 대상 유지)
+ * - 키는 users 캐시의 Redis key (L1과 같은 무효화 메시지로 제거), TTL은 users L1 TTL
+ * - app.cache.response-body.enabled=false 또는 users L1이 없으면 매번 직렬화만 수행
+ */
+@Slf4j
+@Component
+public class UserResponseBodyCache {
+
+    private static final String USERS_CACHE = "users";
+
+    private final ObjectWriter writer;
+    @Nullable
+    private final HotKeyTracker hotKeys;
+    @Nullable
+    private final RedisCacheConfiguration usersConfig;
+    @Nullable
+    private final ResponseBodyCache cache;
+
+    public UserResponseBodyCache(RedisCacheManager redisCacheManager,
+                                 ObjectMapper objectMapper,
+                                 CacheInvalidationBus invalidationBus,
+                                 HotKeyTrackers hotKeyTrackers,
+                                 AppCacheProperties appCacheProperties) {
+        this.writer = objectMapper.writerFor(UserResponseDto.class);
+        this.hotKeys = hotKeyTrackers.forCache(USERS_CACHE);
+        this.usersConfig = redisCacheManager.getCacheConfigurations().get(USERS_CACHE);
+
+        AppCacheProperties.ResponseBody settings = appCacheProperties.getResponseBody();
+        AppCacheProperties.L1 l1 = appCacheProperties.spec(USERS_CACHE).getL1();
+        if (!settings.isEnabled() || usersConfig == null || l1.getMaxSize() <= 0) {
+            if (settings.isEnabled()) {
+                log.info("UserResponseBodyCache - disabled (users L1 cache not configured)");
+            }
+            this.cache = null;
+            return;
+        }
+
+        ResponseBodyCache responseBodyCache = new ResponseBodyCache(
+                settings.getMaxEntries(), (int) settings.getSlotSize().toBytes(), l1.getTtl());
+        invalidationBus.addListener(USERS_CACHE, redisKey -> {
+            if (redisKey == null) {
+                responseBodyCache.clear();
+            } else {
+                responseBodyCache.invalidate(redisKey);
+            }
+        });
+        this.cache = responseBodyCache;
+    }
+
+    /**
+     * @return 캐시된 본문 (응답 기록 후 release 필요), 없으면 null
+     */
+    @Nullable
+    public ResponseBodyCache.Body get(Long id) {
+        if (cache == null) {
+            return null;
+        }
+        ResponseBodyCache.Body body = cache.get(key(id));
+        if (body != null && hotKeys != null) {
+            hotKeys.record(id);
+        }
+        return body;
+    }
+
+    /**
+     * users 캐시 조회 전에 호출 - 반환값을 put에 전달
+     */
+    public long beginLoad(Long id) {
+        return cache != null ? cache.beginLoad(key(id)) : 0L;
+    }
+
+    /**
+     * 직렬화 후 저장
+     *
+     * @return 응답 본문 (저장 여부와 관계없이)
+     */
+    public ResponseBodyCache.Body put(Long id, long loadToken, String etag, UserResponseDto user) {
+        byte[] body;
+        try {
+            body = writer.writeValueAsBytes(user);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("UserResponseDto serialization failed: " + id, e);
+        }
+        if (cache != null) {
+            cache.put(key(id), loadToken, etag, body);
+        }
+        return ResponseBodyCache.Body.of(etag, body);
+    }
+
+    private String key(Long id) {
+        return RedisCacheKeys.of(USERS_CACHE, usersConfig, id);
+    }
+}
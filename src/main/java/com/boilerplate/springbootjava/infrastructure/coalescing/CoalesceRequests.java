@@ -0,0 +1,34 @@
+package com.boilerplate.springbootjava.infrastructure.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 인자 + 같은 권한 범위로 동시에 실행 중인 호출을 하나로 합침 (RequestCoalescingInterceptor)
+ * - 먼저 들어온 호출만 실행하고, 실행 중에 들어온 호출은 그 결과(예외 포함)를 그대로 받음
+ * - 부수 효과 없는 조회 + 불변 결과(record 등)를 반환하는 메서드에만 사용
+ * - 인자는 equals / hashCode가 값 기준이어야 함 (ex. Long, PageRequest)
+ * - @Cacheable(sync = true) 메서드에는 붙이지 않음 (StampedeProtectedCache가 이미 키 단위로 합침 - 대기 / timeout 정책 중복)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CoalesceRequests {
+
+    /**
+     * 결과를 공유할 수 있는 호출자 범위
+     */
+    Scope scope() default Scope.AUTHORITIES;
+
+    enum Scope {
+        // 권한(role) 집합이 같은 호출끼리 공유
+        AUTHORITIES,
+        // 같은 사용자(principal)의 호출끼리만 공유
+        PRINCIPAL,
+        // 호출자와 관계없이 공유 (결과가 호출자에 따라 달라지지 않는 경우)
+        NONE
+    }
+}
@@ -0,0 +1,147 @@
+package com.boilerplate.springbootjava.infrastructure.coalescing;
+
+import com.boilerplate.springbootjava.infrastructure.properties.RequestCoalescingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * @CoalesceRequests 메서드의 동시 호출 합치기 (노드 단위 single-flight)
+ * - 키: 메서드 + 인자 + 권한 범위(scope)
+ * - 첫 호출(leader)만 실행, 실행 중 같은 키로 들어온 호출은 결과 / 예외를 공유
+ * - 완료 즉시 키 제거 (결과를 캐시하지 않음 - 캐시는 @Cacheable 담당)
+ * - 메트릭: request_coalescing.calls{method, outcome=leader|coalesced|timeout}
+ */
+@Slf4j
+public class RequestCoalescingInterceptor implements MethodInterceptor {
+
+    private final Supplier<RequestCoalescingProperties> properties;
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    private final ConcurrentMap<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MethodClassKey, Optional<CoalesceRequests>> annotations = new ConcurrentHashMap<>();
+
+    public RequestCoalescingInterceptor(Supplier<RequestCoalescingProperties> properties,
+                                        Supplier<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    @Nullable
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RequestCoalescingProperties settings = properties.get();
+        CoalesceRequests annotation = annotation(invocation);
+        if (!settings.isEnabled() || annotation == null) {
+            return invocation.proceed();
+        }
+
+        Method method = invocation.getMethod();
+        CallKey key = new CallKey(method, Arrays.asList(invocation.getArguments()), scope(annotation.scope()));
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, call);
+
+        if (running != null) {
+            return await(invocation, running, settings);
+        }
+
+        counter(method, "leader").increment();
+        try {
+            Object result = invocation.proceed();
+            call.complete(result);
+            return result;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    @Nullable
+    private Object await(MethodInvocation invocation,
+                         CompletableFuture<Object> running,
+                         RequestCoalescingProperties settings) throws Throwable {
+        Method method = invocation.getMethod();
+        try {
+            Object result = running.get(settings.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+            counter(method, "coalesced").increment();
+            return result;
+        } catch (ExecutionException e) {
+            counter(method, "coalesced").increment();
+            // leader와 같은 예외 (ex. CustomException -> 같은 오류 응답)
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            counter(method, "timeout").increment();
+            log.debug("RequestCoalescing - waited {} for {}, executing directly", settings.getMaxWait(), method);
+            return invocation.proceed();
+        }
+    }
+
+    @Nullable
+    private CoalesceRequests annotation(MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        Class<?> targetClass = target != null ? target.getClass() : null;
+        return annotations.computeIfAbsent(new MethodClassKey(invocation.getMethod(), targetClass), key ->
+                Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(
+                        ClassUtils.getMostSpecificMethod(invocation.getMethod(), targetClass), CoalesceRequests.class))
+        ).orElse(null);
+    }
+
+    static Object scope(CoalesceRequests.Scope scope) {
+        if (scope == CoalesceRequests.Scope.NONE) {
+            return "";
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            // 미인증 호출끼리는 같은 범위
+            return "anonymous";
+        }
+        if (scope == CoalesceRequests.Scope.PRINCIPAL) {
+            return "principal:" + authentication.getName();
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 실행 중인 호출의 결과를 기다리는 호출 수 (근사값)
+     */
+    int waiting() {
+        return inFlight.values().stream().mapToInt(CompletableFuture::getNumberOfDependents).sum();
+    }
+
+    private Counter counter(Method method, String outcome) {
+        return Counter.builder("request_coalescing.calls")
+                .description("Coalesced concurrent calls")
+                .tag("method", method.getDeclaringClass().getSimpleName() + "." + method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry.get());
+    }
+
+    private record CallKey(Method method, List<Object> arguments, Object scope) {
+    }
+}
@@ -1,50 +1,241 @@
 package com.boilerplate.springbootjava.infrastructure.config;
 
+import com.boilerplate.springbootjava.infrastructure.properties.HttpLoggingProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
 import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.marker.Markers;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+/**
+ * 요청 / 응답 로그 (app.http-logging.*)
+ * - sampling(경로별 / 비율)에서 빠진 요청은 래핑 없이 그대로 통과, 5xx만 요약 기록
+ * - 본문은 max-body-size까지만 보관, 응답은 버퍼링 없이 그대로 내보내며 앞부분만 복사
+ * - PRODUCTION: 완료 시 한 줄 + logstash 필드(http.*), allowlist 헤더만
+ * - DEVELOPMENT: 요청 / 응답 여러 줄, JSON 본문 정렬 출력, 모든 헤더
+ * - 민감 헤더(Authorization 등)는 모든 mode에서 값을 가림
+ */
 @Slf4j
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class LoggingFilter extends OncePerRequestFilter {
 
+    private static final String EXCHANGE_ATTRIBUTE = LoggingFilter.class.getName() + ".exchange";
+    private static final String REDACTED = "[REDACTED]";
+
+    private final HttpLoggingProperties properties;
+    private final List<CompiledRoute> routes;
+    private final Set<String> redactedHeaders;
+    // DEVELOPMENT mode JSON 정렬 출력용
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    public LoggingFilter(HttpLoggingProperties properties) {
+        this.properties = properties;
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new CompiledRoute(route, PathPatternParser.defaultInstance.parse(route.getPattern())))
+                .toList();
+        this.redactedHeaders = properties.getRedactedHeaders().stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    // 비동기 응답(CompletableFuture)은 ASYNC dispatch에서 본문이 기록되므로 그때 로그
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        // Request를 여러 번 읽을 수 있도록 래핑
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        // ASYNC dispatch는 최초 dispatch의 래퍼를 그대로 받으므로 다시 래핑하지 않음
+        boolean initial = !isAsyncDispatch(request);
+        Exchange exchange = initial ? start(request, response) : (Exchange) request.getAttribute(EXCHANGE_ATTRIBUTE);
+        if (exchange == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest chainRequest = request;
+        HttpServletResponse chainResponse = response;
+        if (initial) {
+            request.setAttribute(EXCHANGE_ATTRIBUTE, exchange);
+            chainRequest = exchange.request != null ? exchange.request : request;
+            chainResponse = exchange.response != null ? exchange.response : response;
 
-        // FIXED: Finally 내부에 들어가면, External http request 보다 로그가 나중에 찍히는 문제.
-        logRequest(requestWrapper);
+            // FIXED: Finally 내부에 들어가면, External http request 보다 로그가 나중에 찍히는 문제.
+            if (exchange.sampled && properties.getMode() == HttpLoggingProperties.Mode.DEVELOPMENT) {
+                logRequest(chainRequest);
+            }
+        }
 
         try {
-            filterChain.doFilter(requestWrapper, responseWrapper);
+            filterChain.doFilter(chainRequest, chainResponse);
         } finally {
-            logResponse(responseWrapper);
-            responseWrapper.copyBodyToResponse(); // 중요: 응답 바디를 실제로 전송
+            if (!isAsyncStarted(request)) {
+                complete(exchange, chainRequest, chainResponse);
+            }
         }
     }
 
-    private void logRequest(ContentCachingRequestWrapper request) {
+    /**
+     * sampling 결정 후 필요한 경우에만 래핑
+     * @return 로그를 남기지 않는 요청이면 null
+     */
+    @Nullable
+    private Exchange start(HttpServletRequest request, HttpServletResponse response) {
+        HttpLoggingProperties.Route route = route(request);
+        double sampleRate = route != null && route.getSampleRate() != null
+                ? route.getSampleRate()
+                : properties.getSampleRate();
+        boolean sampled = log.isInfoEnabled() && (sampleRate >= 1.0
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate));
+
+        if (!sampled) {
+            return properties.isLogServerErrors() ? new Exchange(false, null, null) : null;
+        }
+        if (route != null && !route.isLogBody()) {
+            return new Exchange(true, null, null);
+        }
+
+        int maxBodySize = (int) Math.min(Integer.MAX_VALUE, properties.getMaxBodySize().toBytes());
+        return new Exchange(true,
+                new CapturingRequest(request, maxBodySize),
+                new CapturingResponse(response, maxBodySize));
+    }
+
+    @Nullable
+    private HttpLoggingProperties.Route route(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (CompiledRoute compiled : routes) {
+            if (compiled.matches(request.getMethod(), path)) {
+                return compiled.route();
+            }
+        }
+        return null;
+    }
+
+    private void complete(Exchange exchange, HttpServletRequest request, HttpServletResponse response) {
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - exchange.started);
+        int status = response.getStatus();
+
+        if (!exchange.sampled) {
+            if (status >= 500) {
+                Map<String, Object> http = summary(request, status, durationMs);
+                log.warn(Markers.append("http", http), "HTTP {} {} {} ({} ms)",
+                        request.getMethod(), request.getRequestURI(), status, durationMs);
+            }
+            return;
+        }
+
+        if (properties.getMode() == HttpLoggingProperties.Mode.DEVELOPMENT) {
+            logResponse(response, exchange.response);
+            return;
+        }
+
+        Map<String, Object> http = summary(request, status, durationMs);
+        http.put("request", message(allowedHeaders(request), exchange.request));
+        http.put("response", message(allowedHeaders(response), exchange.response));
+        log.info(Markers.append("http", http), "HTTP {} {} {} ({} ms)",
+                request.getMethod(), request.getRequestURI(), status, durationMs);
+    }
+
+    private Map<String, Object> summary(HttpServletRequest request, int status, long durationMs) {
+        Map<String, Object> http = new LinkedHashMap<>();
+        http.put("method", request.getMethod());
+        http.put("path", request.getRequestURI());
+        if (request.getQueryString() != null) {
+            http.put("query", request.getQueryString());
+        }
+        http.put("status", status);
+        http.put("duration_ms", durationMs);
+        http.put("client_ip", request.getRemoteAddr());
+        return http;
+    }
+
+    private Map<String, Object> message(Map<String, String> headers, @Nullable BodyCapture capture) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("headers", headers);
+        if (capture != null) {
+            String body = capture.body();
+            if (body != null && !body.isEmpty()) {
+                message.put("body", body);
+                message.put("body_truncated", capture.truncated());
+            }
+        }
+        return message;
+    }
+
+    // PRODUCTION: allowlist에 있는 헤더만 조회 (전체 헤더를 훑지 않음)
+    private Map<String, String> allowedHeaders(HttpServletRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : properties.getHeaders()) {
+            Collection<String> values = Collections.list(request.getHeaders(name));
+            if (!values.isEmpty()) {
+                headers.put(name, redact(name, values));
+            }
+        }
+        return headers;
+    }
+
+    private Map<String, String> allowedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : properties.getHeaders()) {
+            Collection<String> values = response.getHeaders(name);
+            if (!values.isEmpty()) {
+                headers.put(name, redact(name, values));
+            }
+        }
+        return headers;
+    }
+
+    private String redact(String name, Collection<String> values) {
+        return redactedHeaders.contains(name.toLowerCase(Locale.ROOT)) ? REDACTED : String.join(", ", values);
+    }
+
+    private void logRequest(HttpServletRequest request) {
         StringBuilder sb = new StringBuilder();
         sb.append("\n==== Request ====\n");
         sb.append("URI: ").append(request.getMethod()).append(" ").append(request.getRequestURI()).append("\n");
@@ -52,23 +243,25 @@ public class LoggingFilter extends OncePerRequestFilter {
         // Headers
         sb.append("Headers:\n");
         Collections.list(request.getHeaderNames()).forEach(headerName ->
-                sb.append("  ").append(headerName).append(": ").append(request.getHeader(headerName)).append("\n")
+                sb.append("  ").append(headerName).append(": ")
+                        .append(redact(headerName, Collections.list(request.getHeaders(headerName)))).append("\n")
         );
 
         // Body
-        byte[] content = request.getContentAsByteArray();
-        if (content.length > 0) {
-            String body = new String(content, StandardCharsets.UTF_8);
-            sb.append("Body: ").append(body).append("\n");
+        if (request instanceof CapturingRequest capturing) {
+            String body = capturing.body();
+            if (body != null && !body.isEmpty()) {
+                sb.append("Body: ").append(body).append("\n");
+            }
         }
 
         // 주의: 이 시점에서는 body가 아직 읽히지 않았을 수 있습니다
         // ContentCachingRequestWrapper는 실제로 읽힌 후에만 캐시합니다
 
-        logger.info(sb.toString());
+        log.info(sb.toString());
     }
 
-    private void logResponse(ContentCachingResponseWrapper response) {
+    private void logResponse(HttpServletResponse response, @Nullable CapturingResponse capture) {
         StringBuilder sb = new StringBuilder();
         sb.append("\n==== Response ====\n");
         sb.append("Status: ").append(response.getStatus()).append("\n");
@@ -76,17 +269,17 @@ public class LoggingFilter extends OncePerRequestFilter {
         // Headers
         sb.append("Headers:\n");
         response.getHeaderNames().forEach(headerName ->
-                sb.append("  ").append(headerName).append(": ").append(response.getHeader(headerName)).append("\n")
+                sb.append("  ").append(headerName).append(": ")
+                        .append(redact(headerName, response.getHeaders(headerName))).append("\n")
         );
 
         // Body
-        byte[] content = response.getContentAsByteArray();
-        if (content.length > 0) {
-            String body = new String(content, StandardCharsets.UTF_8);
-            sb.append("Body: ").append(formatJson(body)).append("\n");
+        String body = capture != null ? capture.body() : null;
+        if (body != null && !body.isEmpty()) {
+            sb.append("Body: ").append(capture.truncated() ? body + "...(truncated)" : formatJson(body)).append("\n");
         }
 
-        logger.info(sb.toString());
+        log.info(sb.toString());
     }
 
     // Body item 사이에 줄바꿈 '\n' 추가.
@@ -99,4 +292,238 @@ public class LoggingFilter extends OncePerRequestFilter {
             return json;
         }
     }
-}
\ No newline at end of file
+
+    // 텍스트 본문만 기록 (파일 / 바이너리 제외)
+    private static boolean isTextual(@Nullable String contentType) {
+        if (contentType == null) {
+            return true;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/") || type.contains("json") || type.contains("xml")
+                || type.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+    }
+
+    private static Charset charset(@Nullable String contentType) {
+        try {
+            Charset charset = contentType != null ? MediaType.parseMediaType(contentType).getCharset() : null;
+            return charset != null ? charset : StandardCharsets.UTF_8;
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private record CompiledRoute(HttpLoggingProperties.Route route, PathPattern pattern) {
+
+        boolean matches(String method, PathContainer path) {
+            return (route.getMethods().isEmpty()
+                    || route.getMethods().stream().anyMatch(method::equalsIgnoreCase))
+                    && pattern.matches(path);
+        }
+    }
+
+    /**
+     * 요청 단위 상태 (최초 dispatch에서 만들어 ASYNC dispatch까지 request attribute로 유지)
+     */
+    private static final class Exchange {
+        final long started = System.nanoTime();
+        final boolean sampled;
+        @Nullable
+        final CapturingRequest request;
+        @Nullable
+        final CapturingResponse response;
+
+        Exchange(boolean sampled, @Nullable CapturingRequest request, @Nullable CapturingResponse response) {
+            this.sampled = sampled;
+            this.request = request;
+            this.response = response;
+        }
+    }
+
+    private interface BodyCapture {
+
+        /**
+         * @return 보관한 본문 (텍스트가 아니면 null)
+         */
+        @Nullable
+        String body();
+
+        boolean truncated();
+    }
+
+    /**
+     * 읽힌 요청 본문을 limit까지만 보관
+     */
+    private static final class CapturingRequest extends ContentCachingRequestWrapper implements BodyCapture {
+
+        private boolean truncated;
+
+        private CapturingRequest(HttpServletRequest request, int limit) {
+            super(request, limit);
+        }
+
+        @Override
+        protected void handleContentOverflow(int contentCacheLimit) {
+            truncated = true;
+        }
+
+        @Override
+        @Nullable
+        public String body() {
+            return isTextual(getContentType()) ? new String(getContentAsByteArray(), charset(getContentType())) : null;
+        }
+
+        @Override
+        public boolean truncated() {
+            return truncated;
+        }
+    }
+
+    /**
+     * 응답을 그대로 내보내면서 앞부분(limit)만 복사 (ContentCachingResponseWrapper처럼 전체를 버퍼링하지 않음)
+     */
+    private static final class CapturingResponse extends HttpServletResponseWrapper implements BodyCapture {
+
+        private final int limit;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final StringBuilder chars = new StringBuilder();
+        private long written;
+        @Nullable
+        private ServletOutputStream outputStream;
+        @Nullable
+        private PrintWriter writer;
+
+        private CapturingResponse(HttpServletResponse response, int limit) {
+            super(response);
+            this.limit = limit;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new TeeOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new TeeWriter(super.getWriter()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            clear();
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            clear();
+        }
+
+        @Override
+        @Nullable
+        public String body() {
+            if (!isTextual(getContentType())) {
+                return null;
+            }
+            return !chars.isEmpty() ? chars.toString() : bytes.toString(charset(getContentType()));
+        }
+
+        @Override
+        public boolean truncated() {
+            return written > limit;
+        }
+
+        private void clear() {
+            bytes.reset();
+            chars.setLength(0);
+            written = 0;
+        }
+
+        private void capture(byte[] b, int off, int len) {
+            int room = (int) Math.max(0, limit - written);
+            bytes.write(b, off, Math.min(room, len));
+            written += len;
+        }
+
+        private void capture(char[] c, int off, int len) {
+            int room = (int) Math.max(0, limit - written);
+            chars.append(c, off, Math.min(room, len));
+            written += len;
+        }
+
+        private final class TeeOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            private TeeOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                if (written < limit) {
+                    bytes.write(b);
+                }
+                written++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                capture(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+
+        private final class TeeWriter extends Writer {
+
+            private final Writer delegate;
+
+            private TeeWriter(Writer delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(char[] c, int off, int len) throws IOException {
+                delegate.write(c, off, len);
+                capture(c, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+        }
+    }
+}
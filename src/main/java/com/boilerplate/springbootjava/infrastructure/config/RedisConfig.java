@@ -1,8 +1,29 @@
 package com.boilerplate.springbootjava.infrastructure.config;
 
 import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.application.user.service.UserExistenceGuard;
 import com.boilerplate.springbootjava.common.dto.PageResponseDto;
 import com.boilerplate.springbootjava.common.dto.PageResponseDtoMixIn;
+import com.boilerplate.springbootjava.infrastructure.cache.CacheCircuitBreakers;
+import com.boilerplate.springbootjava.infrastructure.cache.CacheInvalidationBus;
+import com.boilerplate.springbootjava.infrastructure.cache.CacheKeyEpoch;
+import com.boilerplate.springbootjava.infrastructure.cache.CacheRefreshLoaders;
+import com.boilerplate.springbootjava.infrastructure.cache.CacheTypeRegistry;
+import com.boilerplate.springbootjava.infrastructure.cache.CompactRedisSerializer;
+import com.boilerplate.springbootjava.infrastructure.cache.DegradedCacheErrorHandler;
+import com.boilerplate.springbootjava.infrastructure.cache.HotKeyTrackers;
+import com.boilerplate.springbootjava.infrastructure.cache.JitteredTtlFunction;
+import com.boilerplate.springbootjava.infrastructure.cache.RedisCacheLock;
+import com.boilerplate.springbootjava.infrastructure.cache.RedisHashCache;
+import com.boilerplate.springbootjava.infrastructure.cache.RedisKeyRouter;
+import com.boilerplate.springbootjava.infrastructure.cache.RedisReadReplica;
+import com.boilerplate.springbootjava.infrastructure.cache.RedisShards;
+import com.boilerplate.springbootjava.infrastructure.cache.ReplicaReadRedisCacheWriter;
+import com.boilerplate.springbootjava.infrastructure.cache.ShardedRedisCacheWriter;
+import com.boilerplate.springbootjava.infrastructure.cache.StampedeProtectedCacheManager;
+import com.boilerplate.springbootjava.infrastructure.cache.TwoLevelCacheManager;
+import com.boilerplate.springbootjava.infrastructure.cache.UserHashCodec;
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,33 +31,61 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
 
 import java.time.Duration;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableCaching  // 캐시 활성화
-public class RedisConfig {
+public class RedisConfig implements CachingConfigurer {
+
+    /**
+     * 캐시 오류 시 요청을 실패시키지 않고 DB로 진행
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new DegradedCacheErrorHandler();
+    }
 
     /**
      * API 응답용 ObjectMapper (기본)
      * - @Primary: 일반 API 호출 시 사용
      * - 타입 정보 없음
+     * - Blackbird: getter / 생성자 호출을 reflection 대신 LambdaMetafactory로 생성한 코드로 처리
      */
     @Bean
     @Primary
@@ -47,6 +96,7 @@ public class RedisConfig {
         mapper.registerModule(new JavaTimeModule());
         // Record 지원을 위한 ParameterNamesModule 추가
         mapper.registerModule(new ParameterNamesModule());
+        mapper.registerModule(new BlackbirdModule());
         // ISO-8601 출력
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         // 알 수 없는 속성 무시
@@ -129,66 +179,235 @@ public class RedisConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
-                                     @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
-                                     GenericJackson2JsonRedisSerializer jsonRedisSerializer) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                               @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
+                                               GenericJackson2JsonRedisSerializer jsonRedisSerializer,
+                                               AppCacheProperties appCacheProperties,
+                                               CacheProperties cacheProperties,
+                                               CacheKeyEpoch cacheKeyEpoch,
+                                               ObjectProvider<RedisReadReplica> redisReadReplica,
+                                               ObjectProvider<RedisShards> redisShards) {
 
         /* Custom JSON Serializers 생성 */
         // UserResponseDto
         Jackson2JsonRedisSerializer<UserResponseDto> userResponseSerializer =
                 new Jackson2JsonRedisSerializer<>(redisObjectMapper, UserResponseDto.class);
+        // 타입이 고정된 캐시의 JSON serializer (그 외 캐시는 타입 정보를 포함하는 jsonRedisSerializer)
+        Map<String, RedisSerializer<?>> typedJsonSerializers = Map.of("users", userResponseSerializer);
 
-        // 기본 캐시 설정
-        RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration
-                .defaultCacheConfig()
-                // 기본 TTL 10분
-                .entryTtl(Duration.ofMinutes(10))
-                .disableCachingNullValues()
-                .serializeKeysWith(
-                        RedisSerializationContext.SerializationPair
-                                .fromSerializer(new StringRedisSerializer())
-                )
-                .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonRedisSerializer)
-                );
-
-        /* Custom 캐시 설정 */
-        // "users"
-        RedisCacheConfiguration userConfig = RedisCacheConfiguration
-                .defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(1))
-                .disableCachingNullValues()
-                .serializeKeysWith(
-                        RedisSerializationContext.SerializationPair
-                                .fromSerializer(new StringRedisSerializer())
-                )
-                .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair
-                                .fromSerializer(userResponseSerializer)
-                );
-
-        // "userList"
-        RedisCacheConfiguration userListConfig = RedisCacheConfiguration
-                .defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(1))
-                .disableCachingNullValues()
-                .serializeKeysWith(
-                        RedisSerializationContext.SerializationPair
-                                .fromSerializer(new StringRedisSerializer())
-                )
-                .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonRedisSerializer)
-                );
-
-        return RedisCacheManager
-                .builder(redisConnectionFactory)
-                .cacheDefaults(defaultCacheConfig)
-                .withCacheConfiguration("users", userConfig)
-                .withCacheConfiguration("userList", userListConfig)
-                .transactionAware()
-                .build();
+        // 바이너리 형식(SMILE)용 타입 id - 한 번 사용한 id는 다른 타입에 재사용 금지
+        CacheTypeRegistry cacheTypeRegistry = new CacheTypeRegistry()
+                .register(1, UserResponseDto.class)
+                .register(2, redisObjectMapper.getTypeFactory()
+                        .constructParametricType(PageResponseDto.class, UserResponseDto.class));
+        ObjectMapper smileMapper = CompactRedisSerializer.defaultSmileMapper();
+
+        CacheConfigurations configurations = new CacheConfigurations(appCacheProperties, cacheProperties,
+                cacheKeyEpoch, smileMapper, cacheTypeRegistry, jsonRedisSerializer, typedJsonSerializers);
+
+        // 조회는 replica 우선, 기록 / 삭제는 master (app.redis.replica.enabled)
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory);
+        RedisReadReplica replica = redisReadReplica.getIfAvailable();
+        if (replica != null) {
+            cacheWriter = new ReplicaReadRedisCacheWriter(cacheWriter,
+                    RedisCacheWriter.nonLockingRedisCacheWriter(replica.getConnectionFactory()));
+        }
+        // app.redis.sharding.caches는 consistent hash로 여러 노드에 분산
+        RedisShards shards = redisShards.getIfAvailable();
+        if (shards != null) {
+            cacheWriter = new ShardedRedisCacheWriter(cacheWriter, shards.getCacheNames(), shards.cacheWriters());
+        }
+
+        // 코드에서 사용하는 캐시 + app.cache.caches에 설정된 캐시 (설정만 추가하면 새 캐시 조정 가능)
+        Set<String> cacheNames = new LinkedHashSet<>(List.of("users", "userList", UserExistenceGuard.NOT_FOUND_CACHE));
+        cacheNames.addAll(appCacheProperties.getCaches().keySet());
+
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager
+                .builder(cacheWriter)
+                // 설정에 없는 캐시
+                .cacheDefaults(configurations.forCache(null));
+        cacheNames.forEach(name -> builder.withCacheConfiguration(name, configurations.forCache(name)));
+
+        // 트랜잭션 처리는 TwoLevelCacheManager에서 (L1/L2/무효화 메시지를 함께 커밋 이후에 반영)
+        return builder.build();
+    }
+
+    /**
+     * app.cache.caches.{name} -> RedisCacheConfiguration
+     * - 키: cache:{epoch}:{key-prefix 또는 캐시 이름}::{key}
+     * - ttl / cache-null-values가 없으면 spring.cache.redis.* (userNotFound TTL은 app.cache.negative.ttl)
+     * - serializer가 없으면 app.cache.serialization.format
+     */
+    private record CacheConfigurations(AppCacheProperties appCacheProperties,
+                                       CacheProperties cacheProperties,
+                                       CacheKeyEpoch cacheKeyEpoch,
+                                       ObjectMapper smileMapper,
+                                       CacheTypeRegistry cacheTypeRegistry,
+                                       RedisSerializer<?> jsonSerializer,
+                                       Map<String, RedisSerializer<?>> typedJsonSerializers) {
+
+        private static final Duration FALLBACK_TTL = Duration.ofMinutes(10);
+
+        RedisCacheConfiguration forCache(@Nullable String name) {
+            AppCacheProperties.CacheSpec spec = name != null
+                    ? appCacheProperties.spec(name)
+                    : AppCacheProperties.CacheSpec.DEFAULT;
+
+            String epochPrefix = cacheKeyEpoch.prefix();
+            String keyPrefix = spec.getKeyPrefix();
+            RedisCacheConfiguration config = RedisCacheConfiguration
+                    .defaultCacheConfig()
+                    // 배포 버전별 키 네임스페이스 (cache:{epoch}:{cacheName}::{key})
+                    .computePrefixWith(cacheName ->
+                            epochPrefix + (StringUtils.hasText(keyPrefix) ? keyPrefix : cacheName) + "::")
+                    // TTL jitter - 동시에 적재된 엔트리가 한꺼번에 만료되지 않도록
+                    .entryTtl(JitteredTtlFunction.of(ttl(name, spec), spec.getJitterPercent()))
+                    .serializeKeysWith(
+                            RedisSerializationContext.SerializationPair
+                                    .fromSerializer(new StringRedisSerializer())
+                    )
+                    .serializeValuesWith(
+                            RedisSerializationContext.SerializationPair
+                                    .fromSerializer(valueSerializer(name, spec))
+                    );
+
+            boolean cacheNullValues = spec.getCacheNullValues() != null
+                    ? spec.getCacheNullValues()
+                    : cacheProperties.getRedis().isCacheNullValues();
+            return cacheNullValues ? config : config.disableCachingNullValues();
+        }
+
+        private Duration ttl(@Nullable String name, AppCacheProperties.CacheSpec spec) {
+            if (spec.getTtl() != null) {
+                return spec.getTtl();
+            }
+            if (UserExistenceGuard.NOT_FOUND_CACHE.equals(name)) {
+                return appCacheProperties.getNegative().getTtl();
+            }
+            Duration defaultTtl = cacheProperties.getRedis().getTimeToLive();
+            return defaultTtl != null ? defaultTtl : FALLBACK_TTL;
+        }
+
+        /**
+         * - JSON: 타입 고정 serializer 또는 jsonRedisSerializer
+         * - SMILE: CompactRedisSerializer (미등록 타입과 기존 JSON 값은 JSON serializer로 처리)
+         */
+        private RedisSerializer<?> valueSerializer(@Nullable String name, AppCacheProperties.CacheSpec spec) {
+            RedisSerializer<?> json = name != null
+                    ? typedJsonSerializers.getOrDefault(name, jsonSerializer)
+                    : jsonSerializer;
+
+            AppCacheProperties.Serialization serialization = appCacheProperties.getSerialization();
+            AppCacheProperties.Serialization.Format format = spec.getSerializer() != null
+                    ? spec.getSerializer()
+                    : serialization.getFormat();
+            if (format == AppCacheProperties.Serialization.Format.JSON) {
+                return json;
+            }
+            return new CompactRedisSerializer(
+                    smileMapper,
+                    cacheTypeRegistry,
+                    (int) serialization.getCompressionThreshold().toBytes(),
+                    (int) serialization.getMaxDecompressedSize().toBytes(),
+                    json
+            );
+        }
+    }
 
+    /**
+     * users 캐시 hash 저장소
+     * - app.cache.caches.users.storage=hash 이면 RedisCache 대신 L2로 사용
+     * - users 캐시 샤딩 시 키가 속한 노드로, 아니면 master(조회는 replica)로
+     */
+    @Bean
+    public RedisHashCache<UserResponseDto> userHashCache(RedisCacheManager redisCacheManager,
+                                                         StringRedisTemplate stringRedisTemplate,
+                                                         ObjectProvider<RedisReadReplica> redisReadReplica,
+                                                         ObjectProvider<RedisShards> redisShards) {
+        RedisShards shards = redisShards.getIfAvailable();
+        RedisKeyRouter router;
+        if (shards != null && shards.isSharded("users")) {
+            router = RedisKeyRouter.sharded(shards);
+        } else {
+            RedisReadReplica replica = redisReadReplica.getIfAvailable();
+            router = RedisKeyRouter.single(stringRedisTemplate,
+                    replica != null ? replica.getStringRedisTemplate() : stringRedisTemplate);
+        }
+        return new RedisHashCache<>(
+                "users",
+                router,
+                redisCacheManager.getCacheConfigurations().get("users"),
+                new UserHashCodec(),
+                UserHashCodec.VERSION
+        );
+    }
+
+    /**
+     * 애플리케이션에서 사용하는 CacheManager
+     * - StampedeProtected( TransactionAware( L1 Caffeine + L2 CircuitBreaking( Redis ) ) )
+     */
+    @Bean
+    @Primary
+    public CacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     RedisCacheLock redisCacheLock,
+                                     CacheRefreshLoaders cacheRefreshLoaders,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     CacheCircuitBreakers cacheCircuitBreakers,
+                                     HotKeyTrackers hotKeyTrackers,
+                                     RedisHashCache<UserResponseDto> userHashCache,
+                                     ObjectProvider<RedisShards> redisShards,
+                                     @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                     AppCacheProperties appCacheProperties) {
+        // users: hash 저장 (수정 시 변경 필드만 기록)
+        boolean usersAsHash =
+                appCacheProperties.spec("users").getStorage() == AppCacheProperties.CacheSpec.Storage.HASH;
+        Map<String, Cache> redisCaches = usersAsHash ? Map.of("users", userHashCache) : Map.of();
+        TwoLevelCacheManager twoLevelCacheManager = new TwoLevelCacheManager(
+                redisCacheManager, appCacheProperties, cacheInvalidationBus, cacheCircuitBreakers, redisCaches);
+
+        return new StampedeProtectedCacheManager(
+                twoLevelCacheManager,
+                redisCacheManager,
+                stringRedisTemplate,
+                redisShards.getIfAvailable(),
+                redisCacheLock,
+                cacheRefreshLoaders,
+                cacheCircuitBreakers,
+                hotKeyTrackers,
+                cacheRefreshExecutor,
+                appCacheProperties.getStampede(),
+                appCacheProperties.getHotKeys()
+        );
+    }
+
+    /**
+     * 노드 간 L1 캐시 무효화 메시지 수신
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    /**
+     * 조기 갱신(refresh-ahead) / PTTL 조회용 소규모 executor
+     * - 컨텍스트 종료 시 함께 종료 (진행 중인 갱신은 기다리지 않음)
+     * - 큐가 가득 차면 RejectedExecutionException - 호출 측에서 건너뜀 (만료 후 일반 적재 경로에서 처리)
+     * - defaultCandidate = false: 타입 주입 / 기본 applicationTaskExecutor 자동 구성에 영향 없음
+     */
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(4);
+        executor.setKeepAliveSeconds(30);
+        executor.setQueueCapacity(256);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.boilerplate.springbootjava.infrastructure.config;
+
+import com.boilerplate.springbootjava.infrastructure.coalescing.CoalesceRequests;
+import com.boilerplate.springbootjava.infrastructure.coalescing.RequestCoalescingInterceptor;
+import com.boilerplate.springbootjava.infrastructure.properties.RequestCoalescingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+@Configuration
+@EnableConfigurationProperties(RequestCoalescingProperties.class)
+public class RequestCoalescingConfig {
+
+    /**
+     * @CoalesceRequests 메서드에 RequestCoalescingInterceptor 적용
+     * - @Cacheable / @Transactional보다 바깥 (대기 중인 호출은 캐시 조회 / 트랜잭션도 하지 않음)
+     * - infrastructure role: @EnableCaching 등이 등록한 auto proxy creator가 함께 적용
+     * - advisor는 일찍 생성되므로 의존 bean은 첫 호출 시점에 조회
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor requestCoalescingAdvisor(ObjectProvider<RequestCoalescingProperties> properties,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        RequestCoalescingInterceptor interceptor = new RequestCoalescingInterceptor(
+                SingletonSupplier.of(properties::getObject),
+                SingletonSupplier.of(meterRegistry::getObject));
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(null, CoalesceRequests.class, true), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return advisor;
+    }
+}
@@ -1,7 +1,10 @@
 package com.boilerplate.springbootjava.infrastructure.config;
 
+import com.boilerplate.springbootjava.infrastructure.filter.idempotency.IdempotencyFilter;
+import com.boilerplate.springbootjava.infrastructure.filter.ratelimit.RateLimitFilter;
 import com.boilerplate.springbootjava.infrastructure.filter.security.JwtAuthenticationFilter;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,6 +18,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -26,6 +30,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -36,6 +42,8 @@ public class SecurityConfig {
                         sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답 재dispatch - 최초 REQUEST dispatch에서 이미 인가됨 (JWT 필터는 재실행되지 않음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/v1/auth/**",
                                 "/v3/api-docs/**", // OpenAPI spec 경로
@@ -49,7 +57,11 @@ public class SecurityConfig {
                         .hasAnyRole(UserRole.USER.name(), UserRole.MANAGER.name(), UserRole.ADMIN.name())
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                // 인증 결과(사용자)를 키로 쓰는 정책이 있으므로 JWT 필터 다음
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+                // 인가된 요청만 저장 / 재사용 (거절된 요청이 키를 선점하지 않도록)
+                .addFilterAfter(idempotencyFilter, AuthorizationFilter.class);
 
         return http.build();
     }
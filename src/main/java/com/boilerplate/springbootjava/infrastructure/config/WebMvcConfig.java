@@ -0,0 +1,35 @@
+package com.boilerplate.springbootjava.infrastructure.config;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.common.dto.PageResponseDto;
+import com.boilerplate.springbootjava.infrastructure.json.PrecompiledJsonHttpMessageConverter;
+import com.boilerplate.springbootjava.infrastructure.json.ResponseBodyHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 단건 / 목록 응답은 미리 만든 ObjectWriter로 기록 (기본 Jackson converter보다 앞에 등록)
+     * 응답 JSON 캐시 본문은 직렬화 없이 그대로 기록
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        TypeFactory types = objectMapper.getTypeFactory();
+        converters.add(0, new PrecompiledJsonHttpMessageConverter(objectMapper, List.of(
+                types.constructType(UserResponseDto.class),
+                types.constructParametricType(PageResponseDto.class, UserResponseDto.class)
+        )));
+        converters.add(0, new ResponseBodyHttpMessageConverter());
+    }
+}
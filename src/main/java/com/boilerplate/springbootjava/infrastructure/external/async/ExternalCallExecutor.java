@@ -0,0 +1,63 @@
+package com.boilerplate.springbootjava.infrastructure.external.async;
+
+import com.boilerplate.springbootjava.common.exception.CustomException;
+import com.boilerplate.springbootjava.common.exception.errorcode.ItemExternalApiErrorCode;
+import com.boilerplate.springbootjava.infrastructure.properties.HttpClientProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출을 요청 스레드(Tomcat worker) 밖의 virtual thread에서 실행
+ * - 컨트롤러는 CompletableFuture를 반환 (Spring MVC 비동기 처리) - 응답을 기다리는 동안 worker는 반환됨
+ * - app.http-client.async-timeout 초과 시 EXTERNAL_TIMEOUT(504), 진행 중인 호출은 read-timeout으로 끝남
+ * - 호출한 스레드의 SecurityContext 전달
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalCallExecutor {
+
+    private final HttpClientProperties httpClientProperties;
+
+    private final ExecutorService virtualThreads =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("external-call-", 0).factory());
+    private final Executor executor = new DelegatingSecurityContextExecutor(virtualThreads);
+
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor)
+                .orTimeout(httpClientProperties.getAsyncTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ExternalCallExecutor::rethrow);
+    }
+
+    public CompletableFuture<Void> run(Runnable call) {
+        return supply(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    // Spring MVC는 CompletionException을 풀어서 GlobalExceptionHandler로 전달
+    private static <T> T rethrow(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof TimeoutException) {
+            ItemExternalApiErrorCode errorCode = ItemExternalApiErrorCode.EXTERNAL_TIMEOUT;
+            throw new CustomException(errorCode, errorCode.getMessage(), cause);
+        }
+        throw ex instanceof CompletionException completion ? completion : new CompletionException(cause);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        virtualThreads.shutdownNow();
+    }
+}
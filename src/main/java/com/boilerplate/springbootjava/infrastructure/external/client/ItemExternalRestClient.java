@@ -2,6 +2,7 @@ package com.boilerplate.springbootjava.infrastructure.external.client;
 
 import com.boilerplate.springbootjava.common.exception.CustomException;
 import com.boilerplate.springbootjava.common.exception.errorcode.ErrorCode;
+import com.boilerplate.springbootjava.common.exception.errorcode.ItemExternalApiErrorCode;
 import com.boilerplate.springbootjava.common.exception.errorcode.mapper.ItemExternalApiErrorCodeMapper;
 import com.boilerplate.springbootjava.infrastructure.external.spec.ExternalRequestSpec;
 import com.boilerplate.springbootjava.infrastructure.external.spec.ExternalResponseSpec;
@@ -9,8 +10,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Component
 @RequiredArgsConstructor
 public class ItemExternalRestClient {
@@ -18,13 +25,15 @@ public class ItemExternalRestClient {
     private final RestClient.Builder restClientBuilder;
     private final ItemExternalApiErrorCodeMapper itemExternalApiErrorCodeMapper;
 
+    // baseUrl별 RestClient - 공유 builder를 호출마다 변경하면 동시 호출(비동기 처리) 시 경합
+    private final Map<String, RestClient> clients = new ConcurrentHashMap<>();
+
     public <T, R> R call(
             ExternalRequestSpec<T> request,
             ExternalResponseSpec<R> responseSpec
     ) {
-        RestClient client = restClientBuilder
-                .baseUrl(request.getBaseUrl())
-                .build();
+        RestClient client = clients.computeIfAbsent(request.getBaseUrl(),
+                baseUrl -> restClientBuilder.clone().baseUrl(baseUrl).build());
 
         RestClient.RequestBodySpec requestSpec =
                 client.method(request.getMethod())
@@ -46,6 +55,18 @@ public class ItemExternalRestClient {
             requestSpec.body(request.getBody());
         }
 
+        try {
+            return retrieve(requestSpec, responseSpec);
+        } catch (ResourceAccessException e) {
+            if (e.getCause() instanceof HttpTimeoutException || e.getCause() instanceof SocketTimeoutException) {
+                ErrorCode errorCode = ItemExternalApiErrorCode.EXTERNAL_TIMEOUT;
+                throw new CustomException(errorCode, errorCode.getMessage(), e);
+            }
+            throw e;
+        }
+    }
+
+    private <R> R retrieve(RestClient.RequestBodySpec requestSpec, ExternalResponseSpec<R> responseSpec) {
         return requestSpec
                 .retrieve()
                 .onStatus(
@@ -1,24 +1,49 @@
 package com.boilerplate.springbootjava.infrastructure.external.config;
 
 import com.boilerplate.springbootjava.infrastructure.interceptor.RestClientLoggingInterceptor;
+import com.boilerplate.springbootjava.infrastructure.properties.HttpClientProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
 @Configuration
 @RequiredArgsConstructor
 public class RestClientConfig {
 
     private final RestClientLoggingInterceptor loggingInterceptor;
+    private final HttpClientProperties httpClientProperties;
+    private final Environment environment;
+
+    /**
+     * 외부 API 호출용 JDK HttpClient (하나를 공유해야 커넥션 재사용 / HTTP/2 다중화가 됨)
+     * - HTTP/2: 같은 host로 가는 동시 요청을 커넥션 하나에서 stream으로 처리
+     * - 가상 스레드 모드면 내부 작업(연결 / 응답 처리)도 가상 스레드에서 실행
+     */
+    @Bean(destroyMethod = "close")
+    public HttpClient externalHttpClient() {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(httpClientProperties.getVersion())
+                .connectTimeout(httpClientProperties.getConnectTimeout());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
 
     @Bean
-    public RestClient.Builder restClientBuilder() {
+    public RestClient.Builder restClientBuilder(HttpClient externalHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(externalHttpClient);
+        requestFactory.setReadTimeout(httpClientProperties.getReadTimeout());
 
         return RestClient.builder()
                 .requestInterceptor(loggingInterceptor)
-                // SimpleClientHttpRequestFactory를 통해 강제로 HTTP1.1 설정
-                .requestFactory(new SimpleClientHttpRequestFactory());
+                .requestFactory(requestFactory);
     }
-}
\ No newline at end of file
+}
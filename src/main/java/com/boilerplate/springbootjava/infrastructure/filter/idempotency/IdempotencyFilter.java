@@ -0,0 +1,462 @@
+package com.boilerplate.springbootjava.infrastructure.filter.idempotency;
+
+import com.boilerplate.springbootjava.common.dto.CustomErrorResponseDto;
+import com.boilerplate.springbootjava.common.exception.errorcode.IdempotencyErrorCode;
+import com.boilerplate.springbootjava.infrastructure.properties.IdempotencyProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Idempotency-Key 필터 (AuthorizationFilter 다음 - 인가된 요청만)
+ * - 처음 요청: Redis에 처리 중 표시 후 실행, 응답(상태 / 주요 헤더 / 본문)을 response-ttl 동안 저장
+ * - 같은 키로 다시 온 요청: 저장된 응답을 그대로 반환 (Idempotent-Replayed: true) - 서비스 로직 / 외부 호출 없음
+ * - 처리 중인 키: 끝날 때까지 대기 (같은 노드면 완료 신호, 다른 노드면 Redis polling), wait-timeout 초과 시 409
+ * - 같은 키를 다른 요청(method / 경로 / 본문)에 쓰면 422, 본문이 max-request-size보다 크면 413
+ * - 5xx / 인증 오류 / 429 응답은 저장하지 않음 (재시도 시 다시 실행), Redis 오류 시 그대로 실행 (fail-open)
+ * - 키 범위: 인증된 사용자, 미인증이면 IP
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String OWNER_ATTRIBUTE = IdempotencyFilter.class.getName() + ".owner";
+    // 다시 돌려줄 응답 헤더 (보안 / 속도 제한 헤더는 필터가 매번 새로 씀)
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.LOCATION, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final List<CompiledEndpoint> endpoints;
+    // 이 노드에서 처리 중인 키 - 같은 노드의 중복 요청은 Redis polling 없이 완료 신호를 기다림
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             IdempotencyProperties properties,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.endpoints = properties.getEndpoints().stream()
+                .map(endpoint -> new CompiledEndpoint(endpoint,
+                        PathPatternParser.defaultInstance.parse(endpoint.getPattern())))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || request.getHeader(properties.getHeader()) == null) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        return endpoints.stream().noneMatch(endpoint -> endpoint.matches(request.getMethod(), path));
+    }
+
+    // 비동기 응답은 ASYNC dispatch가 끝날 때 저장
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        if (isAsyncDispatch(request)) {
+            continueAsync(request, response, filterChain);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(properties.getHeader());
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > properties.getMaxKeyLength()) {
+            reject(request, response, IdempotencyErrorCode.IDEMPOTENCY_KEY_INVALID);
+            return;
+        }
+
+        // 핸들러 / 검증 전에 본문 전체를 메모리에 읽으므로 크기 제한
+        long maxRequestSize = properties.getMaxRequestSize().toBytes();
+        byte[] requestBody = request.getContentLengthLong() > maxRequestSize
+                ? null
+                : request.getInputStream().readNBytes(Math.toIntExact(maxRequestSize + 1));
+        if (requestBody == null || requestBody.length > maxRequestSize) {
+            counter("too_large").increment();
+            reject(request, response, IdempotencyErrorCode.IDEMPOTENCY_REQUEST_TOO_LARGE);
+            return;
+        }
+        BufferedBodyRequest bufferedRequest = new BufferedBodyRequest(request, requestBody);
+        String key = sha256((scope(request) + "\n" + request.getMethod() + " " + request.getRequestURI()
+                + "\n" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+        String fingerprint = sha256((request.getMethod() + " " + request.getRequestURI() + "?"
+                + request.getQueryString() + "\n").getBytes(StandardCharsets.UTF_8), bufferedRequest.body);
+
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        try {
+            while (true) {
+                Optional<String> owner = store.tryBegin(key, fingerprint, properties.getProcessingTtl());
+                if (owner.isPresent()) {
+                    execute(bufferedRequest, response, filterChain, new Owner(key, fingerprint, owner.get()));
+                    return;
+                }
+
+                IdempotencyStore.Entry entry = store.get(key);
+                if (entry == null) {
+                    // 방금 해제됨 (저장하지 않는 응답) - 처리 권한 다시 시도
+                    continue;
+                }
+                if (!fingerprint.equals(entry.fingerprint())) {
+                    counter("reused").increment();
+                    reject(request, response, IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+                    return;
+                }
+                if (entry.completed()) {
+                    counter("replayed").increment();
+                    replay(response, entry);
+                    return;
+                }
+                if (System.nanoTime() >= deadline) {
+                    counter("in_progress").increment();
+                    response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                    reject(request, response, IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS);
+                    return;
+                }
+                awaitOwner(key, deadline);
+            }
+        } catch (DataAccessException e) {
+            log.warn("IdempotencyFilter - Redis unavailable, processing without idempotency: {} {}",
+                    request.getMethod(), request.getRequestURI(), e);
+            counter("bypassed").increment();
+            filterChain.doFilter(bufferedRequest, response);
+        }
+    }
+
+    private void execute(HttpServletRequest request,
+                         HttpServletResponse response,
+                         FilterChain filterChain,
+                         Owner owner) throws ServletException, IOException {
+        inFlight.put(owner.key, owner.done);
+        request.setAttribute(OWNER_ATTRIBUTE, owner);
+        CapturingResponse capture = new CapturingResponse(response);
+        counter("executed").increment();
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, capture);
+            failed = false;
+        } finally {
+            if (failed || !isAsyncStarted(request)) {
+                finish(owner, capture, failed);
+            } else {
+                // ASYNC dispatch 없이 끝나는 경우(timeout 후 오류 처리 등) 처리 중 표시 해제
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        release(owner);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            }
+        }
+    }
+
+    private void continueAsync(HttpServletRequest request,
+                               HttpServletResponse response,
+                               FilterChain filterChain) throws ServletException, IOException {
+        Owner owner = (Owner) request.getAttribute(OWNER_ATTRIBUTE);
+        CapturingResponse capture = WebUtils.getNativeResponse(response, CapturingResponse.class);
+        if (owner == null || capture == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (failed || !isAsyncStarted(request)) {
+                finish(owner, capture, failed);
+            }
+        }
+    }
+
+    private void finish(Owner owner, CapturingResponse capture, boolean failed) throws IOException {
+        if (!owner.finished.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int status = capture.getStatus();
+            byte[] body = capture.getContentAsByteArray();
+            if (!failed && isStorable(status) && body.length <= properties.getMaxResponseSize().toBytes()) {
+                boolean stored = store.complete(owner.key, owner.token, new IdempotencyStore.Entry(
+                        owner.fingerprint, null, status, storedHeaders(capture), body), properties.getResponseTtl());
+                if (!stored) {
+                    log.warn("IdempotencyFilter - processing-ttl {} expired before completion, response not stored",
+                            properties.getProcessingTtl());
+                }
+            } else {
+                store.abandon(owner.key, owner.fingerprint, owner.token);
+            }
+        } catch (DataAccessException e) {
+            log.warn("IdempotencyFilter - failed to store response, key will expire after {}",
+                    properties.getProcessingTtl(), e);
+        } finally {
+            inFlight.remove(owner.key, owner.done);
+            owner.done.complete(null);
+            capture.copyBodyToResponse();
+        }
+    }
+
+    private void release(Owner owner) {
+        if (!owner.finished.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            store.abandon(owner.key, owner.fingerprint, owner.token);
+        } catch (DataAccessException e) {
+            log.warn("IdempotencyFilter - failed to release key, it will expire after {}",
+                    properties.getProcessingTtl(), e);
+        } finally {
+            inFlight.remove(owner.key, owner.done);
+            owner.done.complete(null);
+        }
+    }
+
+    /**
+     * 같은 노드에서 처리 중이면 완료 신호, 아니면 poll-interval 만큼 대기
+     */
+    private void awaitOwner(String key, long deadline) throws IOException {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        CompletableFuture<Void> local = inFlight.get(key);
+        try {
+            if (local != null) {
+                local.get(remaining, TimeUnit.NANOSECONDS);
+            } else {
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, properties.getPollInterval().toNanos()));
+            }
+        } catch (TimeoutException | ExecutionException e) {
+            // 다음 반복에서 Redis 상태로 판단
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for idempotent request", e);
+        }
+    }
+
+    // 서비스 오류 / 인증 / 속도 제한 결과는 재시도 시 달라질 수 있으므로 저장하지 않음
+    private static boolean isStorable(int status) {
+        return status < 500 && status != 401 && status != 403 && status != 408 && status != 429;
+    }
+
+    private static Map<String, String> storedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : STORED_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.Entry entry) throws IOException {
+        response.setStatus(entry.status());
+        entry.headers().forEach(response::setHeader);
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(entry.body().length);
+        response.getOutputStream().write(entry.body());
+    }
+
+    private String scope(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)
+                ? "user:" + auth.getName()
+                : "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request,
+                        HttpServletResponse response,
+                        IdempotencyErrorCode errorCode) throws IOException {
+        log.info("IdempotencyFilter - {} {} rejected: {}", request.getMethod(), request.getRequestURI(),
+                errorCode.getCode());
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), CustomErrorResponseDto.of(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getMessage(),
+                request.getRequestURI()
+        ));
+    }
+
+    private Counter counter(String outcome) {
+        return Counter.builder("idempotency.requests")
+                .description("Idempotency-Key handling outcomes")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String sha256(byte[]... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(part);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 이 노드가 처리 권한을 가진 요청 (최초 dispatch / ASYNC dispatch / async listener 중 한 번만 마무리)
+     */
+    private static final class Owner {
+        final String key;
+        final String fingerprint;
+        final String token;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        final AtomicBoolean finished = new AtomicBoolean();
+
+        Owner(String key, String fingerprint, String token) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.token = token;
+        }
+    }
+
+    private record CompiledEndpoint(IdempotencyProperties.Endpoint endpoint, PathPattern pattern) {
+
+        boolean matches(String method, PathContainer path) {
+            return endpoint.getMethods().stream().anyMatch(method::equalsIgnoreCase) && pattern.matches(path);
+        }
+    }
+
+    /**
+     * 응답 저장용 (ASYNC dispatch에서 WebUtils로 다시 찾을 수 있도록 별도 타입)
+     */
+    private static final class CapturingResponse extends ContentCachingResponseWrapper {
+
+        private CapturingResponse(HttpServletResponse response) {
+            super(response);
+        }
+    }
+
+    /**
+     * 본문을 미리 읽어 fingerprint 계산 후 다시 읽을 수 있게 제공
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문은 이미 메모리에 있으므로 바로 읽기 가능 / 읽기 완료 통지
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), charset));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.boilerplate.springbootjava.infrastructure.filter.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 상태 저장소 (Redis String, JSON)
+ * - 처리 시작: SET NX (처리 중 표시 + 요청 fingerprint + 소유 토큰), 처리 완료: 응답으로 덮어쓰기
+ * - 완료 / 해제는 처리 중 표시가 자기 것일 때만 (processing-ttl이 지나 다른 요청이 가져간 키를 덮어쓰거나 지우지 않도록 Lua로 비교)
+ * - 트랜잭션 지원이 켜진 redisTemplate 대신 StringRedisTemplate 사용 (MULTI 큐잉 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    static final String KEY_PREFIX = "idempotency:";
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+                    + "return 1 "
+                    + "else return 0 end",
+            Long.class
+    );
+
+    private static final RedisScript<Long> ABANDON_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('del', KEYS[1]) "
+                    + "else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 처리 권한 획득 시 complete / abandon에 필요한 소유 토큰 (이미 같은 키가 있으면 empty)
+     */
+    public Optional<String> tryBegin(String key, String fingerprint, Duration ttl) {
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + key, write(Entry.processing(fingerprint, owner)), ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(owner) : Optional.empty();
+    }
+
+    @Nullable
+    public Entry get(String key) {
+        String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, Entry.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable idempotency entry: " + key, e);
+        }
+    }
+
+    /**
+     * @return 저장 여부 (처리 중 표시가 만료되어 다른 요청이 가져갔으면 false)
+     */
+    public boolean complete(String key, String owner, Entry entry, Duration ttl) {
+        Long stored = stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(KEY_PREFIX + key),
+                write(Entry.processing(entry.fingerprint(), owner)), write(entry), String.valueOf(ttl.toMillis()));
+        return Long.valueOf(1).equals(stored);
+    }
+
+    /**
+     * 처리 중 표시 해제 - 같은 키로 다시 요청하면 처음부터 실행
+     *
+     * @return 해제 여부 (이미 다른 요청의 키면 false)
+     */
+    public boolean abandon(String key, String fingerprint, String owner) {
+        Long deleted = stringRedisTemplate.execute(ABANDON_SCRIPT, List.of(KEY_PREFIX + key),
+                write(Entry.processing(fingerprint, owner)));
+        return Long.valueOf(1).equals(deleted);
+    }
+
+    private String write(Entry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unwritable idempotency entry", e);
+        }
+    }
+
+    /**
+     * @param fingerprint 요청 method / 경로 / 본문 해시 (같은 키를 다른 요청에 쓰면 거절)
+     * @param owner       처리 중 표시의 소유 토큰 (완료된 응답이면 null)
+     * @param status      처리 중이면 null
+     */
+    public record Entry(String fingerprint, @Nullable String owner, @Nullable Integer status,
+                        Map<String, String> headers, byte[] body) {
+
+        /**
+         * 같은 fingerprint / owner면 같은 JSON - complete / abandon의 소유자 비교 값
+         */
+        static Entry processing(String fingerprint, String owner) {
+            return new Entry(fingerprint, owner, null, Map.of(), new byte[0]);
+        }
+
+        boolean completed() {
+            return status != null;
+        }
+    }
+}
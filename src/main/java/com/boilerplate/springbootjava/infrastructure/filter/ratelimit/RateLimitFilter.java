@@ -0,0 +1,160 @@
+package com.boilerplate.springbootjava.infrastructure.filter.ratelimit;
+
+import com.boilerplate.springbootjava.common.dto.CustomErrorResponseDto;
+import com.boilerplate.springbootjava.common.exception.errorcode.CommonErrorCode;
+import com.boilerplate.springbootjava.infrastructure.properties.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 필터 (JwtAuthenticationFilter 다음)
+ * - 요청에 맞는 정책을 순서대로 적용, 하나라도 거절하면 429
+ * - 응답 헤더: RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset / RateLimit-Policy (IETF draft)
+ *   여러 정책이 맞으면 남은 토큰이 가장 적은 정책 기준, 거절 시 Retry-After 추가
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<CompiledPolicy> policies;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.policies = properties.getPolicies().stream()
+                .map(policy -> new CompiledPolicy(policy, PathPatternParser.defaultInstance.parse(policy.getPattern())))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || policies.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        if (apply(request, response)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * 정책 적용 후 RateLimit-* 헤더 기록, 거절 시 429 응답까지 기록 (batch 하위 요청도 이 메서드로 적용)
+     * @return 허용 여부
+     */
+    public boolean apply(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        RateLimiter.Decision decision = acquire(request);
+        if (decision != null && !decision.allowed()) {
+            reject(request, response, decision);
+            return false;
+        }
+
+        if (decision != null) {
+            writeHeaders(response, decision);
+        }
+        return true;
+    }
+
+    /**
+     * @return 거절한 정책의 결정, 모두 허용이면 남은 토큰이 가장 적은 정책의 결정, 맞는 정책이 없으면 null
+     */
+    @Nullable
+    private RateLimiter.Decision acquire(HttpServletRequest request) {
+        if (!properties.isEnabled() || policies.isEmpty()) {
+            return null;
+        }
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        RateLimiter.Decision reported = null;
+
+        for (CompiledPolicy compiled : policies) {
+            if (!compiled.matches(request.getMethod(), path)) {
+                continue;
+            }
+
+            RateLimiter.Decision decision = rateLimiter.tryAcquire(compiled.policy(), subject(request, compiled.policy()));
+            if (!decision.allowed()) {
+                return decision;
+            }
+            if (reported == null || decision.remaining() < reported.remaining()) {
+                reported = decision;
+            }
+        }
+        return reported;
+    }
+
+    private String subject(HttpServletRequest request, RateLimitProperties.Policy policy) {
+        return switch (policy.getKey()) {
+            case GLOBAL -> "*";
+            case IP -> "ip:" + request.getRemoteAddr();
+            case USER -> {
+                Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+                yield auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)
+                        ? "user:" + auth.getName()
+                        : "ip:" + request.getRemoteAddr();
+            }
+        };
+    }
+
+    private void reject(HttpServletRequest request,
+                        HttpServletResponse response,
+                        RateLimiter.Decision decision) throws IOException {
+        log.info("RateLimitFilter - rejected {} {} by policy {}",
+                request.getMethod(), request.getRequestURI(), decision.policy().getName());
+
+        CommonErrorCode errorCode = CommonErrorCode.TOO_MANY_REQUESTS;
+        writeHeaders(response, decision);
+        response.setHeader("Retry-After", Long.toString(decision.resetSeconds()));
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), CustomErrorResponseDto.of(
+                errorCode.getHttpStatus(),
+                errorCode.getCode(),
+                errorCode.getMessage(),
+                request.getRequestURI()
+        ));
+    }
+
+    private static void writeHeaders(HttpServletResponse response, RateLimiter.Decision decision) {
+        RateLimitProperties.Policy policy = decision.policy();
+        response.setHeader("RateLimit-Limit", Long.toString(decision.limit()));
+        response.setHeader("RateLimit-Remaining", Long.toString(Math.max(0, decision.remaining())));
+        response.setHeader("RateLimit-Reset", Long.toString(decision.resetSeconds()));
+        response.setHeader("RateLimit-Policy",
+                policy.getCapacity() + ";w=" + Math.max(1, policy.getRefillPeriod().toSeconds()));
+    }
+
+    private record CompiledPolicy(RateLimitProperties.Policy policy, PathPattern pattern) {
+
+        boolean matches(String method, PathContainer path) {
+            return (policy.getMethods().isEmpty()
+                    || policy.getMethods().stream().anyMatch(method::equalsIgnoreCase))
+                    && pattern.matches(path);
+        }
+    }
+}
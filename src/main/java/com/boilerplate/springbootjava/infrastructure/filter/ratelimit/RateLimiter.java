@@ -0,0 +1,157 @@
+package com.boilerplate.springbootjava.infrastructure.filter.ratelimit;
+
+import com.boilerplate.springbootjava.infrastructure.properties.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * token bucket 기반 속도 제한 (노드 로컬 선처리 + Redis 공유 bucket)
+ * - Redis에서 토큰을 묶음으로 가져와 localHold 동안 로컬에서 소비 (요청마다 Redis 호출하지 않음)
+ * - Redis가 거절하면 토큰이 생길 때까지 로컬에서 바로 거절 (거절 요청은 Redis 호출 없음)
+ * - Redis 오류 시 허용 (fail-open) - 속도 제한 때문에 서비스 전체가 멈추지 않도록
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final RedisTokenBucket tokenBucket;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+
+    private final Cache<String, LocalBucket> localBuckets;
+
+    public RateLimiter(RedisTokenBucket tokenBucket, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(tokenBucket, properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(RedisTokenBucket tokenBucket,
+                RateLimitProperties properties,
+                MeterRegistry meterRegistry,
+                LongSupplier nanoClock) {
+        this.tokenBucket = tokenBucket;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxLocalBuckets())
+                .expireAfterAccess(Duration.ofMinutes(5))
+                .build();
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     *
+     * @param subject IP / 사용자 / "*" (KeyType에 따라)
+     */
+    public Decision tryAcquire(RateLimitProperties.Policy policy, String subject) {
+        String key = policy.getName() + ":" + subject;
+        LocalBucket bucket = localBuckets.get(key, k -> new LocalBucket());
+
+        // synchronized 대신 ReentrantLock - 안에서 Redis I/O를 하므로 가상 스레드가 carrier에 고정되지 않도록
+        Decision decision;
+        bucket.lock.lock();
+        try {
+            decision = acquire(policy, key, bucket);
+        } finally {
+            bucket.lock.unlock();
+        }
+        counter(policy, decision.allowed() ? "allowed" : "rejected").increment();
+        return decision;
+    }
+
+    private Decision acquire(RateLimitProperties.Policy policy, String key, LocalBucket bucket) {
+        long now = nanoClock.getAsLong();
+
+        // 1. 최근 거절 - 토큰이 생길 때까지 Redis 호출 없이 거절
+        if (bucket.denied && now - bucket.deniedUntil < 0) {
+            return Decision.rejected(policy, bucket.deniedUntil - now);
+        }
+
+        // 2. 로컬에 가져온 토큰 사용
+        if (bucket.tokens > 0 && now - bucket.expiresAt < 0) {
+            bucket.tokens--;
+            return Decision.allowed(policy, bucket.remoteRemaining + bucket.tokens, bucket.fullRefillNanos);
+        }
+
+        // 3. Redis에서 묶음으로 가져옴 (남은 로컬 토큰은 만료로 버림)
+        RedisTokenBucket.Result result;
+        try {
+            result = tokenBucket.acquire(key, policy, batchSize(policy));
+        } catch (Exception e) {
+            log.debug("RateLimiter - Redis unavailable, allowing {}", key, e);
+            counter(policy, "error").increment();
+            return Decision.allowed(policy, policy.getCapacity(), 0);
+        }
+
+        bucket.denied = result.granted() == 0;
+        bucket.remoteRemaining = result.remaining();
+        bucket.fullRefillNanos = TimeUnit.MILLISECONDS.toNanos(result.fullRefillMillis());
+        if (bucket.denied) {
+            bucket.tokens = 0;
+            bucket.deniedUntil = now + TimeUnit.MILLISECONDS.toNanos(Math.max(1, result.retryAfterMillis()));
+            return Decision.rejected(policy, bucket.deniedUntil - now);
+        }
+
+        bucket.tokens = result.granted() - 1;
+        bucket.expiresAt = now + properties.getLocalHold().toNanos();
+        return Decision.allowed(policy, bucket.remoteRemaining + bucket.tokens, bucket.fullRefillNanos);
+    }
+
+    // 용량이 작은 정책(ex. 로그인 10회/분)은 한 노드가 토큰을 몰아 가져가지 않도록 1개씩
+    int batchSize(RateLimitProperties.Policy policy) {
+        long byCapacity = Math.max(1, policy.getCapacity() / 10);
+        return (int) Math.max(1, Math.min(properties.getLocalBatchSize(), byCapacity));
+    }
+
+    private Counter counter(RateLimitProperties.Policy policy, String outcome) {
+        return Counter.builder("rate_limit.requests")
+                .description("Rate limit decisions")
+                .tag("policy", policy.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 노드 로컬 상태 (bucket 단위로 동기화)
+     */
+    private static final class LocalBucket {
+        final ReentrantLock lock = new ReentrantLock();
+        int tokens;
+        long expiresAt;
+        boolean denied;
+        long deniedUntil;
+        long remoteRemaining;
+        long fullRefillNanos;
+    }
+
+    /**
+     * @param limit        정책 용량
+     * @param remaining    남은 토큰 수 (근사값 - 다른 노드가 가져간 토큰 제외)
+     * @param resetSeconds bucket이 가득 찰 때까지 (허용) / 다시 시도 가능할 때까지 (거절)
+     */
+    public record Decision(boolean allowed, RateLimitProperties.Policy policy, long limit, long remaining,
+                           long resetSeconds) {
+
+        static Decision allowed(RateLimitProperties.Policy policy, long remaining, long resetNanos) {
+            return new Decision(true, policy, policy.getCapacity(), remaining, toSeconds(resetNanos));
+        }
+
+        static Decision rejected(RateLimitProperties.Policy policy, long retryAfterNanos) {
+            return new Decision(false, policy, policy.getCapacity(), 0, Math.max(1, toSeconds(retryAfterNanos)));
+        }
+
+        private static long toSeconds(long nanos) {
+            return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.boilerplate.springbootjava.infrastructure.filter.ratelimit;
+
+import com.boilerplate.springbootjava.infrastructure.properties.RateLimitProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis token bucket (Lua, 원자적)
+ * - 충전량은 Redis 서버 시각(TIME) 기준으로 계산 (노드 간 시계 차이 영향 없음)
+ * - 요청한 수만큼 없으면 남은 만큼만 지급 (0개면 거절)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTokenBucket {
+
+    static final String KEY_PREFIX = "rate:";
+
+    // ARGV: capacity, refillPerMillis, requested
+    // 반환: { 지급 수, 남은 토큰(내림), 토큰 1개가 생길 때까지 ms, 가득 찰 때까지 ms }
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) "
+                    + "local rate = tonumber(ARGV[2]) "
+                    + "local requested = tonumber(ARGV[3]) "
+                    + "local t = redis.call('TIME') "
+                    + "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) "
+                    + "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') "
+                    + "local tokens = tonumber(state[1]) or capacity "
+                    + "local ts = tonumber(state[2]) or now "
+                    + "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) "
+                    + "local granted = math.min(requested, math.floor(tokens)) "
+                    + "tokens = tokens - granted "
+                    + "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now) "
+                    + "local full = math.ceil((capacity - tokens) / rate) "
+                    + "redis.call('PEXPIRE', KEYS[1], math.max(1000, full)) "
+                    + "local wait = 0 "
+                    + "if tokens < 1 then wait = math.ceil((1 - tokens) / rate) end "
+                    + "return { granted, math.floor(tokens), wait, full }",
+            List.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * @param key       bucket 키 (정책 + subject)
+     * @param requested 가져올 토큰 수
+     */
+    public Result acquire(String key, RateLimitProperties.Policy policy, int requested) {
+        List<?> result = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + key),
+                Long.toString(policy.getCapacity()),
+                Double.toString(policy.refillPerMillis()),
+                Integer.toString(requested));
+        if (result == null || result.size() < 4) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+        return new Result(
+                ((Number) result.get(0)).intValue(),
+                ((Number) result.get(1)).longValue(),
+                ((Number) result.get(2)).longValue(),
+                ((Number) result.get(3)).longValue()
+        );
+    }
+
+    /**
+     * @param granted           지급된 토큰 수
+     * @param remaining         지급 후 Redis bucket에 남은 토큰 수
+     * @param retryAfterMillis  토큰 1개가 생길 때까지 (남은 토큰이 있으면 0)
+     * @param fullRefillMillis  bucket이 가득 찰 때까지
+     */
+    public record Result(int granted, long remaining, long retryAfterMillis, long fullRefillMillis) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.boilerplate.springbootjava.infrastructure.json;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 자주 응답하는 DTO 전용 JSON 쓰기 (읽기는 기본 Jackson converter)
+ * - 타입별 ObjectWriter를 미리 만들어 root serializer 조회 / 생성 비용 없이 응답 스트림에 바로 기록
+ * - 등록하지 않은 타입은 기본 MappingJackson2HttpMessageConverter로 넘어감
+ */
+public class PrecompiledJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final ObjectMapper objectMapper;
+    private final Map<JavaType, ObjectWriter> writers;
+
+    public PrecompiledJsonHttpMessageConverter(ObjectMapper objectMapper, List<JavaType> types) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+        this.writers = types.stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), objectMapper::writerFor));
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return writers.containsKey(objectMapper.constructType(clazz));
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return canWrite(mediaType) && writers.containsKey(objectMapper.constructType(type != null ? type : clazz));
+    }
+
+    @Override
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        ObjectWriter writer = writers.get(objectMapper.constructType(type != null ? type : value.getClass()));
+        // 응답 스트림은 컨테이너가 닫음
+        writer.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), value);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Read not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Read not supported", inputMessage);
+    }
+}
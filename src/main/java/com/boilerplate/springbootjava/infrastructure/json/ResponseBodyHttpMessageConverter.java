@@ -0,0 +1,65 @@
+package com.boilerplate.springbootjava.infrastructure.json;
+
+import com.boilerplate.springbootjava.infrastructure.cache.ResponseBodyCache;
+import org.apache.catalina.connector.CoyoteOutputStream;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+/**
+ * 응답 JSON 캐시 본문(ResponseBodyCache.Body) 쓰기
+ * - Tomcat 응답 스트림이면 off-heap slot을 byte[] 복사 없이 ByteBuffer 그대로 기록
+ * - 필터가 응답을 감싼 경우(로그 캡처 등)에는 channel로 기록
+ * - 기록 후(실패 포함) slot pin 해제
+ */
+public class ResponseBodyHttpMessageConverter extends AbstractHttpMessageConverter<ResponseBodyCache.Body> {
+
+    public ResponseBodyHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ResponseBodyCache.Body.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(@Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Long getContentLength(ResponseBodyCache.Body body, @Nullable MediaType contentType) {
+        return (long) body.length();
+    }
+
+    @Override
+    protected void writeInternal(ResponseBodyCache.Body body, HttpOutputMessage outputMessage) throws IOException {
+        try {
+            OutputStream out = outputMessage.getBody();
+            ByteBuffer content = body.content();
+            if (out instanceof CoyoteOutputStream coyote) {
+                coyote.write(content);
+            } else {
+                // 응답 스트림은 컨테이너가 닫으므로 channel은 닫지 않음
+                Channels.newChannel(out).write(content);
+            }
+        } finally {
+            body.release();
+        }
+    }
+
+    @Override
+    protected ResponseBodyCache.Body readInternal(Class<? extends ResponseBodyCache.Body> clazz,
+                                                  HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Read not supported", inputMessage);
+    }
+}
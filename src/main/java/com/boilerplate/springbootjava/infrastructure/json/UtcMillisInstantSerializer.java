@@ -0,0 +1,73 @@
+package com.boilerplate.springbootjava.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Instant -> "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'" (UTC, 밀리초 이하 버림)
+ * - @JsonFormat(pattern)과 같은 결과를 DateTimeFormatter 없이 char[]로 바로 기록
+ * - 1~9999년 밖의 값은 DateTimeFormatter로 처리
+ * - 읽기는 기존 @JsonFormat 사용
+ */
+public class UtcMillisInstantSerializer extends StdSerializer<Instant> {
+
+    public static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+    static final DateTimeFormatter FALLBACK = DateTimeFormatter.ofPattern(PATTERN).withZone(ZoneOffset.UTC);
+
+    private static final int LENGTH = 24;
+
+    public UtcMillisInstantSerializer() {
+        super(Instant.class);
+    }
+
+    @Override
+    public void serialize(Instant value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buffer = new char[LENGTH];
+        if (format(value, buffer)) {
+            gen.writeString(buffer, 0, LENGTH);
+        } else {
+            gen.writeString(FALLBACK.format(value));
+        }
+    }
+
+    /**
+     * @return false면 범위 밖 (buffer 사용 불가)
+     */
+    static boolean format(Instant value, char[] buffer) {
+        LocalDateTime time = LocalDateTime.ofEpochSecond(value.getEpochSecond(), value.getNano(), ZoneOffset.UTC);
+        int year = time.getYear();
+        if (year < 1 || year > 9999) {
+            return false;
+        }
+
+        digits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        digits(buffer, 5, time.getMonthValue(), 2);
+        buffer[7] = '-';
+        digits(buffer, 8, time.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        digits(buffer, 11, time.getHour(), 2);
+        buffer[13] = ':';
+        digits(buffer, 14, time.getMinute(), 2);
+        buffer[16] = ':';
+        digits(buffer, 17, time.getSecond(), 2);
+        buffer[19] = '.';
+        digits(buffer, 20, time.getNano() / 1_000_000, 3);
+        buffer[23] = 'Z';
+        return true;
+    }
+
+    private static void digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
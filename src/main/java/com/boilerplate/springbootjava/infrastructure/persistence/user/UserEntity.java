@@ -56,6 +56,11 @@ public class UserEntity {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    // 낙관적 락 (수정 시마다 증가, ETag / If-Match에 사용)
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     public void activate() {
         this.status = UserStatus.ACTIVE;
     }
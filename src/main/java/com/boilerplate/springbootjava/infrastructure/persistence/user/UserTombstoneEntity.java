@@ -0,0 +1,32 @@
+package com.boilerplate.springbootjava.infrastructure.persistence.user;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 삭제된 사용자 기록 (변경분 동기화에서 삭제 전달용)
+ */
+@Entity
+@Table(name = "user_tombstones")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserTombstoneEntity {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+
+    public UserTombstoneEntity(Long userId, Instant deletedAt) {
+        this.userId = userId;
+        this.deletedAt = deletedAt;
+    }
+}
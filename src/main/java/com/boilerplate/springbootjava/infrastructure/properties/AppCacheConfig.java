@@ -0,0 +1,11 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+// CacheProperties(spring.cache.*): CacheManager를 직접 등록하면 자동 설정이 빠지므로 직접 바인딩
+@EnableConfigurationProperties({AppCacheProperties.class, CacheProperties.class})
+public class AppCacheConfig {
+}
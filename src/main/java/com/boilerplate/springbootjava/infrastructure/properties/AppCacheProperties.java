@@ -0,0 +1,244 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 캐시 설정 (app.cache.*)
+ */
+@ConfigurationProperties(prefix = "app.cache")
+@Getter
+@Setter
+public class AppCacheProperties {
+
+    // 캐시 키 epoch (cache:{epoch}:{cacheName}::{key}) - 비어 있으면 빌드 버전 + git commit으로 생성
+    private String keyEpoch;
+
+    private EpochSweeper epochSweeper = new EpochSweeper();
+
+    private Stampede stampede = new Stampede();
+
+    private NegativeLookup negative = new NegativeLookup();
+
+    private Serialization serialization = new Serialization();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private WarmUp warmUp = new WarmUp();
+
+    private HotKeys hotKeys = new HotKeys();
+
+    private ResponseBody responseBody = new ResponseBody();
+
+    // 캐시 이름별 설정 (ex. users, userList)
+    private Map<String, CacheSpec> caches = new LinkedHashMap<>();
+
+    public CacheSpec spec(String cacheName) {
+        return caches.getOrDefault(cacheName, CacheSpec.DEFAULT);
+    }
+
+    /**
+     * 이전 epoch 캐시 키 정리 (SCAN + UNLINK)
+     * - 기동 후 한 번, 롤링 배포가 끝날 만한 시간 뒤에 실행 (이전 버전 노드가 아직 사용 중일 수 있음)
+     * - Redis 락으로 한 노드만 실행
+     */
+    @Getter
+    @Setter
+    public static class EpochSweeper {
+        private boolean enabled = true;
+        private Duration initialDelay = Duration.ofMinutes(10);
+        // SCAN COUNT 힌트 (= UNLINK 배치 크기)
+        private int scanCount = 500;
+        // 초당 최대 삭제 키 수
+        private int maxKeysPerSecond = 2_000;
+    }
+
+    /**
+     * Cache stampede 방지 설정
+     * - 키 단위 single-flight (노드 내부 + Redis 분산 락)
+     * - 확률적 조기 갱신 (XFetch)
+     */
+    @Getter
+    @Setter
+    public static class Stampede {
+        // 분산 락 최대 유지 시간 (로더가 죽어도 이 시간 후 해제)
+        private Duration lockTimeout = Duration.ofSeconds(3);
+        // 다른 노드가 적재 중일 때 캐시를 다시 확인하며 기다리는 최대 시간
+        private Duration lockWait = Duration.ofMillis(500);
+        // 대기 중 캐시 재확인 간격
+        private Duration pollInterval = Duration.ofMillis(50);
+        // XFetch beta (1.0 기본, 클수록 더 일찍 갱신)
+        private double beta = 1.0;
+        // 다른 노드가 적재하여 재계산 시간을 모를 때 사용하는 기본값
+        private Duration defaultRecomputeTime = Duration.ofMillis(50);
+        // 조기 갱신을 위해 만료 시각을 추적하는 최대 키 수 (캐시당)
+        private int maxTrackedKeys = 10_000;
+    }
+
+    /**
+     * 존재하지 않는 id 조회 방어
+     * - Bloom filter로 확실히 없는 id는 캐시/DB 조회 없이 거절
+     * - 그 외 미존재 결과는 짧은 TTL로 캐싱 (userNotFound)
+     */
+    @Getter
+    @Setter
+    public static class NegativeLookup {
+        // 미존재 결과 캐시 TTL
+        private Duration ttl = Duration.ofSeconds(30);
+        // Bloom filter 재생성 주기 (삭제된 id 반영)
+        private Duration rebuildInterval = Duration.ofMinutes(10);
+        // Bloom filter false positive 확률
+        private double falsePositiveRate = 0.01;
+        // 시퀀스 할당 순서와 커밋 순서가 다를 수 있어, 스냅샷 최대 id 기준 이 범위 안의 id는 판단하지 않음
+        private long recentIdMargin = 1_000;
+    }
+
+    /**
+     * users / userList 캐시 값 직렬화
+     */
+    @Getter
+    @Setter
+    public static class Serialization {
+        // JSON: 기존 Jackson JSON (타입 정보 포함) / SMILE: 바이너리 + 타입 id (CompactRedisSerializer)
+        private Format format = Format.SMILE;
+        // 이 크기 이상인 값만 LZ4 압축 (0이면 압축 안 함)
+        private DataSize compressionThreshold = DataSize.ofKilobytes(1);
+        // 압축 해제 후 최대 크기 - 손상 / 외부 값의 원본 길이로 큰 배열을 할당하지 않도록
+        private DataSize maxDecompressedSize = DataSize.ofMegabytes(8);
+
+        public enum Format {
+            JSON, SMILE
+        }
+    }
+
+    /**
+     * Redis 캐시 circuit breaker (캐시별 독립)
+     * - 실패율 또는 느린 호출 비율이 임계값 이상이면 OPEN - Redis를 건너뛰고 L1 / DB로 처리
+     * - openDuration 후 HALF_OPEN에서 probe 호출로 복구 판단
+     * - 느린 호출 기준은 caches.{name}.latency-budget (없으면 defaultLatencyBudget)
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        // 판단에 사용하는 최근 호출 수
+        private int windowSize = 50;
+        // 이 수 이상 기록된 후에만 OPEN 판단
+        private int minimumCalls = 20;
+        // 실패율 임계값 (%)
+        private float failureRateThreshold = 50;
+        // 느린 호출 비율 임계값 (%)
+        private float slowCallRateThreshold = 50;
+        private Duration defaultLatencyBudget = Duration.ofMillis(50);
+        // OPEN 유지 시간
+        private Duration openDuration = Duration.ofSeconds(10);
+        // HALF_OPEN에서 허용하는 probe 호출 수
+        private int halfOpenCalls = 5;
+        // OPEN 동안 건너뛴 evict를 복구 후 재실행하기 위해 기억하는 최대 키 수 (초과 시 복구 후 캐시 전체 clear)
+        private int maxPendingEvictions = 10_000;
+    }
+
+    /**
+     * 기동 시 캐시 warm-up (readiness 전에 실행)
+     * - users: 최근 활동(refresh token 발급) 사용자를 DB에서 묶음 조회 후 Redis에 파이프라인 기록
+     * - userList: 기본 정렬 기준 앞쪽 페이지
+     */
+    @Getter
+    @Setter
+    public static class WarmUp {
+        private boolean enabled = true;
+        // 전체 제한 시간 - 초과 시 남은 작업은 취소하고 기동 진행
+        private Duration timeBudget = Duration.ofSeconds(20);
+        // 이 기간 내 토큰을 발급받은 사용자를 최근 활동 사용자로 간주
+        private Duration activeWithin = Duration.ofDays(7);
+        private int maxUsers = 5_000;
+        // DB 조회 / Redis 파이프라인 묶음 크기
+        private int batchSize = 500;
+        // 동시 적재 작업 수
+        private int parallelism = 4;
+        // 캐싱 대상 목록 페이지 수 (userList 캐시 조건 pageNumber < 5)
+        private int listPages = 5;
+    }
+
+    /**
+     * hot 키 추적 (count-min sketch + 상위 K, 노드 단위)
+     * - hot 키는 만료 refreshAhead 전에 백그라운드 재적재 (@Cacheable(sync = true) 캐시만)
+     */
+    @Getter
+    @Setter
+    public static class HotKeys {
+        private boolean enabled = true;
+        private List<String> caches = new ArrayList<>(List.of("users"));
+        // 보관하는 상위 키 수
+        private int topK = 100;
+        private int sketchDepth = 4;
+        private int sketchWidth = 4_096;
+        // 이 접근 수마다 카운트를 절반으로 감쇠
+        private long sampleSize = 100_000;
+        // hot 키 최소 추정 접근 수 (감쇠 적용 후)
+        private long minHits = 50;
+        // hot 키는 남은 TTL이 이 시간 이하이면 조기 갱신
+        private Duration refreshAhead = Duration.ofSeconds(15);
+    }
+
+    /**
+     * GET /api/v1/users/{id} 응답 JSON 캐시 (off-heap, 노드 단위)
+     * - users 캐시의 L1과 같은 TTL / 무효화 메시지 사용 (users L1이 없으면 사용 안 함)
+     */
+    @Getter
+    @Setter
+    public static class ResponseBody {
+        private boolean enabled = true;
+        private int maxEntries = 10_000;
+        // 엔트리당 고정 크기 (이보다 큰 응답은 캐시하지 않음) - 전체 크기 약 maxEntries * slotSize * 1.1
+        private DataSize slotSize = DataSize.ofBytes(512);
+    }
+
+    /**
+     * 캐시별 설정 (app.cache.caches.{name}) - 설정만 추가하면 새 캐시도 배포 시 조정 가능
+     * - 값이 없으면 spring.cache.redis.* / app.cache.serialization 기본값 사용
+     */
+    @Getter
+    @Setter
+    public static class CacheSpec {
+        public static final CacheSpec DEFAULT = new CacheSpec();
+
+        // 기본 TTL (null이면 spring.cache.redis.time-to-live, 0 이하면 만료 없음)
+        private Duration ttl;
+        // null 값 캐싱 여부 (null이면 spring.cache.redis.cache-null-values)
+        private Boolean cacheNullValues;
+        // 값 형식 (null이면 app.cache.serialization.format)
+        private Serialization.Format serializer;
+        // 키 prefix - cache:{epoch}:{keyPrefix}::{key} (null이면 캐시 이름)
+        private String keyPrefix;
+        // TTL jitter (%) - 동시에 적재된 엔트리가 한꺼번에 만료되지 않도록 TTL을 0~n% 늘림
+        private int jitterPercent = 0;
+        // Redis 저장 형식 - VALUE: 값 전체를 직렬화 / HASH: 속성별 hash 필드 (HashCodec이 등록된 캐시만, 수정 시 변경 필드만 기록)
+        private Storage storage = Storage.VALUE;
+        // Redis 호출 latency 예산 - 초과하면 circuit breaker에서 느린 호출로 집계 (null이면 기본값)
+        private Duration latencyBudget;
+        // In-process L1 캐시 (Redis L2 앞단)
+        private L1 l1 = new L1();
+
+        public enum Storage {
+            VALUE, HASH
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class L1 {
+        // 최대 엔트리 수 (0이면 L1 사용 안 함)
+        private long maxSize = 0;
+        // L1 TTL - 무효화 메시지를 놓친 경우의 최대 stale 시간
+        private Duration ttl = Duration.ofSeconds(10);
+    }
+}
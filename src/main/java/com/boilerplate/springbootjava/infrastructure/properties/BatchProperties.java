@@ -0,0 +1,28 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 묶음 요청 설정 (app.batch.*) - POST /api/v1/batch
+ */
+@ConfigurationProperties(prefix = "app.batch")
+@Getter
+@Setter
+public class BatchProperties {
+
+    private boolean enabled = true;
+    // 한 번에 보낼 수 있는 하위 요청 수 (하위 요청마다 virtual thread 하나)
+    private int maxItems = 20;
+    // 전체 대기 시간 - 초과한 하위 요청은 504
+    private Duration timeout = Duration.ofSeconds(10);
+    // 허용 method - 하위 요청은 병렬로 실행되므로 기본은 조회만
+    private List<String> methods = new ArrayList<>(List.of("GET"));
+    // 허용 경로 prefix (batch 자신은 항상 제외)
+    private String pathPrefix = "/api/v1/";
+}
@@ -0,0 +1,25 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 API 호출용 HTTP client 설정 (app.http-client.*)
+ */
+@ConfigurationProperties(prefix = "app.http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    // HTTP_2: https는 ALPN(h2), http는 h2c upgrade 시도 후 실패 시 HTTP/1.1 / HTTP_1_1: 항상 HTTP/1.1
+    private HttpClient.Version version = HttpClient.Version.HTTP_2;
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    // 응답 대기 시간 (요청 단위)
+    private Duration readTimeout = Duration.ofSeconds(10);
+    // 비동기 응답(CompletableFuture) 대기 시간 - 초과 시 504, connect-timeout + read-timeout 이상으로
+    private Duration asyncTimeout = Duration.ofSeconds(15);
+}
@@ -0,0 +1,9 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HttpLoggingProperties.class)
+public class HttpLoggingConfig {
+}
@@ -0,0 +1,57 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 / 응답 로그 설정 (app.http-logging.*, LoggingFilter)
+ * - 경로별 / 비율 sampling, 본문은 max-body-size까지만 보관
+ * - 헤더는 allowlist만 기록, 민감 헤더는 값 가림
+ */
+@ConfigurationProperties(prefix = "app.http-logging")
+@Getter
+@Setter
+public class HttpLoggingProperties {
+
+    private boolean enabled = true;
+    private Mode mode = Mode.PRODUCTION;
+    // 로그를 남길 요청 비율 (0.0 ~ 1.0) - 맞는 route가 없을 때
+    private double sampleRate = 1.0;
+    // 경로별 설정 (순서대로 처음 맞는 것 적용)
+    private List<Route> routes = new ArrayList<>();
+    // 요청 / 응답 본문 각각 보관할 최대 크기 (넘으면 잘라서 기록)
+    private DataSize maxBodySize = DataSize.ofKilobytes(2);
+    // 기록할 헤더 (PRODUCTION, 대소문자 무시)
+    private List<String> headers = new ArrayList<>(List.of(
+            "Content-Type", "Content-Length", "Accept", "User-Agent", "Idempotency-Key", "X-Request-Id"));
+    // 값을 가릴 헤더 (모든 mode)
+    private List<String> redactedHeaders = new ArrayList<>(List.of(
+            "Authorization", "Proxy-Authorization", "Cookie", "Set-Cookie"));
+    // sampling에서 빠진 요청도 5xx면 요약(본문 제외) 기록
+    private boolean logServerErrors = true;
+
+    @Getter
+    @Setter
+    public static class Route {
+        // PathPattern (ex. /actuator/**)
+        private String pattern;
+        // 비우면 모든 method
+        private List<String> methods = new ArrayList<>();
+        // 비우면 기본 sample-rate
+        private Double sampleRate;
+        // false면 본문 기록 안 함 (ex. 비밀번호가 있는 인증 요청)
+        private boolean logBody = true;
+    }
+
+    public enum Mode {
+        // 요청 시작 / 응답 각각 여러 줄로 기록, JSON 본문 정렬 출력, 모든 헤더 (local)
+        DEVELOPMENT,
+        // 완료 시 한 줄, logstash 필드(http.*)로 기록
+        PRODUCTION
+    }
+}
@@ -0,0 +1,46 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idempotency-Key 설정 (app.idempotency.*)
+ * - 같은 키로 다시 온 요청은 처음 응답을 Redis에서 그대로 돌려줌
+ */
+@ConfigurationProperties(prefix = "app.idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+    private String header = "Idempotency-Key";
+    private int maxKeyLength = 255;
+    // 대상 엔드포인트 (헤더가 있을 때만 적용)
+    private List<Endpoint> endpoints = new ArrayList<>();
+    // 처음 응답 보관 시간
+    private Duration responseTtl = Duration.ofHours(24);
+    // 처리 중 표시 유지 시간 - 처리 노드가 죽어도 이후 자동 해제 (요청 처리 최대 시간 이상으로)
+    private Duration processingTtl = Duration.ofSeconds(60);
+    // 같은 키가 처리 중일 때 기다리는 최대 시간 - 초과 시 409
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    // 다른 노드가 처리 중일 때 Redis 재확인 간격
+    private Duration pollInterval = Duration.ofMillis(50);
+    // fingerprint 계산을 위해 메모리에 읽는 요청 본문 최대 크기 - 초과 시 413
+    private DataSize maxRequestSize = DataSize.ofKilobytes(64);
+    // 이보다 큰 응답은 저장하지 않음 (재시도 시 다시 실행)
+    private DataSize maxResponseSize = DataSize.ofKilobytes(64);
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        // PathPattern (ex. /api/v1/users)
+        private String pattern;
+        private List<String> methods = new ArrayList<>(List.of("POST"));
+    }
+}
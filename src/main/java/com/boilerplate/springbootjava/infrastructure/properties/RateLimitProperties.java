@@ -0,0 +1,59 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 (app.rate-limit.*)
+ * - 정책별 token bucket (Redis에서 노드 간 공유)
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = false;
+    // Redis 1회 호출로 가져오는 최대 토큰 수 (용량의 1/10을 넘지 않음)
+    private int localBatchSize = 10;
+    // 가져온 토큰을 노드에서 사용할 수 있는 시간 (지나면 버림 - 노드 간 편중 방지)
+    private Duration localHold = Duration.ofMillis(500);
+    // 로컬 bucket 상태 최대 수 (subject 수 기준)
+    private long maxLocalBuckets = 100_000;
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private String name;
+        // PathPattern (ex. /api/v1/users/**)
+        private String pattern;
+        // 비우면 모든 method
+        private List<String> methods = new ArrayList<>();
+        private KeyType key = KeyType.IP;
+        // bucket 크기 (최대 연속 요청 수)
+        private long capacity = 100;
+        // capacity만큼 다시 채워지는 데 걸리는 시간
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        /**
+         * 밀리초당 충전 토큰 수
+         */
+        public double refillPerMillis() {
+            return (double) capacity / Math.max(1, refillPeriod.toMillis());
+        }
+    }
+
+    public enum KeyType {
+        // 클라이언트 IP
+        IP,
+        // 인증된 사용자 (미인증이면 IP)
+        USER,
+        // 정책 전체 공유
+        GLOBAL
+    }
+}
@@ -0,0 +1,25 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis replica 읽기 설정 (app.redis.replica.*)
+ * - spring.data.redis.sentinel이 설정되어 있으면 sentinel로 replica 탐색, 아니면 nodes 사용
+ */
+@ConfigurationProperties(prefix = "app.redis.replica")
+@Getter
+@Setter
+public class RedisReplicaProperties {
+
+    // true면 캐시 조회를 replica로 보냄 (기록 / 삭제 / 락 / Lua는 항상 master)
+    private boolean enabled = false;
+    // Lettuce ReadFrom 이름 (replicaPreferred, replica, nearest, any ...)
+    private String readFrom = "replicaPreferred";
+    // 정적 replica 노드 목록 (host:port) - master(spring.data.redis.host/port)는 자동 포함
+    private List<String> nodes = new ArrayList<>();
+}
@@ -0,0 +1,41 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클라이언트 측 Redis 샤딩 설정 (app.redis.sharding.*)
+ * - caches에 포함된 캐시만 nodes로 분산, 그 외 캐시 / 락 / Pub/Sub은 기본 연결(spring.data.redis) 사용
+ */
+@ConfigurationProperties(prefix = "app.redis.sharding")
+@Getter
+@Setter
+public class RedisShardingProperties {
+
+    private boolean enabled = false;
+    // 샤딩 대상 캐시 이름
+    private List<String> caches = new ArrayList<>(List.of("users"));
+    // 노드당 가상 노드 수
+    private int virtualNodes = 160;
+    private List<Node> nodes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Node {
+        // ring 위치를 결정하는 이름 - 노드 교체 시 같은 이름을 쓰면 키 분포 유지 (비우면 host:port)
+        private String name;
+        private String host = "localhost";
+        private int port = 6379;
+        // 비우면 spring.data.redis.password
+        private String password;
+        private int database = 0;
+
+        public String resolvedName() {
+            return name != null && !name.isBlank() ? name : host + ":" + port;
+        }
+    }
+}
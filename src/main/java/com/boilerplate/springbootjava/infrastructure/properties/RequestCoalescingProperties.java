@@ -0,0 +1,21 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 동시 조회 합치기 설정 (app.request-coalescing.*) - 대상은 @CoalesceRequests 메서드
+ */
+@ConfigurationProperties(prefix = "app.request-coalescing")
+@Getter
+@Setter
+public class RequestCoalescingProperties {
+
+    // false면 @CoalesceRequests가 있어도 매번 실행
+    private boolean enabled = true;
+    // 먼저 실행 중인 호출을 기다리는 최대 시간 - 초과하면 직접 실행
+    private Duration maxWait = Duration.ofSeconds(5);
+}
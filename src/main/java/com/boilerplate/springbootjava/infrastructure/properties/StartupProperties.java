@@ -0,0 +1,19 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 기동 시간 측정 설정 (app.startup.*)
+ */
+@ConfigurationProperties(prefix = "app.startup")
+@Getter
+@Setter
+public class StartupProperties {
+
+    // ready 시점에 출력할 오래 걸린 기동 단계 수 (0이면 출력 안 함)
+    private int slowestSteps = 10;
+    // ready 직후 종료 - 기동 시간 벤치마크 / CDS 학습 실행용
+    private boolean exitOnReady = false;
+}
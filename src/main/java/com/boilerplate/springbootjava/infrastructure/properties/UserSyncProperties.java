@@ -0,0 +1,25 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 사용자 변경분 동기화 설정 (app.user-sync.*)
+ */
+@ConfigurationProperties(prefix = "app.user-sync")
+@Getter
+@Setter
+public class UserSyncProperties {
+
+    // 커밋 순서와 updated_at 순서가 다를 수 있어, 현재 시각 - safetyLag 이전 변경분만 반환
+    private Duration safetyLag = Duration.ofSeconds(5);
+    // 삭제 기록 보관 기간 (이보다 오래된 토큰은 전체 재동기화 필요)
+    private Duration tombstoneRetention = Duration.ofDays(30);
+    // 보관 기간이 지난 삭제 기록 정리 주기
+    private Duration purgeInterval = Duration.ofHours(1);
+    // 1회 응답 최대 건수
+    private int maxLimit = 1_000;
+}
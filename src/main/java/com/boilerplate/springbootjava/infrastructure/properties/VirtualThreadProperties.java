@@ -0,0 +1,35 @@
+package com.boilerplate.springbootjava.infrastructure.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 진단 설정 (app.virtual-threads.*)
+ * - 가상 스레드 사용 여부 자체는 spring.threads.virtual.enabled
+ */
+@ConfigurationProperties(prefix = "app.virtual-threads")
+@Getter
+@Setter
+public class VirtualThreadProperties {
+
+    private Pinning pinning = new Pinning();
+
+    /**
+     * carrier 스레드 pinning 감지 (JFR jdk.VirtualThreadPinned)
+     */
+    @Getter
+    @Setter
+    public static class Pinning {
+        // 가상 스레드 사용 시에만 동작
+        private boolean enabled = true;
+        // 이 시간 이상 pinning된 경우만 기록 (JFR 이벤트 threshold)
+        private Duration threshold = Duration.ofMillis(20);
+        // 집계할 최대 위치 수 (초과분은 "other"로 합산 - 메트릭 tag 수 제한)
+        private int maxSites = 50;
+        // 애플리케이션 코드 위치 판단 기준 패키지
+        private String basePackage = "com.boilerplate.springbootjava";
+    }
+}
@@ -0,0 +1,68 @@
+package com.boilerplate.springbootjava.infrastructure.startup;
+
+import com.boilerplate.springbootjava.infrastructure.properties.StartupProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 기동 완료(ready) 시간 기록
+ * - "ready in {n} ms" 로그: JVM 시작부터 ready(warm-up 등 ApplicationRunner 포함)까지 - docs/startup/startup-benchmark.sh가 사용
+ * - 오래 걸린 기동 단계 상위 n개 출력 (전체는 GET /actuator/startup)
+ * - app.startup.exit-on-ready=true면 바로 종료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTimeReporter {
+
+    private final StartupProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        log.info("StartupTimeReporter - ready in {} ms (aot={}, cds={})",
+                uptime, AotDetector.useGeneratedArtifacts(), isCdsArchiveInUse());
+
+        ApplicationStartup startup = event.getSpringApplication().getApplicationStartup();
+        if (properties.getSlowestSteps() > 0 && startup instanceof BufferingApplicationStartup buffering) {
+            slowestSteps(buffering.getBufferedTimeline(), properties.getSlowestSteps())
+                    .forEach(step -> log.info("StartupTimeReporter - {} ms {} {}",
+                            step.getDuration().toMillis(), step.getStartupStep().getName(), tags(step)));
+        }
+
+        if (properties.isExitOnReady()) {
+            System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 0));
+        }
+    }
+
+    static List<StartupTimeline.TimelineEvent> slowestSteps(StartupTimeline timeline, int limit) {
+        return timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration, Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    private static String tags(StartupTimeline.TimelineEvent step) {
+        StringBuilder tags = new StringBuilder();
+        step.getStartupStep().getTags().forEach(tag ->
+                tags.append(tag.getKey()).append('=').append(tag.getValue()).append(' '));
+        return tags.toString().trim();
+    }
+
+    private static boolean isCdsArchiveInUse() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+    }
+}
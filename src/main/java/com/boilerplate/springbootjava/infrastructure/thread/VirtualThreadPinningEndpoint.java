@@ -0,0 +1,29 @@
+package com.boilerplate.springbootjava.infrastructure.thread;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 가상 스레드 pinning 위치별 집계 (GET /actuator/vtpinning) - 이 노드 기준
+ * - management.endpoints.web.exposure.include에 vtpinning 추가 필요
+ */
+@Component
+@Endpoint(id = "vtpinning")
+@RequiredArgsConstructor
+public class VirtualThreadPinningEndpoint {
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    @ReadOperation
+    public Map<String, Object> pinning() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("monitoring", monitor.isRunning());
+        result.put("sites", monitor.sites());
+        return result;
+    }
+}
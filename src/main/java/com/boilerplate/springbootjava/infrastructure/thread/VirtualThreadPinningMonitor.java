@@ -0,0 +1,186 @@
+package com.boilerplate.springbootjava.infrastructure.thread;
+
+import com.boilerplate.springbootjava.infrastructure.properties.VirtualThreadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 carrier pinning 감지 (JFR jdk.VirtualThreadPinned 이벤트 스트리밍)
+ * - synchronized 블록 / native 프레임 안에서 blocking 되면 carrier 스레드를 점유해 처리량이 떨어짐
+ * - 첫 애플리케이션 프레임(basePackage) 기준으로 위치별 집계 (GET /actuator/vtpinning)
+ * - 메트릭: virtual_thread.pinned{site} (timer)
+ * - spring.threads.virtual.enabled=true 일 때만 동작
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    static final String EVENT = "jdk.VirtualThreadPinned";
+    static final String OTHER = "other";
+    static final String UNKNOWN = "unknown";
+    private static final int MAX_STACK_DEPTH = 20;
+
+    private final VirtualThreadProperties.Pinning properties;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, Site> sites = new ConcurrentHashMap<>();
+
+    @Nullable
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties virtualThreadProperties,
+                                       Environment environment,
+                                       MeterRegistry meterRegistry) {
+        this.properties = virtualThreadProperties.getPinning();
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || !Threading.VIRTUAL.isActive(environment) || stream != null) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(EVENT).withThreshold(properties.getThreshold()).withStackTrace();
+            recording.onEvent(EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+            log.info("VirtualThreadPinningMonitor - started (threshold {})", properties.getThreshold());
+        } catch (Exception e) {
+            // JFR 미지원 런타임 등 - 진단 기능이므로 기동은 계속
+            log.warn("VirtualThreadPinningMonitor - JFR streaming unavailable", e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * @return 위치별 집계 (횟수 내림차순)
+     */
+    public List<PinnedSite> sites() {
+        return sites.values().stream()
+                .map(Site::snapshot)
+                .sorted(Comparator.comparingLong(PinnedSite::count).reversed())
+                .toList();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String> frames = stackTrace != null
+                ? stackTrace.getFrames().stream().map(VirtualThreadPinningMonitor::frame).toList()
+                : List.of();
+        record(frames, event.getDuration());
+    }
+
+    void record(List<String> frames, Duration duration) {
+        String site = site(frames, properties.getBasePackage());
+        if (!sites.containsKey(site) && sites.size() >= properties.getMaxSites()) {
+            site = OTHER;
+        }
+
+        Site aggregate = sites.computeIfAbsent(site, name -> {
+            // 위치별 첫 발생만 경고 (이후는 집계 / 메트릭으로 확인)
+            log.warn("VirtualThreadPinningMonitor - carrier pinned {} ms at {}\n\t{}",
+                    duration.toMillis(), name, String.join("\n\t", head(frames)));
+            return new Site(name, head(frames));
+        });
+        aggregate.record(duration);
+
+        Timer.builder("virtual_thread.pinned")
+                .description("Virtual thread carrier pinning")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(duration);
+    }
+
+    /**
+     * 첫 애플리케이션 프레임, 없으면 최상단 프레임
+     */
+    static String site(List<String> frames, String basePackage) {
+        String prefix = basePackage + ".";
+        for (String frame : frames) {
+            if (frame.startsWith(prefix)) {
+                return frame;
+            }
+        }
+        return frames.isEmpty() ? UNKNOWN : frames.get(0);
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static List<String> head(List<String> frames) {
+        return frames.size() > MAX_STACK_DEPTH ? frames.subList(0, MAX_STACK_DEPTH) : frames;
+    }
+
+    private static final class Site {
+
+        private final String name;
+        private final List<String> stackTrace;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private volatile Instant lastSeen;
+
+        Site(String name, List<String> stackTrace) {
+            this.name = name;
+            this.stackTrace = List.copyOf(stackTrace);
+        }
+
+        void record(Duration duration) {
+            count.increment();
+            totalNanos.add(duration.toNanos());
+            maxNanos.accumulate(duration.toNanos());
+            lastSeen = Instant.now();
+        }
+
+        PinnedSite snapshot() {
+            return new PinnedSite(name, count.sum(), Duration.ofNanos(totalNanos.sum()).toMillis(),
+                    Duration.ofNanos(maxNanos.get()).toMillis(), lastSeen, stackTrace);
+        }
+    }
+
+    /**
+     * @param stackTrace 처음 발생 시점의 stack (최대 20 프레임)
+     */
+    public record PinnedSite(String site, long count, long totalMillis, long maxMillis, Instant lastSeen,
+                             List<String> stackTrace) {
+    }
+}
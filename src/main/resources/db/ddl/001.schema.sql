@@ -8,7 +8,8 @@ CREATE TABLE users
     phone_number VARCHAR(255)  NOT NULL,
     status       VARCHAR(20)  NOT NULL,
     created_at   TIMESTAMP    NOT NULL,
-    updated_at   TIMESTAMP    NOT NULL
+    updated_at   TIMESTAMP    NOT NULL,
+    version      BIGINT       NOT NULL DEFAULT 0
 );
 
 CREATE TABLE refresh_tokens
@@ -20,4 +21,19 @@ CREATE TABLE refresh_tokens
     created_at TIMESTAMP    NOT NULL,
     CONSTRAINT fk_refresh_user
         FOREIGN KEY (user_id) REFERENCES users (id)
-);
\ No newline at end of file
+);
+
+-- 변경분 동기화 (GET /api/v1/users/changes) - (updated_at, id) keyset 조회
+CREATE INDEX idx_users_updated_at_id ON users (updated_at, id);
+
+-- 삭제된 사용자 (변경분 동기화용, 보관 기간 이후 삭제)
+CREATE TABLE user_tombstones
+(
+    user_id    BIGINT    PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_user_tombstones_deleted_at_user_id ON user_tombstones (deleted_at, user_id);
+
+-- 캐시 warm-up - 최근 활동 사용자 조회
+CREATE INDEX idx_refresh_tokens_created_at ON refresh_tokens (created_at);
@@ -0,0 +1,82 @@
+package com.boilerplate.springbootjava.adapter.in.web.v1.user;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.common.exception.CustomException;
+import com.boilerplate.springbootjava.common.exception.errorcode.UserErrorCode;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * UserETags 단위 테스트
+ */
+class UserETagsTest {
+
+    private UserResponseDto user(long version, Instant updatedAt) {
+        return new UserResponseDto(1L, UserRole.USER, "test@test.com", "Test User", "010-1234-5678",
+                UserStatus.ACTIVE, updatedAt, updatedAt, version);
+    }
+
+    @Test
+    @DisplayName("ETag - 버전 또는 수정 시각이 바뀌면 달라짐")
+    void of_ChangesWithVersionAndUpdatedAt() {
+        // given
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        // when & then
+        assertThat(UserETags.of(user(1, now))).isEqualTo(UserETags.of(user(1, now)));
+        assertThat(UserETags.of(user(1, now))).isNotEqualTo(UserETags.of(user(2, now)));
+        assertThat(UserETags.of(user(1, now))).isNotEqualTo(UserETags.of(user(1, now.plusMillis(1))));
+    }
+
+    @Test
+    @DisplayName("If-None-Match - 목록 / weak / * 중 하나라도 일치하면 true")
+    void matchesIfNoneMatch() {
+        // given
+        String eTag = "\"1-7-18d\"";
+
+        // when & then
+        assertThat(UserETags.matchesIfNoneMatch(new String[]{"\"1-6-18c\", " + eTag}, eTag)).isTrue();
+        assertThat(UserETags.matchesIfNoneMatch(new String[]{"W/" + eTag}, eTag)).isTrue();
+        assertThat(UserETags.matchesIfNoneMatch(new String[]{"*"}, eTag)).isTrue();
+        assertThat(UserETags.matchesIfNoneMatch(new String[]{"\"1-6-18c\""}, eTag)).isFalse();
+        assertThat(UserETags.matchesIfNoneMatch(null, eTag)).isFalse();
+    }
+
+    @Test
+    @DisplayName("If-Match - 현재 ETag에서 버전 추출")
+    void expectedVersion_FromOwnETag() {
+        // given
+        String eTag = UserETags.of(user(7, Instant.now()));
+
+        // when & then
+        assertThat(UserETags.expectedVersion(1L, eTag)).isEqualTo(7L);
+        assertThat(UserETags.expectedVersion(1L, "W/\"x\", " + eTag)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("If-Match - 헤더 없음 또는 * 는 조건 없음")
+    void expectedVersion_NoCondition() {
+        assertThat(UserETags.expectedVersion(1L, null)).isNull();
+        assertThat(UserETags.expectedVersion(1L, "*")).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Match - 다른 사용자/weak ETag만 있으면 412")
+    void expectedVersion_NoMatchingETag_ThrowsException() {
+        // given
+        String otherUser = "\"2-7-18d\"";
+        String weak = "W/\"1-7-18d\"";
+
+        // when & then
+        assertThatThrownBy(() -> UserETags.expectedVersion(1L, otherUser + ", " + weak))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(UserErrorCode.USER_PRECONDITION_FAILED);
+    }
+}
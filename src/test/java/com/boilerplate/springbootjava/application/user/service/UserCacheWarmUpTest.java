@@ -0,0 +1,119 @@
+package com.boilerplate.springbootjava.application.user.service;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.application.auth.port.out.RefreshTokenRepository;
+import com.boilerplate.springbootjava.application.user.port.in.UserUseCase;
+import com.boilerplate.springbootjava.application.user.port.out.UserRepository;
+import com.boilerplate.springbootjava.common.dto.PageResponseDto;
+import com.boilerplate.springbootjava.infrastructure.cache.CacheCircuitBreakers;
+import com.boilerplate.springbootjava.infrastructure.cache.RedisHashCache;
+import com.boilerplate.springbootjava.infrastructure.cache.RedisShards;
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserCacheWarmUp 단위 테스트
+ * - Repository / Redis Mock 사용
+ */
+@ExtendWith(MockitoExtension.class)
+class UserCacheWarmUpTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserUseCase userUseCase;
+
+    @Mock
+    private RedisCacheManager redisCacheManager;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private CacheCircuitBreakers circuitBreakers;
+
+    @Mock
+    private RedisHashCache<UserResponseDto> userHashCache;
+
+    @Mock
+    private ObjectProvider<RedisShards> redisShards;
+
+    private UserCacheWarmUp userCacheWarmUp;
+
+    @BeforeEach
+    void setUp() {
+        userCacheWarmUp = new UserCacheWarmUp(userRepository, refreshTokenRepository, userUseCase,
+                redisCacheManager, stringRedisTemplate, circuitBreakers, userHashCache, redisShards,
+                new AppCacheProperties());
+    }
+
+    private long farDeadline() {
+        return System.nanoTime() + 60_000_000_000L;
+    }
+
+    @Test
+    @DisplayName("목록 warm-up - 마지막 페이지에서 중단")
+    void warmUpListPages_StopsAtLastPage() {
+        // given
+        when(userUseCase.getAllUsers(any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    Pageable pageable = invocation.getArgument(0);
+                    return PageResponseDto.of(List.<UserResponseDto>of(), pageable.getPageNumber(), 10, 15);
+                });
+
+        // when
+        int pages = userCacheWarmUp.warmUpListPages(5, farDeadline());
+
+        // then - 15건 / 10건씩 = 2페이지
+        assertThat(pages).isEqualTo(2);
+        verify(userUseCase, times(2)).getAllUsers(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("사용자 warm-up - circuit breaker가 OPEN이면 DB/Redis 호출 없음")
+    void warmUpUsers_RedisUnavailable_Skips() {
+        // given
+        when(redisCacheManager.getCacheConfigurations())
+                .thenReturn(Map.of("users", RedisCacheConfiguration.defaultCacheConfig()));
+        when(circuitBreakers.isRedisAvailable("users")).thenReturn(false);
+
+        // when
+        int warmed = userCacheWarmUp.warmUpUsers(List.of(1L, 2L), farDeadline());
+
+        // then
+        assertThat(warmed).isZero();
+        verifyNoInteractions(userRepository, stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("제한 시간 초과 - 작업 시작하지 않음")
+    void warmUpListPages_DeadlinePassed_Skips() {
+        // when
+        int pages = userCacheWarmUp.warmUpListPages(5, System.nanoTime() - 1);
+
+        // then
+        assertThat(pages).isZero();
+        verifyNoInteractions(userUseCase);
+    }
+}
@@ -6,6 +6,7 @@ import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserUpdateReque
 import com.boilerplate.springbootjava.application.user.port.out.UserRepository;
 import com.boilerplate.springbootjava.common.dto.PageResponseDto;
 import com.boilerplate.springbootjava.config.AbstractIntegrationTest;
+import com.boilerplate.springbootjava.infrastructure.cache.UserListGeneration;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserEntity;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
@@ -42,6 +43,9 @@ class UserServiceIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private UserListGeneration userListGeneration;
+
     @BeforeEach
     @Transactional
     void setUp() {
@@ -53,6 +57,11 @@ class UserServiceIntegrationTest extends AbstractIntegrationTest {
         clearAllCaches();
     }
 
+    // 목록 캐시 키: {세대}:{page}:{size}:{sort}
+    private String listCacheKey(int page, int size) {
+        return userListGeneration.current() + ":" + page + ":" + size + ":UNSORTED";
+    }
+
     private void clearAllCaches() {
         if (cacheManager != null) {
             cacheManager.getCacheNames().forEach(cacheName -> {
@@ -146,7 +155,7 @@ class UserServiceIntegrationTest extends AbstractIntegrationTest {
         // 캐시가 생성되었는지 확인
         Cache userListCache = cacheManager.getCache("userList");
         assertThat(userListCache).isNotNull();
-        String cacheKey = "0:10:UNSORTED";
+        String cacheKey = listCacheKey(0, 10);
         assertThat(userListCache.get(cacheKey)).isNotNull();
 
         // when - 새 사용자 생성 (목록 캐시 무효화)
@@ -173,7 +182,7 @@ class UserServiceIntegrationTest extends AbstractIntegrationTest {
 
         Cache usersCache = cacheManager.getCache("users");
         Cache userListCache = cacheManager.getCache("userList");
-        String listCacheKey = "0:10:UNSORTED";
+        String listCacheKey = listCacheKey(0, 10);
 
         assertThat(usersCache.get(userId)).isNotNull();
         assertThat(userListCache.get(listCacheKey)).isNotNull();
@@ -214,7 +223,7 @@ class UserServiceIntegrationTest extends AbstractIntegrationTest {
 
         Cache usersCache = cacheManager.getCache("users");
         Cache userListCache = cacheManager.getCache("userList");
-        String listCacheKey = "0:10:UNSORTED";
+        String listCacheKey = listCacheKey(0, 10);
 
         assertThat(usersCache.get(userId)).isNotNull();
         assertThat(userListCache.get(listCacheKey)).isNotNull();
@@ -240,25 +249,25 @@ class UserServiceIntegrationTest extends AbstractIntegrationTest {
         // when - 1페이지 조회 (캐싱됨)
         Pageable pageable0 = PageRequest.of(0, 10);
         userService.getAllUsers(pageable0);
-        String cacheKey0 = "0:10:UNSORTED";
+        String cacheKey0 = listCacheKey(0, 10);
         assertThat(userListCache.get(cacheKey0)).isNotNull();
 
         // 4페이지 조회 (캐싱됨 - condition: page < 5)
         Pageable pageable4 = PageRequest.of(4, 10);
         userService.getAllUsers(pageable4);
-        String cacheKey4 = "4:10:UNSORTED";
+        String cacheKey4 = listCacheKey(4, 10);
         assertThat(userListCache.get(cacheKey4)).isNotNull();
 
         // 5페이지 조회 (캐싱 안 됨 - condition: page < 5)
         Pageable pageable5 = PageRequest.of(5, 10);
         userService.getAllUsers(pageable5);
-        String cacheKey5 = "5:10:UNSORTED";
+        String cacheKey5 = listCacheKey(5, 10);
         assertThat(userListCache.get(cacheKey5)).isNull();
 
         // 10페이지 조회 (캐싱 안 됨)
         Pageable pageable10 = PageRequest.of(10, 10);
         userService.getAllUsers(pageable10);
-        String cacheKey10 = "10:10:UNSORTED";
+        String cacheKey10 = listCacheKey(10, 10);
         assertThat(userListCache.get(cacheKey10)).isNull();
     }
 
@@ -274,12 +283,12 @@ class UserServiceIntegrationTest extends AbstractIntegrationTest {
         // when - 동일 페이지, 다른 크기
         Pageable pageable1 = PageRequest.of(0, 10);
         userService.getAllUsers(pageable1);
-        String cacheKey1 = "0:10:UNSORTED";
+        String cacheKey1 = listCacheKey(0, 10);
         assertThat(userListCache.get(cacheKey1)).isNotNull();
 
         Pageable pageable2 = PageRequest.of(0, 20);
         userService.getAllUsers(pageable2);
-        String cacheKey2 = "0:20:UNSORTED";
+        String cacheKey2 = listCacheKey(0, 20);
         assertThat(userListCache.get(cacheKey2)).isNotNull();
 
         // then - 서로 다른 캐시 키 사용
@@ -4,18 +4,22 @@ import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserCreateReque
 import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
 import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserUpdateRequestDto;
 import com.boilerplate.springbootjava.application.user.port.out.UserRepository;
+import com.boilerplate.springbootjava.application.user.port.out.UserTombstoneRepository;
 import com.boilerplate.springbootjava.common.dto.PageResponseDto;
 import com.boilerplate.springbootjava.common.exception.CustomException;
 import com.boilerplate.springbootjava.common.exception.errorcode.UserErrorCode;
+import com.boilerplate.springbootjava.infrastructure.cache.UserListGeneration;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserEntity;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
 import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserTombstoneEntity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -42,9 +46,21 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserTombstoneRepository userTombstoneRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserExistenceGuard userExistenceGuard;
+
+    @Mock
+    private UserListGeneration userListGeneration;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private UserService userService;
 
@@ -160,6 +176,23 @@ class UserServiceTest {
                 .isEqualTo(UserErrorCode.USER_NOT_FOUND);
 
         verify(userRepository).findById(userId);
+        verify(userExistenceGuard).recordAbsent(userId);
+    }
+
+    @Test
+    @DisplayName("사용자 조회 - 미존재로 확인된 id는 DB 조회 없이 예외")
+    void getUser_KnownAbsent_SkipsRepository() {
+        // given
+        Long userId = 999L;
+        when(userExistenceGuard.isKnownAbsent(userId)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> userService.getUser(userId))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(UserErrorCode.USER_NOT_FOUND);
+
+        verify(userRepository, never()).findById(any());
     }
 
     // ========== 사용자 목록 조회 테스트 ==========
@@ -270,7 +303,7 @@ class UserServiceTest {
                 .build();
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingEntity));
-        when(userRepository.save(any(UserEntity.class))).thenReturn(updatedEntity);
+        when(userRepository.saveAndFlush(any(UserEntity.class))).thenReturn(updatedEntity);
 
         // when
         UserResponseDto response = userService.updateUser(userId, updateRequest);
@@ -282,7 +315,7 @@ class UserServiceTest {
         assertThat(response.phoneNumber()).isEqualTo("010-9999-9999");
 
         verify(userRepository).findById(userId);
-        verify(userRepository).save(any(UserEntity.class));
+        verify(userRepository).saveAndFlush(any(UserEntity.class));
     }
 
     @Test
@@ -309,7 +342,7 @@ class UserServiceTest {
                 .build();
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingEntity));
-        when(userRepository.save(any(UserEntity.class))).thenReturn(updatedEntity);
+        when(userRepository.saveAndFlush(any(UserEntity.class))).thenReturn(updatedEntity);
 
         // when
         UserResponseDto response = userService.updateUser(userId, updateRequest);
@@ -320,7 +353,7 @@ class UserServiceTest {
         assertThat(response.phoneNumber()).isEqualTo("010-1234-5678");  // 기존 값 유지
 
         verify(userRepository).findById(userId);
-        verify(userRepository).save(any(UserEntity.class));
+        verify(userRepository).saveAndFlush(any(UserEntity.class));
     }
 
     @Test
@@ -343,7 +376,30 @@ class UserServiceTest {
                 .isEqualTo(UserErrorCode.USER_NOT_FOUND);
 
         verify(userRepository).findById(userId);
-        verify(userRepository, never()).save(any(UserEntity.class));
+        verify(userRepository, never()).saveAndFlush(any(UserEntity.class));
+    }
+
+    @Test
+    @DisplayName("사용자 수정 - 기대 버전 불일치 예외 (If-Match)")
+    void updateUser_VersionMismatch_ThrowsException() {
+        // given
+        Long userId = 1L;
+        UserUpdateRequestDto updateRequest = new UserUpdateRequestDto(
+                "Updated Name",
+                "010-9999-9999"
+        );
+        UserEntity existingEntity = createUserEntity(userId, "test@test.com");  // version 0
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(existingEntity));
+
+        // when & then
+        assertThatThrownBy(() -> userService.updateUser(userId, updateRequest, 3L))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(UserErrorCode.USER_PRECONDITION_FAILED);
+
+        verify(userRepository, never()).saveAndFlush(any(UserEntity.class));
+        verify(userListGeneration, never()).bumpAfterCommit();
     }
 
     // ========== 사용자 삭제 테스트 ==========
@@ -362,6 +418,7 @@ class UserServiceTest {
         // then
         verify(userRepository).existsById(userId);
         verify(userRepository).deleteById(userId);
+        verify(userTombstoneRepository).save(argThat((UserTombstoneEntity t) -> t.getUserId().equals(userId)));
     }
 
     @Test
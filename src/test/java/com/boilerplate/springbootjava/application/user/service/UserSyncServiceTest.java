@@ -0,0 +1,139 @@
+package com.boilerplate.springbootjava.application.user.service;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserChangesResponseDto;
+import com.boilerplate.springbootjava.application.user.port.out.UserRepository;
+import com.boilerplate.springbootjava.application.user.port.out.UserTombstoneRepository;
+import com.boilerplate.springbootjava.common.exception.CustomException;
+import com.boilerplate.springbootjava.common.exception.errorcode.UserErrorCode;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserEntity;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserTombstoneEntity;
+import com.boilerplate.springbootjava.infrastructure.properties.UserSyncProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserSyncService 단위 테스트
+ * - Repository Mock 사용
+ * - 토큰(워터마크) 전진 / 페이징 / 만료 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class UserSyncServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserTombstoneRepository userTombstoneRepository;
+
+    private UserSyncProperties properties;
+    private UserSyncService userSyncService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UserSyncProperties();
+        userSyncService = new UserSyncService(userRepository, userTombstoneRepository, properties);
+    }
+
+    private UserEntity user(long id, Instant updatedAt) {
+        return UserEntity.builder()
+                .id(id)
+                .email("user" + id + "@test.com")
+                .password("$2a$10$encodedPassword")
+                .role(UserRole.USER)
+                .name("User " + id)
+                .phoneNumber("010-1234-5678")
+                .status(UserStatus.ACTIVE)
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("최초 동기화 - 사용자 전체 조회, 다음 토큰은 마지막 사용자 기준")
+    void getChanges_Initial_ReturnsUsersAndToken() {
+        // given
+        Instant t1 = Instant.parse("2025-01-01T00:00:00Z");
+        when(userRepository.findChangedSince(eq(Instant.EPOCH), eq(0L), any(), eq(Limit.of(3))))
+                .thenReturn(List.of(user(1, t1), user(2, t1), user(3, t1.plusSeconds(1))));
+        when(userTombstoneRepository.findDeletedSince(any(), anyLong(), any(), any()))
+                .thenReturn(List.of());
+
+        // when
+        UserChangesResponseDto response = userSyncService.getChanges(null, 2);
+
+        // then - limit 2 + 1건 조회하여 다음 페이지 존재 판단
+        assertThat(response.changed()).extracting("id").containsExactly(1L, 2L);
+        assertThat(response.deleted()).isEmpty();
+        assertThat(response.hasMore()).isTrue();
+
+        UserSyncToken next = UserSyncToken.decode(response.nextToken());
+        assertThat(next.userAfter()).isEqualTo(t1);
+        assertThat(next.userAfterId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("이어서 동기화 - 토큰의 워터마크 이후만 조회, 삭제 목록 포함")
+    void getChanges_WithToken_UsesWatermarks() {
+        // given
+        Instant now = Instant.now();
+        UserSyncToken token = new UserSyncToken(now.minusSeconds(60), 10L, now.minusSeconds(60), 5L);
+        when(userRepository.findChangedSince(eq(token.userAfter()), eq(10L), any(), any()))
+                .thenReturn(List.of());
+        when(userTombstoneRepository.findDeletedSince(eq(token.deletedAfter()), eq(5L), any(), any()))
+                .thenReturn(List.of(new UserTombstoneEntity(7L, now.minusSeconds(30))));
+
+        // when
+        UserChangesResponseDto response = userSyncService.getChanges(token.encode(), 100);
+
+        // then
+        assertThat(response.changed()).isEmpty();
+        assertThat(response.deleted()).containsExactly(7L);
+        assertThat(response.hasMore()).isFalse();
+
+        // 삭제 목록을 모두 전달했으므로 삭제 워터마크는 safety lag 시점까지 전진
+        UserSyncToken next = UserSyncToken.decode(response.nextToken());
+        assertThat(next.userAfter()).isEqualTo(token.userAfter());
+        assertThat(next.deletedAfter()).isAfter(now.minusSeconds(30));
+        assertThat(next.deletedAfter()).isBeforeOrEqualTo(Instant.now().minus(properties.getSafetyLag()));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 토큰 - 410 예외")
+    void getChanges_ExpiredToken_ThrowsException() {
+        // given
+        Instant old = Instant.now().minus(properties.getTombstoneRetention()).minus(Duration.ofDays(1));
+        String token = new UserSyncToken(old, 1L, old, 1L).encode();
+
+        // when & then
+        assertThatThrownBy(() -> userSyncService.getChanges(token, 100))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(UserErrorCode.SYNC_TOKEN_EXPIRED);
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰 - 400 예외")
+    void getChanges_InvalidToken_ThrowsException() {
+        assertThatThrownBy(() -> userSyncService.getChanges("not-a-token", 100))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(UserErrorCode.SYNC_TOKEN_INVALID);
+    }
+}
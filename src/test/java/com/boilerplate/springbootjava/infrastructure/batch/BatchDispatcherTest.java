@@ -0,0 +1,215 @@
+package com.boilerplate.springbootjava.infrastructure.batch;
+
+import com.boilerplate.springbootjava.infrastructure.filter.ratelimit.RateLimitFilter;
+import com.boilerplate.springbootjava.infrastructure.properties.BatchProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BatchDispatcher 단위 테스트
+ * - DispatcherServlet / 권한 평가 / 속도 제한 Mock 사용
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchDispatcherTest {
+
+    @Mock
+    private DispatcherServlet dispatcherServlet;
+
+    @Mock
+    private WebInvocationPrivilegeEvaluator privilegeEvaluator;
+
+    @Mock
+    private RateLimitFilter rateLimitFilter;
+
+    private final BatchProperties properties = new BatchProperties();
+    private final MockHttpServletRequest batchRequest = new MockHttpServletRequest("POST", "/api/v1/batch");
+    private final MockHttpServletResponse batchResponse = new MockHttpServletResponse();
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken(
+            "user1@test.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+    private BatchDispatcher batchDispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        batchDispatcher = new BatchDispatcher(dispatcherServlet, privilegeEvaluator, rateLimitFilter,
+                properties, new ObjectMapper().registerModule(new JavaTimeModule()));
+        lenient().when(privilegeEvaluator.isAllowed(anyString(), anyString(), anyString(), any())).thenReturn(true);
+        lenient().when(rateLimitFilter.apply(any(HttpServletRequest.class), any(HttpServletResponse.class)))
+                .thenReturn(true);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        batchDispatcher.shutdown();
+    }
+
+    private static BatchDispatcher.SubRequest get(String path) {
+        return new BatchDispatcher.SubRequest("GET", path, Map.of(), null);
+    }
+
+    @Test
+    @DisplayName("하위 요청 병렬 실행 - 요청 순서대로 응답, 인증 공유")
+    void dispatch_RunsInParallel_KeepsOrder() throws Exception {
+        // given - 두 하위 요청이 모두 시작되어야 끝나도록 (순차 실행이면 timeout)
+        CountDownLatch started = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            HttpServletRequest request = invocation.getArgument(0);
+            HttpServletResponse response = invocation.getArgument(1);
+            started.countDown();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            response.setStatus(200);
+            response.setContentType("application/json");
+            response.getOutputStream().write(("{\"path\":\"" + request.getRequestURI()
+                    + "\",\"page\":\"" + request.getParameter("page")
+                    + "\",\"user\":\"" + SecurityContextHolder.getContext().getAuthentication().getName()
+                    + "\"}").getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any(ServletResponse.class));
+
+        // when
+        List<BatchDispatcher.SubResponse> responses = batchDispatcher.dispatch(batchRequest, batchResponse,
+                List.of(get("/api/v1/users/1"), get("/api/v1/users?page=2")));
+
+        // then
+        assertThat(responses).extracting(BatchDispatcher.SubResponse::status).containsExactly(200, 200);
+        assertThat(new String(responses.get(0).body(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"path\":\"/api/v1/users/1\",\"page\":\"null\",\"user\":\"user1@test.com\"}");
+        assertThat(new String(responses.get(1).body(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"path\":\"/api/v1/users\",\"page\":\"2\",\"user\":\"user1@test.com\"}");
+        assertThat(batchResponse.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비동기 핸들러 - 결과가 나온 뒤 ASYNC dispatch 응답을 모음")
+    void dispatch_AsyncHandler_WaitsForAsyncDispatch() throws Exception {
+        // given - REQUEST dispatch에서 비동기 시작, 다른 스레드가 나중에 dispatch()
+        doAnswer(invocation -> {
+            HttpServletRequest request = invocation.getArgument(0);
+            HttpServletResponse response = invocation.getArgument(1);
+            if (request.getDispatcherType() == DispatcherType.REQUEST) {
+                AsyncContext asyncContext = request.startAsync(request, response);
+                Thread.ofVirtual().start(() -> {
+                    sleep(50);
+                    asyncContext.dispatch();
+                });
+                return null;
+            }
+            response.setStatus(200);
+            response.getWriter().write("async");
+            return null;
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any(ServletResponse.class));
+
+        // when
+        List<BatchDispatcher.SubResponse> responses = batchDispatcher.dispatch(batchRequest, batchResponse,
+                List.of(get("/api/v1/test/external/1")));
+
+        // then
+        assertThat(responses.get(0).status()).isEqualTo(200);
+        assertThat(new String(responses.get(0).body(), StandardCharsets.UTF_8)).isEqualTo("async");
+        verify(dispatcherServlet, times(2)).service(any(ServletRequest.class), any(ServletResponse.class));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 method / 경로 / 권한 - 실행하지 않고 하위 응답만 오류")
+    void dispatch_RejectedItems_NotDispatched() throws Exception {
+        // given
+        when(privilegeEvaluator.isAllowed(anyString(), eq("/api/v1/admin"), anyString(), any())).thenReturn(false);
+
+        // when
+        List<BatchDispatcher.SubResponse> responses = batchDispatcher.dispatch(batchRequest, batchResponse, List.of(
+                new BatchDispatcher.SubRequest("DELETE", "/api/v1/users/1", Map.of(), null),
+                get("/api/v1/batch"),
+                get("/api/v1/users/%2e%2e/batch"),
+                get("/actuator/health"),
+                get("/api/v1/admin")));
+
+        // then
+        assertThat(responses).extracting(BatchDispatcher.SubResponse::status)
+                .containsExactly(405, 400, 400, 400, 403);
+        verify(dispatcherServlet, never()).service(any(ServletRequest.class), any(ServletResponse.class));
+    }
+
+    @Test
+    @DisplayName("전체 대기 시간 초과 - 끝나지 않은 하위 요청만 504")
+    void dispatch_Timeout_ReturnsGatewayTimeout() throws Exception {
+        // given
+        properties.setTimeout(Duration.ofMillis(200));
+        doAnswer(invocation -> {
+            HttpServletRequest request = invocation.getArgument(0);
+            if (request.getRequestURI().endsWith("/slow")) {
+                Thread.sleep(5_000);
+            }
+            ((HttpServletResponse) invocation.getArgument(1)).setStatus(204);
+            return null;
+        }).when(dispatcherServlet).service(any(ServletRequest.class), any(ServletResponse.class));
+
+        // when
+        List<BatchDispatcher.SubResponse> responses = batchDispatcher.dispatch(batchRequest, batchResponse,
+                List.of(get("/api/v1/slow"), get("/api/v1/fast")));
+
+        // then
+        assertThat(responses).extracting(BatchDispatcher.SubResponse::status).containsExactly(504, 204);
+    }
+
+    @Test
+    @DisplayName("속도 제한 거절 - 하위 요청을 실행하지 않음")
+    void dispatch_RateLimited_NotDispatched() throws Exception {
+        // given
+        when(rateLimitFilter.apply(any(HttpServletRequest.class), any(HttpServletResponse.class)))
+                .thenAnswer(invocation -> {
+                    ((HttpServletResponse) invocation.getArgument(1)).setStatus(429);
+                    return false;
+                });
+
+        // when
+        List<BatchDispatcher.SubResponse> responses = batchDispatcher.dispatch(batchRequest, batchResponse,
+                List.of(get("/api/v1/users/1")));
+
+        // then
+        assertThat(responses.get(0).status()).isEqualTo(429);
+        verify(dispatcherServlet, never()).service(any(ServletRequest.class), any(ServletResponse.class));
+    }
+}
@@ -0,0 +1,147 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CacheCircuitBreaker / CircuitBreakingCache 단위 테스트
+ * - Redis 캐시는 Mock, 시간은 가짜 nanoClock 사용
+ */
+class CircuitBreakingCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private AppCacheProperties.CircuitBreaker settings;
+    private Cache redisCache;
+    private CacheCircuitBreaker breaker;
+    private CircuitBreakingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        settings = new AppCacheProperties.CircuitBreaker();
+        settings.setWindowSize(10);
+        settings.setMinimumCalls(4);
+        settings.setOpenDuration(Duration.ofSeconds(10));
+        settings.setHalfOpenCalls(2);
+
+        redisCache = mock(Cache.class);
+        when(redisCache.getName()).thenReturn("users");
+        breaker = new CacheCircuitBreaker("users", settings, Duration.ofMillis(20), now::get);
+        cache = new CircuitBreakingCache(redisCache, breaker, 100);
+    }
+
+    private void tripOpen() {
+        when(redisCache.get(any())).thenThrow(new RedisConnectionFailureException("down"));
+        for (int i = 0; i < settings.getMinimumCalls(); i++) {
+            cache.get(i);
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 오류 - 미스로 처리, 실패율 임계값 이상이면 OPEN")
+    void get_RedisErrors_OpensBreaker() {
+        // when
+        tripOpen();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        assertThat(cache.get(1L)).isNull();
+        verify(redisCache, times(settings.getMinimumCalls())).get(any());
+    }
+
+    @Test
+    @DisplayName("느린 호출 - latency 예산 초과 비율이 임계값 이상이면 OPEN")
+    void onSuccess_SlowCalls_OpensBreaker() {
+        // when
+        for (int i = 0; i < settings.getMinimumCalls(); i++) {
+            breaker.tryAcquire();
+            breaker.onSuccess(Duration.ofMillis(100).toNanos());
+        }
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        assertThat(breaker.snapshot().slowCallRate()).isEqualTo(100f);
+    }
+
+    @Test
+    @DisplayName("OPEN - get(key, loader)는 Redis 없이 로더 호출")
+    void getWithLoader_Open_CallsLoaderOnly() {
+        // given
+        tripOpen();
+        clearInvocations(redisCache);
+
+        // when
+        Object value = cache.get(1L, () -> "from-db");
+
+        // then
+        assertThat(value).isEqualTo("from-db");
+        verifyNoInteractions(redisCache);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN probe 성공 - CLOSED 복구 후 OPEN 동안 건너뛴 evict 재실행")
+    void halfOpen_ProbesSucceed_ClosesAndReplaysEvictions() {
+        // given
+        tripOpen();
+        cache.evict(42L);
+        verify(redisCache, never()).evictIfPresent(42L);
+
+        reset(redisCache);
+        when(redisCache.getName()).thenReturn("users");
+        now.addAndGet(settings.getOpenDuration().toNanos());
+
+        // when - probe 2회
+        cache.get(1L);
+        cache.get(2L);
+        assertThat(breaker.getState()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+        cache.get(3L);
+
+        // then
+        verify(redisCache).evict(42L);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN probe 실패 - 다시 OPEN")
+    void halfOpen_ProbeFails_Reopens() {
+        // given
+        tripOpen();
+        now.addAndGet(settings.getOpenDuration().toNanos());
+
+        // when
+        cache.get(1L);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN probe 중 Redis 외 오류 - 예외는 그대로 전달, 결과 기록 후 CLOSED 복구")
+    void halfOpen_ProbeThrowsNonRedisError_RecordsOutcome() {
+        // given
+        tripOpen();
+        reset(redisCache);
+        when(redisCache.getName()).thenReturn("users");
+        when(redisCache.get(any())).thenThrow(new IllegalStateException("unreadable value"));
+        now.addAndGet(settings.getOpenDuration().toNanos());
+
+        // when
+        for (int i = 0; i < settings.getHalfOpenCalls(); i++) {
+            long key = i;
+            assertThatThrownBy(() -> cache.get(key)).isInstanceOf(IllegalStateException.class);
+        }
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,147 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.common.dto.PageResponseDto;
+import com.boilerplate.springbootjava.infrastructure.config.RedisConfig;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CompactRedisSerializer 단위 테스트
+ * - legacy serializer는 RedisConfig와 같은 GenericJackson2JsonRedisSerializer 사용
+ */
+class CompactRedisSerializerTest {
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private CacheTypeRegistry registry;
+    private CompactRedisSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper redisObjectMapper = new RedisConfig().redisObjectMapper();
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        registry = new CacheTypeRegistry()
+                .register(1, UserResponseDto.class)
+                .register(2, redisObjectMapper.getTypeFactory()
+                        .constructParametricType(PageResponseDto.class, UserResponseDto.class));
+        serializer = new CompactRedisSerializer(CompactRedisSerializer.defaultSmileMapper(), registry, 1024, 1 << 20, jsonSerializer);
+    }
+
+    private UserResponseDto user(long id) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        return new UserResponseDto(id, UserRole.USER, "user" + id + "@test.com", "User " + id,
+                "010-1234-5678", UserStatus.ACTIVE, now, now, 3L);
+    }
+
+    private PageResponseDto<UserResponseDto> page(int size) {
+        List<UserResponseDto> content = LongStream.rangeClosed(1, size).mapToObj(this::user).toList();
+        return PageResponseDto.of(content, 0, size, 1_000);
+    }
+
+    @Test
+    @DisplayName("단건 - 압축 없이 왕복 변환, JSON보다 작음")
+    void roundTrip_User() {
+        // given
+        UserResponseDto user = user(1);
+
+        // when
+        byte[] bytes = serializer.serialize(user);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.FORMAT);
+        assertThat(bytes[1] & CompactRedisSerializer.FLAG_LZ4).isZero();
+        assertThat(bytes.length).isLessThan(jsonSerializer.serialize(user).length);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("목록 - 임계값 이상이면 LZ4 압축 후 왕복 변환")
+    void roundTrip_Page_Compressed() {
+        // given
+        PageResponseDto<UserResponseDto> page = page(50);
+
+        // when
+        byte[] bytes = serializer.serialize(page);
+
+        // then
+        assertThat(bytes[1] & CompactRedisSerializer.FLAG_LZ4).isNotZero();
+        assertThat(serializer.deserialize(bytes)).isEqualTo(page);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 값 - legacy serializer로 읽음")
+    void deserialize_LegacyJson() {
+        // given
+        PageResponseDto<UserResponseDto> page = page(2);
+        byte[] json = jsonSerializer.serialize(page);
+
+        // when & then
+        assertThat(serializer.deserialize(json)).isEqualTo(page);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 타입 id - 캐시 미스(null)")
+    void deserialize_UnknownTypeId_ReturnsNull() {
+        // given
+        byte[] bytes = serializer.serialize(user(1));
+        bytes[2] = 0x7F;
+
+        // when & then
+        assertThat(serializer.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    @DisplayName("압축 값의 원본 길이가 음수 / 최대 크기 초과 - 할당 없이 SerializationException")
+    void deserialize_CorruptOriginalLength_ThrowsSerializationException() {
+        // given
+        byte[] bytes = serializer.serialize(page(50));
+        byte[] negative = bytes.clone();
+        ByteBuffer.wrap(negative, 4, 4).putInt(-1);
+        byte[] huge = bytes.clone();
+        ByteBuffer.wrap(huge, 4, 4).putInt(Integer.MAX_VALUE);
+
+        // when & then
+        assertThatThrownBy(() -> serializer.deserialize(negative)).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.deserialize(huge)).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.deserialize(Arrays.copyOf(bytes, 6)))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("미등록 타입 - legacy(JSON)로 기록")
+    void serialize_UnregisteredType_UsesLegacy() {
+        // given
+        Map<String, Object> value = new HashMap<>(Map.of("key", "value"));
+
+        // when
+        byte[] bytes = serializer.serialize(value);
+
+        // then
+        assertThat(bytes[0]).isNotEqualTo(CompactRedisSerializer.FORMAT);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("타입 id 중복 등록 - 예외")
+    void register_DuplicateId_ThrowsException() {
+        assertThatThrownBy(() -> registry.register(1, String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
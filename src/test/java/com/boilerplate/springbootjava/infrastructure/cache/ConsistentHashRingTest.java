@@ -0,0 +1,102 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConsistentHashRing 단위 테스트
+ */
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+
+    private static Map<String, String> nodes(String... names) {
+        Map<String, String> nodes = new LinkedHashMap<>();
+        for (String name : names) {
+            nodes.put(name, name);
+        }
+        return nodes;
+    }
+
+    private static String key(int i) {
+        return "cache:0:users::" + i;
+    }
+
+    @Test
+    @DisplayName("분산 - 노드별 키 비율이 평균에서 크게 벗어나지 않음")
+    void nodeFor_DistributesEvenly() {
+        // given
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(nodes("a", "b", "c", "d"), 160);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.nodeFor(key(i)), 1, Integer::sum);
+        }
+
+        // then - 평균 5,000 기준 ±20%
+        assertThat(counts).hasSize(4);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(4_000, 6_000));
+    }
+
+    @Test
+    @DisplayName("노드 추가 - 새 노드로 이동한 키만 위치 변경 (약 1/(N+1))")
+    void addNode_MovesOnlyKeysToNewNode() {
+        // given
+        ConsistentHashRing<String> before = new ConsistentHashRing<>(nodes("a", "b", "c", "d"), 160);
+        ConsistentHashRing<String> after = new ConsistentHashRing<>(nodes("a", "b", "c", "d", "e"), 160);
+
+        // when
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String from = before.nodeFor(key(i));
+            String to = after.nodeFor(key(i));
+            if (!from.equals(to)) {
+                assertThat(to).isEqualTo("e");
+                moved++;
+            }
+        }
+
+        // then - 기대값 20% (4,000)
+        assertThat(moved).isBetween(3_000, 5_000);
+    }
+
+    @Test
+    @DisplayName("노드 목록 순서와 무관하게 같은 배치")
+    void nodeFor_IndependentOfNodeOrder() {
+        // given
+        ConsistentHashRing<String> ring1 = new ConsistentHashRing<>(nodes("a", "b", "c"), 160);
+        ConsistentHashRing<String> ring2 = new ConsistentHashRing<>(nodes("c", "a", "b"), 160);
+
+        // when & then
+        IntStream.range(0, 1_000).forEach(i ->
+                assertThat(ring1.nodeFor(key(i))).isEqualTo(ring2.nodeFor(key(i))));
+    }
+
+    @Test
+    @DisplayName("partition / map - 같은 노드로 묶고, 변환 후에도 배치 유지")
+    void partitionAndMap_KeepPlacement() {
+        // given
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(nodes("a", "b", "c"), 160);
+        List<Integer> ids = IntStream.range(0, 100).boxed().toList();
+
+        // when
+        Map<String, List<Integer>> partitions = ring.partition(ids, ConsistentHashRingTest::key);
+        ConsistentHashRing<String> upper = ring.map(String::toUpperCase);
+
+        // then
+        assertThat(partitions.values().stream().mapToInt(List::size).sum()).isEqualTo(100);
+        partitions.forEach((node, part) -> part.forEach(id -> {
+            assertThat(ring.nodeFor(key(id))).isEqualTo(node);
+            assertThat(upper.nodeFor(key(id))).isEqualTo(node.toUpperCase());
+        }));
+    }
+}
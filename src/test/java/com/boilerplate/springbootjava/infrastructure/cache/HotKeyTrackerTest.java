@@ -0,0 +1,90 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CountMinSketch / HotKeyTracker 단위 테스트
+ */
+class HotKeyTrackerTest {
+
+    private AppCacheProperties.HotKeys settings;
+
+    @BeforeEach
+    void setUp() {
+        settings = new AppCacheProperties.HotKeys();
+        settings.setTopK(5);
+        settings.setMinHits(50);
+        settings.setSampleSize(1_000_000);
+    }
+
+    @Test
+    @DisplayName("count-min sketch - 추정치는 실제 접근 수 이상")
+    void sketch_NeverUnderestimates() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+
+        // when
+        for (long id = 0; id < 1_000; id++) {
+            for (int i = 0; i <= id % 7; i++) {
+                sketch.increment(id);
+            }
+        }
+
+        // then
+        for (long id = 0; id < 1_000; id++) {
+            assertThat(sketch.estimate(id)).isGreaterThanOrEqualTo(id % 7 + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("상위 K - 많이 조회된 키가 다수의 한두 번 조회된 키 사이에서 남음")
+    void record_KeepsHeavyHitters() {
+        // given
+        HotKeyTracker tracker = new HotKeyTracker("users", settings);
+
+        // when - 키 1, 2는 100회, 나머지 10,000개 키는 1~2회
+        for (long id = 1_000; id < 11_000; id++) {
+            tracker.record(id);
+            if (id % 2 == 0) {
+                tracker.record(id);
+            }
+            if (id % 100 == 0) {
+                for (int i = 0; i < 10; i++) {
+                    tracker.record(1L);
+                    tracker.record(2L);
+                }
+            }
+        }
+
+        // then
+        List<HotKeyTracker.HotKey> top = tracker.top(2);
+        assertThat(top).extracting(HotKeyTracker.HotKey::key).containsExactlyInAnyOrder("1", "2");
+        assertThat(tracker.isHot(1L)).isTrue();
+        assertThat(tracker.isHot(1_001L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("감쇠 - sampleSize 접근마다 카운트가 절반이 되어 인기가 식은 키는 hot에서 제외")
+    void record_AgingCoolsDownKeys() {
+        // given
+        settings.setSampleSize(100);
+        HotKeyTracker tracker = new HotKeyTracker("users", settings);
+        for (int i = 0; i < 99; i++) {
+            tracker.record(1L);
+        }
+        assertThat(tracker.isHot(1L)).isTrue();
+
+        // when - 100번째 접근에서 감쇠
+        tracker.record(2L);
+
+        // then - 99 -> 49 (< minHits 50)
+        assertThat(tracker.isHot(1L)).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LongBloomFilter 단위 테스트
+ */
+class LongBloomFilterTest {
+
+    @Test
+    @DisplayName("저장한 값 - 항상 포함 (false negative 없음)")
+    void mightContain_InsertedValues_AlwaysTrue() {
+        // given
+        LongBloomFilter filter = LongBloomFilter.create(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.put(id);
+        }
+
+        // when & then
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(filter.mightContain(id)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("저장하지 않은 값 - false positive 비율이 설정값 근처")
+    void mightContain_AbsentValues_FalsePositiveRateWithinBound() {
+        // given
+        LongBloomFilter filter = LongBloomFilter.create(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.put(id);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (long id = 1_000_001; id <= 1_100_000; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("생성 - 잘못된 false positive 확률 예외")
+    void create_InvalidRate_ThrowsException() {
+        assertThatThrownBy(() -> LongBloomFilter.create(100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LongBloomFilter.create(100, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
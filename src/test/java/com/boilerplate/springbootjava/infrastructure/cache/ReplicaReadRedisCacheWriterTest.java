@@ -0,0 +1,80 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReplicaReadRedisCacheWriter 단위 테스트
+ * - master / replica writer는 Mock
+ */
+class ReplicaReadRedisCacheWriterTest {
+
+    private static final byte[] KEY = "cache:1:users::1".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VALUE = "value".getBytes(StandardCharsets.UTF_8);
+
+    private RedisCacheWriter master;
+    private RedisCacheWriter replica;
+    private ReplicaReadRedisCacheWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        master = mock(RedisCacheWriter.class);
+        replica = mock(RedisCacheWriter.class);
+        writer = new ReplicaReadRedisCacheWriter(master, replica);
+    }
+
+    @Test
+    @DisplayName("조회 - replica에서 읽음")
+    void get_ReadsFromReplica() {
+        // given
+        when(replica.get(eq("users"), eq(KEY), isNull())).thenReturn(VALUE);
+
+        // when
+        byte[] result = writer.get("users", KEY, null);
+
+        // then
+        assertThat(result).isEqualTo(VALUE);
+        verifyNoInteractions(master);
+    }
+
+    @Test
+    @DisplayName("time-to-idle 조회(TTL 갱신) - master에서 읽음")
+    void get_WithTtl_ReadsFromMaster() {
+        // given
+        Duration ttl = Duration.ofMinutes(1);
+        when(master.get("users", KEY, ttl)).thenReturn(VALUE);
+
+        // when
+        byte[] result = writer.get("users", KEY, ttl);
+
+        // then
+        assertThat(result).isEqualTo(VALUE);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("기록 / 삭제 - master로만 보냄")
+    void writes_GoToMaster() {
+        // when
+        writer.put("users", KEY, VALUE, Duration.ofMinutes(1));
+        writer.putIfAbsent("users", KEY, VALUE, Duration.ofMinutes(1));
+        writer.remove("users", KEY);
+        writer.clean("users", "cache:1:users::*".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        verify(master).put("users", KEY, VALUE, Duration.ofMinutes(1));
+        verify(master).putIfAbsent("users", KEY, VALUE, Duration.ofMinutes(1));
+        verify(master).remove("users", KEY);
+        verify(master).clean(eq("users"), any());
+        verifyNoInteractions(replica);
+    }
+}
@@ -0,0 +1,114 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ResponseBodyCache 단위 테스트
+ */
+class ResponseBodyCacheTest {
+
+    private final ResponseBodyCache cache = new ResponseBodyCache(4, 64, Duration.ofMinutes(1));
+
+    private static byte[] json(String value) {
+        return ("{\"name\":\"" + value + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(ResponseBodyCache.Body body) {
+        ByteBuffer content = body.content();
+        byte[] bytes = new byte[content.remaining()];
+        content.get(bytes);
+        body.release();
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("저장 후 조회 - 본문 / ETag 그대로 반환")
+    void putThenGet_ReturnsBody() {
+        // given
+        long token = cache.beginLoad("users::1");
+
+        // when
+        boolean stored = cache.put("users::1", token, "\"1-0-0\"", json("a"));
+
+        // then
+        ResponseBodyCache.Body body = cache.get("users::1");
+        assertThat(stored).isTrue();
+        assertThat(body).isNotNull();
+        assertThat(body.etag()).isEqualTo("\"1-0-0\"");
+        assertThat(bytes(body)).isEqualTo(json("a"));
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화 - 이전 값 저장하지 않음")
+    void put_InvalidatedDuringLoad_NotStored() {
+        // given
+        long token = cache.beginLoad("users::1");
+        cache.invalidate("users::1");
+
+        // when
+        boolean stored = cache.put("users::1", token, "\"1-0-0\"", json("stale"));
+
+        // then
+        assertThat(stored).isFalse();
+        assertThat(cache.get("users::1")).isNull();
+    }
+
+    @Test
+    @DisplayName("slot보다 큰 본문 - 저장하지 않음")
+    void put_LargerThanSlot_NotStored() {
+        // when
+        boolean stored = cache.put("users::1", cache.beginLoad("users::1"), "\"1-0-0\"", new byte[65]);
+
+        // then
+        assertThat(stored).isFalse();
+        assertThat(cache.get("users::1")).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화 / 교체된 slot 재사용 - 용량 이상 저장해도 각 키는 자기 본문만 반환")
+    void put_SlotsReused() {
+        // given
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                String key = "users::" + i;
+                cache.put(key, cache.beginLoad(key), "\"" + i + "\"", json(round + "-" + i));
+            }
+        }
+        cache.invalidate("users::0");
+
+        // when
+        boolean stored = cache.put("users::9", cache.beginLoad("users::9"), "\"9\"", json("9"));
+
+        // then
+        assertThat(stored).isTrue();
+        assertThat(cache.get("users::0")).isNull();
+        assertThat(bytes(cache.get("users::9"))).isEqualTo(json("9"));
+        assertThat(bytes(cache.get("users::3"))).isEqualTo(json("2-3"));
+    }
+
+    @Test
+    @DisplayName("응답 중인 slot - release 전까지 다른 키가 덮어쓰지 않음")
+    void get_PinnedSlot_NotOverwritten() {
+        // given - slot 17개 (1 + 여유 16), 응답 중에 키가 무효화되어 slot이 반환됨
+        ResponseBodyCache small = new ResponseBodyCache(1, 64, Duration.ofMinutes(1));
+        small.put("users::1", small.beginLoad("users::1"), "\"1\"", json("a"));
+        ResponseBodyCache.Body body = small.get("users::1");
+        small.invalidate("users::1");
+
+        // when - 모든 slot을 한 번씩 사용
+        for (int i = 0; i < 20; i++) {
+            String key = "users::" + (100 + i);
+            small.put(key, small.beginLoad(key), "\"x\"", json("overwrite"));
+        }
+
+        // then
+        assertThat(bytes(body)).isEqualTo(json("a"));
+    }
+}
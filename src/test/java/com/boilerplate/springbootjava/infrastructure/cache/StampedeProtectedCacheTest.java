@@ -0,0 +1,290 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * StampedeProtectedCache 단위 테스트
+ * - Redis 대신 ConcurrentMapCache + Mock 락 사용
+ * - single-flight, 분산 락 대기, 조기 갱신 검증
+ */
+class StampedeProtectedCacheTest {
+
+    private ConcurrentMapCache delegate;
+    private RedisCacheLock cacheLock;
+    private CacheRefreshLoaders refreshLoaders;
+    private AppCacheProperties.Stampede settings;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ConcurrentMapCache("users", false);
+        cacheLock = mock(RedisCacheLock.class);
+        refreshLoaders = new CacheRefreshLoaders();
+        settings = new AppCacheProperties.Stampede();
+        settings.setLockWait(Duration.ofMillis(300));
+        settings.setPollInterval(Duration.ofMillis(10));
+
+        when(cacheLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.of("token"));
+    }
+
+    private StampedeProtectedCache createCache(long remainingTtlMillis) {
+        return createCache(remainingTtlMillis, null);
+    }
+
+    private StampedeProtectedCache createCache(long remainingTtlMillis, HotKeyTracker hotKeys) {
+        return new StampedeProtectedCache(
+                delegate,
+                key -> "users::" + key,
+                redisKey -> remainingTtlMillis,
+                () -> true,
+                cacheLock,
+                refreshLoaders,
+                Runnable::run,
+                settings,
+                hotKeys,
+                Duration.ofSeconds(15)
+        );
+    }
+
+    @Test
+    @DisplayName("동시 캐시 미스 - 로더는 한 번만 호출")
+    void get_ConcurrentMisses_LoadsOnce() throws Exception {
+        // given
+        StampedeProtectedCache cache = createCache(-2L);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get(1L, () -> {
+                    loadCount.incrementAndGet();
+                    Thread.sleep(100);
+                    return "user-1";
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("user-1");
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(delegate.get(1L)).isNotNull();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("로더 예외 - 원본 예외를 cause로 전파하고 캐싱하지 않음")
+    void get_LoaderThrows_PropagatesCause() {
+        // given
+        StampedeProtectedCache cache = createCache(-2L);
+        IllegalStateException failure = new IllegalStateException("not found");
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw failure;
+        }))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasCause(failure);
+
+        assertThat(delegate.get(1L)).isNull();
+        verify(cacheLock).unlock("users::1", "token");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락 보유 - 대기 중 채워진 값을 사용하고 로드하지 않음")
+    void get_LockHeldElsewhere_UsesValueLoadedElsewhere() throws Exception {
+        // given
+        when(cacheLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.empty());
+        StampedeProtectedCache cache = createCache(-2L);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        Thread otherNode = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            delegate.put(1L, "from-other-node");
+        });
+        otherNode.start();
+
+        // when
+        String value = cache.get(1L, () -> {
+            loadCount.incrementAndGet();
+            return "local";
+        });
+        otherNode.join();
+
+        // then
+        assertThat(value).isEqualTo("from-other-node");
+        assertThat(loadCount.get()).isZero();
+        verify(cacheLock, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락 보유 - 대기 시간 내 채워지지 않으면 직접 로드")
+    void get_LockHeldElsewhereTimeout_LoadsLocally() {
+        // given
+        when(cacheLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.empty());
+        StampedeProtectedCache cache = createCache(-2L);
+
+        // when
+        String value = cache.get(1L, () -> "local");
+
+        // then
+        assertThat(value).isEqualTo("local");
+        assertThat(delegate.get(1L).get()).isEqualTo("local");
+    }
+
+    @Test
+    @DisplayName("캐시 히트 - 만료 임박 시 등록된 loader로 조기 갱신 (호출의 valueLoader는 재사용하지 않음)")
+    void get_HitNearExpiry_RefreshesEarly() {
+        // given
+        settings.setBeta(1_000_000);
+        refreshLoaders.register("users", key -> "fresh");
+        StampedeProtectedCache cache = createCache(1L);
+        delegate.put(1L, "stale");
+
+        // when - 첫 히트는 만료 시각(PTTL)만 조회, 다음 히트에서 판단
+        String first = cache.get(1L, () -> "from-call");
+        assertThat(delegate.get(1L).get()).isEqualTo("stale");
+        String value = cache.get(1L, () -> "from-call");
+
+        // then
+        assertThat(first).isEqualTo("stale");
+        assertThat(value).isEqualTo("stale");
+        assertThat(delegate.get(1L).get()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("캐시 히트 - 만료 시각 조회(PTTL)는 호출 스레드가 아닌 refreshExecutor에서 실행")
+    void get_HitUnknownExpiry_ProbesTtlOnRefreshExecutor() {
+        // given
+        settings.setBeta(1_000_000);
+        refreshLoaders.register("users", key -> "fresh");
+        List<Runnable> queued = new ArrayList<>();
+        AtomicInteger probes = new AtomicInteger();
+        StampedeProtectedCache cache = new StampedeProtectedCache(
+                delegate,
+                key -> "users::" + key,
+                redisKey -> {
+                    probes.incrementAndGet();
+                    return 1L;
+                },
+                () -> true,
+                cacheLock,
+                refreshLoaders,
+                queued::add,
+                settings,
+                null,
+                Duration.ZERO
+        );
+        delegate.put(1L, "stale");
+
+        // when
+        String value = cache.get(1L, () -> "fresh");
+        cache.get(1L, () -> "fresh");
+
+        // then - 조회는 한 번만 예약, 호출 중에는 실행되지 않음
+        assertThat(value).isEqualTo("stale");
+        assertThat(probes.get()).isZero();
+        assertThat(queued).hasSize(1);
+        assertThat(delegate.get(1L).get()).isEqualTo("stale");
+    }
+
+    @Test
+    @DisplayName("캐시 히트 - 등록된 loader가 없으면 만료 임박이어도 조기 갱신하지 않음")
+    void get_HitNearExpiryWithoutLoader_DoesNotRefresh() {
+        // given
+        settings.setBeta(1_000_000);
+        StampedeProtectedCache cache = createCache(1L);
+        delegate.put(1L, "stale");
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            cache.get(1L, () -> {
+                loadCount.incrementAndGet();
+                return "fresh";
+            });
+        }
+
+        // then
+        assertThat(loadCount.get()).isZero();
+        assertThat(delegate.get(1L).get()).isEqualTo("stale");
+    }
+
+    @Test
+    @DisplayName("캐시 히트 - 만료까지 충분하면 갱신하지 않음")
+    void get_HitFarFromExpiry_DoesNotRefresh() {
+        // given
+        StampedeProtectedCache cache = createCache(Duration.ofHours(1).toMillis());
+        delegate.put(1L, "cached");
+        AtomicInteger loadCount = new AtomicInteger();
+        refreshLoaders.register("users", key -> {
+            loadCount.incrementAndGet();
+            return "fresh";
+        });
+
+        // when
+        cache.get(1L, () -> "from-call");
+        String value = cache.get(1L, () -> "from-call");
+
+        // then
+        assertThat(value).isEqualTo("cached");
+        assertThat(loadCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("hot 키 - 남은 TTL이 refreshAhead 이하이면 XFetch와 무관하게 조기 갱신")
+    void get_HotKeyWithinRefreshAhead_RefreshesEarly() {
+        // given - beta 0: XFetch는 만료 시점에만 갱신
+        settings.setBeta(0);
+        AppCacheProperties.HotKeys hotKeySettings = new AppCacheProperties.HotKeys();
+        hotKeySettings.setMinHits(3);
+        HotKeyTracker hotKeys = new HotKeyTracker("users", hotKeySettings);
+        StampedeProtectedCache cache = createCache(Duration.ofSeconds(10).toMillis(), hotKeys);
+        delegate.put(1L, "stale");
+        AtomicInteger loadCount = new AtomicInteger();
+        refreshLoaders.register("users", key -> {
+            loadCount.incrementAndGet();
+            return "fresh";
+        });
+
+        // when - 접근 수가 minHits에 도달하면 hot
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L, () -> "from-call");
+        }
+
+        // then
+        assertThat(hotKeys.isHot(1L)).isTrue();
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(delegate.get(1L).get()).isEqualTo("fresh");
+    }
+}
@@ -0,0 +1,96 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TwoLevelCache 단위 테스트
+ * - L2는 ConcurrentMapCache, 무효화 버스는 Mock 사용
+ */
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache l2;
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private CacheInvalidationBus invalidationBus;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        l2 = new ConcurrentMapCache("users", false);
+        l1 = Caffeine.newBuilder().maximumSize(100).build();
+        invalidationBus = mock(CacheInvalidationBus.class);
+        cache = new TwoLevelCache(l2, l1, key -> "users::" + key, invalidationBus);
+    }
+
+    @Test
+    @DisplayName("조회 - L2 히트 시 L1에 적재")
+    void get_L2Hit_PopulatesL1() {
+        // given
+        l2.put(1L, "user-1");
+
+        // when
+        Object value = cache.get(1L).get();
+
+        // then
+        assertThat(value).isEqualTo("user-1");
+        assertThat(l1.getIfPresent("users::1")).isEqualTo("user-1");
+    }
+
+    @Test
+    @DisplayName("조회 - L1 히트 시 L2를 조회하지 않음")
+    void get_L1Hit_SkipsL2() {
+        // given
+        l1.put("users::1", "local");
+        l2.put(1L, "remote");
+
+        // when & then
+        assertThat(cache.get(1L).get()).isEqualTo("local");
+    }
+
+    @Test
+    @DisplayName("저장 - L1/L2 반영 후 다른 노드에 무효화 전파")
+    void put_WritesBothLevels_AndPublishes() {
+        // when
+        cache.put(1L, "user-1");
+
+        // then
+        assertThat(l2.get(1L).get()).isEqualTo("user-1");
+        assertThat(l1.getIfPresent("users::1")).isEqualTo("user-1");
+        verify(invalidationBus).publish("users", "users::1");
+    }
+
+    @Test
+    @DisplayName("삭제 - L1/L2 제거 후 다른 노드에 무효화 전파")
+    void evict_RemovesBothLevels_AndPublishes() {
+        // given
+        cache.put(1L, "user-1");
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(l2.get(1L)).isNull();
+        assertThat(l1.getIfPresent("users::1")).isNull();
+        verify(invalidationBus, times(2)).publish("users", "users::1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지 - L1만 제거")
+    void evictLocal_RemovesOnlyL1() {
+        // given
+        cache.put(1L, "user-1");
+
+        // when
+        cache.evictLocal("users::1");
+
+        // then
+        assertThat(l1.getIfPresent("users::1")).isNull();
+        assertThat(l2.get(1L).get()).isEqualTo("user-1");
+    }
+}
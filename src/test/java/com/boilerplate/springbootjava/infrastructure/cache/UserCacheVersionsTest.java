@@ -0,0 +1,74 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.infrastructure.properties.AppCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserCacheVersions 단위 테스트
+ * - users hash 캐시는 Mock
+ */
+class UserCacheVersionsTest {
+
+    private RedisHashCache<UserResponseDto> userHashCache;
+    private AppCacheProperties.CacheSpec usersSpec;
+    private UserCacheVersions userCacheVersions;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userHashCache = mock(RedisHashCache.class);
+        CacheCircuitBreakers circuitBreakers = mock(CacheCircuitBreakers.class);
+        when(circuitBreakers.isRedisAvailable("users")).thenReturn(true);
+        usersSpec = new AppCacheProperties.CacheSpec();
+        usersSpec.setStorage(AppCacheProperties.CacheSpec.Storage.HASH);
+        AppCacheProperties appCacheProperties = new AppCacheProperties();
+        appCacheProperties.getCaches().put("users", usersSpec);
+        userCacheVersions = new UserCacheVersions(userHashCache, circuitBreakers, appCacheProperties);
+    }
+
+    @Test
+    @DisplayName("hash 저장 - version / updatedAt 필드만 조회")
+    void find_Hash_ReadsOnlyVersionFields() {
+        // given
+        Instant updatedAt = Instant.parse("2025-01-01T00:00:00.123456Z");
+        when(userHashCache.getFields(1L, UserHashCodec.VERSION, UserHashCodec.UPDATED_AT))
+                .thenReturn(Map.of(UserHashCodec.VERSION, "3", UserHashCodec.UPDATED_AT, updatedAt.toString()));
+
+        // when
+        UserCacheVersions.Version version = userCacheVersions.find(1L);
+
+        // then
+        assertThat(version).isEqualTo(new UserCacheVersions.Version(1L, 3L, updatedAt));
+        verify(userHashCache, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없음 - null")
+    void find_Missing_ReturnsNull() {
+        // given
+        when(userHashCache.getFields(1L, UserHashCodec.VERSION, UserHashCodec.UPDATED_AT)).thenReturn(Map.of());
+
+        // when & then
+        assertThat(userCacheVersions.find(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("value 저장 - 조회하지 않음")
+    void find_ValueStorage_Skipped() {
+        // given
+        usersSpec.setStorage(AppCacheProperties.CacheSpec.Storage.VALUE);
+
+        // when & then
+        assertThat(userCacheVersions.find(1L)).isNull();
+        verifyNoInteractions(userHashCache);
+    }
+}
@@ -0,0 +1,69 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * UserHashCodec 단위 테스트
+ */
+class UserHashCodecTest {
+
+    private final UserHashCodec codec = new UserHashCodec();
+
+    private UserResponseDto user() {
+        // DB(PostgreSQL) timestamp는 마이크로초 정밀도
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00.123456Z");
+        return new UserResponseDto(1L, UserRole.USER, "user1@test.com", "User 1",
+                "010-1234-5678", UserStatus.ACTIVE, createdAt, createdAt, 7L);
+    }
+
+    @Test
+    @DisplayName("왕복 변환 - 모든 속성 및 시간 정밀도 유지")
+    void encodeDecode_RoundTrip() {
+        // given
+        UserResponseDto user = user();
+
+        // when
+        Map<String, String> fields = codec.encode(user);
+
+        // then
+        assertThat(fields).containsEntry(UserHashCodec.NAME, "User 1")
+                .containsEntry(UserHashCodec.VERSION, "7");
+        assertThat(codec.decode(fields)).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("null 속성 - 필드 생략 후 null로 복원")
+    void encode_NullField_Omitted() {
+        // given
+        UserResponseDto user = new UserResponseDto(1L, UserRole.USER, "user1@test.com", null,
+                null, UserStatus.ACTIVE, null, null, 0L);
+
+        // when
+        Map<String, String> fields = codec.encode(user);
+
+        // then
+        assertThat(fields).doesNotContainKeys(UserHashCodec.NAME, UserHashCodec.PHONE_NUMBER);
+        assertThat(codec.decode(fields)).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("필수 필드(version) 없음 - 미스(null)")
+    void decode_MissingVersion_ReturnsNull() {
+        // given
+        Map<String, String> fields = new HashMap<>(codec.encode(user()));
+        fields.remove(UserHashCodec.VERSION);
+
+        // when & then
+        assertThat(codec.decode(fields)).isNull();
+    }
+}
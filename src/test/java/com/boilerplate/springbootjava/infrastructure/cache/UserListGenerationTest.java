@@ -0,0 +1,63 @@
+package com.boilerplate.springbootjava.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserListGeneration 단위 테스트
+ * - Redis는 Mock
+ */
+class UserListGenerationTest {
+
+    private ValueOperations<String, String> valueOperations;
+    private UserListGeneration generation;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        CacheCircuitBreakers circuitBreakers = mock(CacheCircuitBreakers.class);
+        when(circuitBreakers.isRedisAvailable("userList")).thenReturn(true);
+        generation = new UserListGeneration(stringRedisTemplate, circuitBreakers);
+    }
+
+    @Test
+    @DisplayName("키 없음 - 현재 시각에서 시작 (1부터 다시 시작하지 않음)")
+    void current_MissingKey_SeedsWithTime() {
+        // given
+        long before = System.currentTimeMillis();
+        ArgumentCaptor<String> seed = ArgumentCaptor.forClass(String.class);
+        when(valueOperations.get(UserListGeneration.KEY)).thenReturn(null, Long.toString(before));
+
+        // when
+        long current = generation.current();
+
+        // then
+        verify(valueOperations).setIfAbsent(eq(UserListGeneration.KEY), seed.capture());
+        assertThat(Long.parseLong(seed.getValue())).isGreaterThanOrEqualTo(before);
+        assertThat(current).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("증가 - 키가 없을 때를 대비해 시작 값을 먼저 설정 후 INCR")
+    void bumpAfterCommit_SeedsBeforeIncrement() {
+        // when
+        generation.bumpAfterCommit();
+
+        // then
+        InOrder inOrder = inOrder(valueOperations);
+        inOrder.verify(valueOperations).setIfAbsent(eq(UserListGeneration.KEY), anyString());
+        inOrder.verify(valueOperations).increment(UserListGeneration.KEY);
+    }
+}
@@ -0,0 +1,159 @@
+package com.boilerplate.springbootjava.infrastructure.coalescing;
+
+import com.boilerplate.springbootjava.infrastructure.properties.RequestCoalescingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RequestCoalescingInterceptor 단위 테스트
+ */
+class RequestCoalescingInterceptorTest {
+
+    private final RequestCoalescingProperties properties = new RequestCoalescingProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final RequestCoalescingInterceptor interceptor =
+            new RequestCoalescingInterceptor(() -> properties, () -> meterRegistry);
+
+    static class SlowReader {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @CoalesceRequests
+        public String read(Long id) throws InterruptedException {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "user-" + id;
+        }
+
+        @CoalesceRequests
+        public String fail(Long id) throws InterruptedException {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("not found: " + id);
+        }
+    }
+
+    private SlowReader proxy(SlowReader target) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(interceptor);
+        return (SlowReader) factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 인자 동시 호출 - 한 번만 실행하고 결과 공유")
+    void sameArguments_ExecutedOnce() throws Exception {
+        // given
+        SlowReader target = new SlowReader();
+        SlowReader reader = proxy(target);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> call(() -> reader.read(1L)), executor);
+        target.entered.await(5, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> call(() -> reader.read(1L)), executor);
+        awaitWaiting();
+        target.release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("user-1");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("user-1");
+        assertThat(target.calls).hasValue(1);
+        assertThat(meterRegistry.get("request_coalescing.calls").tag("outcome", "coalesced").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행 중 예외 - 대기 중인 호출도 같은 예외")
+    void leaderFails_FollowerGetsSameException() throws Exception {
+        // given
+        SlowReader target = new SlowReader();
+        SlowReader reader = proxy(target);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> call(() -> reader.fail(1L)), executor);
+        target.entered.await(5, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> call(() -> reader.fail(1L)), executor);
+        awaitWaiting();
+        target.release.countDown();
+
+        // then
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("not found: 1");
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(target.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("권한 범위 - 권한 집합이 다르면 다른 키")
+    void scope_DifferentAuthorities() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "user1", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        Object user1 = RequestCoalescingInterceptor.scope(CoalesceRequests.Scope.AUTHORITIES);
+        Object user1Principal = RequestCoalescingInterceptor.scope(CoalesceRequests.Scope.PRINCIPAL);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "user2", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        Object user2 = RequestCoalescingInterceptor.scope(CoalesceRequests.Scope.AUTHORITIES);
+        Object user2Principal = RequestCoalescingInterceptor.scope(CoalesceRequests.Scope.PRINCIPAL);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        Object admin = RequestCoalescingInterceptor.scope(CoalesceRequests.Scope.AUTHORITIES);
+
+        // then
+        assertThat(user1).isEqualTo(user2).isNotEqualTo(admin);
+        assertThat(user1Principal).isNotEqualTo(user2Principal);
+    }
+
+    // 두 번째 호출이 leader 결과를 기다리기 시작할 때까지
+    private void awaitWaiting() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (interceptor.waiting() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static String call(ThrowingSupplier supplier) {
+        try {
+            return supplier.get();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        String get() throws Exception;
+    }
+}
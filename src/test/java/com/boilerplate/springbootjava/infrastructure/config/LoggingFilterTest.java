@@ -0,0 +1,174 @@
+package com.boilerplate.springbootjava.infrastructure.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.boilerplate.springbootjava.infrastructure.properties.HttpLoggingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LoggingFilter 단위 테스트
+ * - PRODUCTION mode, 로그는 ListAppender로 확인
+ */
+class LoggingFilterTest {
+
+    private final HttpLoggingProperties properties = new HttpLoggingProperties();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingFilter.class);
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent("{\"name\":\"a\"}".getBytes(StandardCharsets.UTF_8));
+        request.addHeader("Authorization", "Bearer secret-token");
+        request.addHeader("X-Internal", "internal-value");
+        return request;
+    }
+
+    private FilterChain handler(int status, String body) {
+        return (req, res) -> {
+            req.getInputStream().readAllBytes();
+            ((HttpServletResponse) res).setStatus(status);
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private String fields(ILoggingEvent event) {
+        return event.getMarkerList().toString();
+    }
+
+    @Test
+    @DisplayName("sampling 제외 - 래핑 없이 그대로 통과, 로그 없음")
+    void notSampled_PassesThrough() throws Exception {
+        // given
+        properties.setSampleRate(0);
+        LoggingFilter filter = new LoggingFilter(properties);
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletRequest> seenRequest = new AtomicReference<>();
+        AtomicReference<ServletResponse> seenResponse = new AtomicReference<>();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            seenRequest.set(req);
+            seenResponse.set(res);
+            handler(201, "{}").doFilter(req, res);
+        });
+
+        // then
+        assertThat(seenRequest.get()).isSameAs(request);
+        assertThat(seenResponse.get()).isSameAs(response);
+        assertThat(response.getContentAsString()).isEqualTo("{}");
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sampling 제외 5xx - 본문 없이 요약만 기록")
+    void notSampled_ServerError_SummaryLogged() throws Exception {
+        // given
+        properties.setSampleRate(0);
+        LoggingFilter filter = new LoggingFilter(properties);
+
+        // when
+        filter.doFilter(request(), new MockHttpServletResponse(), handler(500, "{\"error\":\"boom\"}"));
+
+        // then
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(fields(event)).contains("status=500").doesNotContain("boom");
+        });
+    }
+
+    @Test
+    @DisplayName("큰 응답 - 클라이언트에는 전체 전송, 로그에는 max-body-size까지만")
+    void largeResponse_StreamedAndTruncated() throws Exception {
+        // given
+        properties.setMaxBodySize(DataSize.ofBytes(16));
+        LoggingFilter filter = new LoggingFilter(properties);
+        String body = "{\"items\":\"" + "x".repeat(100) + "\"}";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request(), response, handler(200, body));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo(body);
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.INFO);
+            assertThat(fields(event))
+                    .contains("body=" + body.substring(0, 16) + ",")
+                    .contains("body_truncated=true")
+                    .contains("status=200");
+        });
+    }
+
+    @Test
+    @DisplayName("헤더 - allowlist만 기록, 민감 헤더는 값을 가림")
+    void headers_AllowlistAndRedaction() throws Exception {
+        // given
+        properties.setHeaders(List.of("Content-Type", "Authorization"));
+        LoggingFilter filter = new LoggingFilter(properties);
+
+        // when
+        filter.doFilter(request(), new MockHttpServletResponse(), handler(201, "{}"));
+
+        // then
+        assertThat(appender.list).singleElement().satisfies(event -> assertThat(fields(event))
+                .contains("Authorization=[REDACTED]")
+                .contains("Content-Type=application/json")
+                .doesNotContain("secret-token")
+                .doesNotContain("X-Internal"));
+    }
+
+    @Test
+    @DisplayName("경로별 설정 - log-body false면 본문 제외")
+    void route_LogBodyDisabled() throws Exception {
+        // given
+        HttpLoggingProperties.Route route = new HttpLoggingProperties.Route();
+        route.setPattern("/api/v1/users");
+        route.setLogBody(false);
+        properties.setRoutes(List.of(route));
+        LoggingFilter filter = new LoggingFilter(properties);
+
+        // when
+        filter.doFilter(request(), new MockHttpServletResponse(), handler(201, "{\"id\":1}"));
+
+        // then
+        assertThat(appender.list).singleElement().satisfies(event -> assertThat(fields(event))
+                .contains("status=201")
+                .doesNotContain("body="));
+    }
+}
@@ -0,0 +1,90 @@
+package com.boilerplate.springbootjava.infrastructure.external.async;
+
+import com.boilerplate.springbootjava.common.exception.CustomException;
+import com.boilerplate.springbootjava.common.exception.errorcode.ItemExternalApiErrorCode;
+import com.boilerplate.springbootjava.infrastructure.properties.HttpClientProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ExternalCallExecutor 단위 테스트
+ */
+class ExternalCallExecutorTest {
+
+    private final HttpClientProperties properties = new HttpClientProperties();
+    private final ExternalCallExecutor executor = new ExternalCallExecutor(properties);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("정상 호출 - virtual thread에서 실행, SecurityContext 전달")
+    void supply_RunsOnVirtualThread_WithSecurityContext() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user1@test.com", null, List.of()));
+
+        // when
+        CompletableFuture<String> future = executor.supply(() ->
+                Thread.currentThread().isVirtual() + ":"
+                        + SecurityContextHolder.getContext().getAuthentication().getName());
+
+        // then
+        assertThat(future.join()).isEqualTo("true:user1@test.com");
+    }
+
+    @Test
+    @DisplayName("async-timeout 초과 - EXTERNAL_TIMEOUT")
+    void supply_Timeout_ThrowsExternalTimeout() {
+        // given
+        properties.setAsyncTimeout(Duration.ofMillis(100));
+
+        // when
+        CompletableFuture<String> future = executor.supply(() -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "late";
+        });
+
+        // then
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOfSatisfying(CustomException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ItemExternalApiErrorCode.EXTERNAL_TIMEOUT));
+    }
+
+    @Test
+    @DisplayName("외부 API 오류 - 원래 예외 그대로 전달")
+    void supply_Failure_KeepsOriginalException() {
+        // given
+        CustomException notFound = new CustomException(ItemExternalApiErrorCode.EXTERNAL_NOT_FOUND);
+
+        // when
+        CompletableFuture<String> future = executor.supply(() -> {
+            throw notFound;
+        });
+
+        // then
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isSameAs(notFound);
+    }
+}
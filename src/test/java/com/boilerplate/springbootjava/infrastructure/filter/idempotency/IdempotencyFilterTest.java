@@ -0,0 +1,290 @@
+package com.boilerplate.springbootjava.infrastructure.filter.idempotency;
+
+import com.boilerplate.springbootjava.infrastructure.filter.idempotency.IdempotencyStore.Entry;
+import com.boilerplate.springbootjava.infrastructure.properties.IdempotencyProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IdempotencyFilter 단위 테스트
+ * - Redis 대신 메모리 저장소 사용
+ */
+class IdempotencyFilterTest {
+
+    private final InMemoryStore store = new InMemoryStore();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties.Endpoint endpoint = new IdempotencyProperties.Endpoint();
+        endpoint.setPattern("/api/v1/users");
+        properties.setEndpoints(List.of(endpoint));
+        properties.setWaitTimeout(Duration.ofSeconds(5));
+        filter = new IdempotencyFilter(store, properties, new ObjectMapper(), meterRegistry);
+    }
+
+    private MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users");
+        request.addHeader("Idempotency-Key", key);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    // 요청 본문을 그대로 돌려주는 핸들러
+    private FilterChain handler(int status) {
+        return (req, res) -> {
+            executions.incrementAndGet();
+            String body = StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8);
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            ((HttpServletResponse) res).setStatus(status);
+            res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도 - 저장된 응답 반환, 핸들러 재실행 없음")
+    void retry_SameKey_Replayed() throws Exception {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", "{\"name\":\"a\"}"), first, handler(201));
+
+        // when
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", "{\"name\":\"a\"}"), retry, handler(201));
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getContentAsString()).isEqualTo("{\"name\":\"a\"}");
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo("{\"name\":\"a\"}");
+        assertThat(retry.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 본문에 사용 - 422")
+    void sameKey_DifferentBody_Rejected() throws Exception {
+        // given
+        filter.doFilter(request("key-1", "{\"name\":\"a\"}"), new MockHttpServletResponse(), handler(201));
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", "{\"name\":\"b\"}"), response, handler(201));
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_42201");
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 중복 요청 - 끝날 때까지 대기 후 같은 응답 반환")
+    void concurrentDuplicate_WaitsAndReplays() throws Exception {
+        // given - 첫 요청이 핸들러 안에서 멈춘 상태
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (req, res) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handler(201).doFilter(req, res);
+        };
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        CompletableFuture<Void> firstRun = CompletableFuture.runAsync(() -> doFilter(
+                request("key-1", "{\"name\":\"a\"}"), first, blocking));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - 중복 요청이 처리 중 상태를 확인하면 첫 요청 완료
+        store.onGet = release::countDown;
+        MockHttpServletResponse duplicate = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", "{\"name\":\"a\"}"), duplicate, handler(201));
+        firstRun.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(duplicate.getStatus()).isEqualTo(201);
+        assertThat(duplicate.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(duplicate.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("5xx 응답 - 저장하지 않고 재시도 시 다시 실행")
+    void serverError_NotStored() throws Exception {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", "{\"name\":\"a\"}"), first, handler(500));
+
+        // when
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", "{\"name\":\"a\"}"), retry, handler(201));
+
+        // then
+        assertThat(executions).hasValue(2);
+        assertThat(first.getStatus()).isEqualTo(500);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 헤더 없음 - 그대로 실행")
+    void noHeader_Bypassed() throws Exception {
+        // given
+        MockHttpServletRequest request = request("key-1", "{}");
+        request.removeHeader("Idempotency-Key");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), handler(201));
+        filter.doFilter(request, new MockHttpServletResponse(), handler(201));
+
+        // then
+        assertThat(executions).hasValue(2);
+        assertThat(store.entries).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리 중 표시가 만료되어 다른 요청이 가져간 키 - 완료 시 덮어쓰지 않음")
+    void complete_OwnershipLost_NotOverwritten() throws Exception {
+        // given - 핸들러 실행 중에 processing-ttl이 지나 다른 요청이 같은 키를 가져감
+        Entry[] takenOver = new Entry[1];
+        FilterChain slow = (req, res) -> {
+            String key = store.entries.keySet().iterator().next();
+            takenOver[0] = Entry.processing(store.entries.get(key).fingerprint(), "other-owner");
+            store.entries.put(key, takenOver[0]);
+            handler(201).doFilter(req, res);
+        };
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", "{\"name\":\"a\"}"), response, slow);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(store.entries.values()).containsExactly(takenOver[0]);
+    }
+
+    @Test
+    @DisplayName("max-request-size보다 큰 본문 - 읽거나 실행하지 않고 413")
+    void largeBody_Rejected() throws Exception {
+        // given
+        properties.setMaxRequestSize(DataSize.ofBytes(8));
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", "{\"name\":\"too long\"}"), response, handler(201));
+
+        // then
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_41301");
+        assertThat(store.entries).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Content-Length 없이 큰 본문 - 한도까지만 읽고 413")
+    void largeBodyWithoutContentLength_Rejected() throws Exception {
+        // given
+        properties.setMaxRequestSize(DataSize.ofBytes(8));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users") {
+            // chunked 전송
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.addHeader("Idempotency-Key", "key-1");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent("{\"name\":\"too long\"}".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, handler(201));
+
+        // then
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(413);
+    }
+
+    private void doFilter(MockHttpServletRequest request, MockHttpServletResponse response, FilterChain chain) {
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class InMemoryStore extends IdempotencyStore {
+
+        final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        volatile Runnable onGet = () -> {
+        };
+
+        InMemoryStore() {
+            super(null, null);
+        }
+
+        @Override
+        public Optional<String> tryBegin(String key, String fingerprint, Duration ttl) {
+            String owner = UUID.randomUUID().toString();
+            return entries.putIfAbsent(key, Entry.processing(fingerprint, owner)) == null
+                    ? Optional.of(owner) : Optional.empty();
+        }
+
+        @Override
+        public Entry get(String key) {
+            Entry entry = entries.get(key);
+            onGet.run();
+            return entry;
+        }
+
+        @Override
+        public boolean complete(String key, String owner, Entry entry, Duration ttl) {
+            Entry current = entries.get(key);
+            return owns(current, entry.fingerprint(), owner) && entries.replace(key, current, entry);
+        }
+
+        @Override
+        public boolean abandon(String key, String fingerprint, String owner) {
+            Entry current = entries.get(key);
+            return owns(current, fingerprint, owner) && entries.remove(key, current);
+        }
+
+        // Redis 저장소는 처리 중 표시 JSON 전체를 비교 (record equals는 byte[]를 참조로 비교하므로 필드로 확인)
+        private static boolean owns(Entry current, String fingerprint, String owner) {
+            return current != null && !current.completed()
+                    && fingerprint.equals(current.fingerprint()) && owner.equals(current.owner());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.boilerplate.springbootjava.infrastructure.filter.ratelimit;
+
+import com.boilerplate.springbootjava.infrastructure.properties.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RateLimiter 단위 테스트
+ * - Redis token bucket은 Mock, 시간은 가짜 nanoClock 사용
+ */
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private RedisTokenBucket tokenBucket;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitProperties.Policy policy;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLocalBatchSize(5);
+        properties.setLocalHold(Duration.ofMillis(500));
+
+        policy = new RateLimitProperties.Policy();
+        policy.setName("users");
+        policy.setCapacity(100);
+        policy.setRefillPeriod(Duration.ofSeconds(10));
+
+        tokenBucket = mock(RedisTokenBucket.class);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(tokenBucket, properties, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("묶음 획득 - 가져온 토큰을 다 쓸 때까지 Redis 호출 1회")
+    void tryAcquire_UsesLocalBatch() {
+        // given
+        when(tokenBucket.acquire(anyString(), eq(policy), eq(5)))
+                .thenReturn(new RedisTokenBucket.Result(5, 90, 0, 1_000));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire(policy, "user:a").allowed()).isTrue();
+        }
+
+        // then
+        verify(tokenBucket, times(1)).acquire(anyString(), any(), anyInt());
+        assertThat(rateLimiter.tryAcquire(policy, "user:a").remaining()).isEqualTo(94);
+        verify(tokenBucket, times(2)).acquire(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("보관 시간 초과 - 남은 로컬 토큰을 버리고 Redis에서 다시 획득")
+    void tryAcquire_LocalHoldExpired_Refetches() {
+        // given
+        when(tokenBucket.acquire(anyString(), eq(policy), anyInt()))
+                .thenReturn(new RedisTokenBucket.Result(5, 90, 0, 1_000));
+        rateLimiter.tryAcquire(policy, "user:a");
+
+        // when
+        now.addAndGet(Duration.ofMillis(600).toNanos());
+        rateLimiter.tryAcquire(policy, "user:a");
+
+        // then
+        verify(tokenBucket, times(2)).acquire(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("거절 - 재시도 가능 시각까지 Redis 호출 없이 거절, 지표 기록")
+    void tryAcquire_Rejected_CachesDenial() {
+        // given
+        when(tokenBucket.acquire(anyString(), eq(policy), anyInt()))
+                .thenReturn(new RedisTokenBucket.Result(0, 0, 2_000, 10_000));
+
+        // when
+        RateLimiter.Decision first = rateLimiter.tryAcquire(policy, "ip:1.2.3.4");
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        RateLimiter.Decision second = rateLimiter.tryAcquire(policy, "ip:1.2.3.4");
+
+        // then
+        assertThat(first.allowed()).isFalse();
+        assertThat(first.resetSeconds()).isEqualTo(2);
+        assertThat(second.allowed()).isFalse();
+        assertThat(second.resetSeconds()).isEqualTo(1);
+        verify(tokenBucket, times(1)).acquire(anyString(), any(), anyInt());
+        assertThat(meterRegistry.counter("rate_limit.requests", "policy", "users", "outcome", "rejected").count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis 오류 - 허용 (fail-open)")
+    void tryAcquire_RedisDown_Allows() {
+        // given
+        when(tokenBucket.acquire(anyString(), any(), anyInt()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(policy, "user:a");
+
+        // then
+        assertThat(decision.allowed()).isTrue();
+        assertThat(meterRegistry.counter("rate_limit.requests", "policy", "users", "outcome", "error").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량이 작은 정책 - 1개씩 획득")
+    void batchSize_SmallCapacity_One() {
+        // given
+        policy.setCapacity(10);
+
+        // when & then
+        assertThat(rateLimiter.batchSize(policy)).isEqualTo(1);
+    }
+}
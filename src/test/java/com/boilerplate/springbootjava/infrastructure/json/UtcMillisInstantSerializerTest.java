@@ -0,0 +1,66 @@
+package com.boilerplate.springbootjava.infrastructure.json;
+
+import com.boilerplate.springbootjava.adapter.in.web.v1.user.dto.UserResponseDto;
+import com.boilerplate.springbootjava.infrastructure.config.RedisConfig;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserRole;
+import com.boilerplate.springbootjava.infrastructure.persistence.user.UserStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * UtcMillisInstantSerializer 단위 테스트 (기존 @JsonFormat 패턴 결과와 동일해야 함)
+ */
+class UtcMillisInstantSerializerTest {
+
+    private final ObjectMapper objectMapper = new RedisConfig().objectMapper();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2025-01-01T00:00:00Z",
+            "2025-01-01T00:00:00.123456Z",
+            "1999-12-31T23:59:59.999999999Z",
+            "0001-01-01T00:00:00.001Z",
+            "9999-12-31T23:59:59.999Z",
+            "1969-07-20T20:17:40.5Z"
+    })
+    @DisplayName("직렬화 - DateTimeFormatter 패턴 결과와 동일")
+    void serialize_SameAsPattern(String text) throws Exception {
+        // given
+        Instant instant = Instant.parse(text);
+
+        // when
+        String json = objectMapper.writeValueAsString(user(instant));
+
+        // then
+        String expected = UtcMillisInstantSerializer.FALLBACK.format(instant);
+        assertThat(json).contains("\"createdAt\":\"" + expected + "\"");
+        assertThat(objectMapper.readValue(json, UserResponseDto.class).createdAt())
+                .isEqualTo(Instant.parse(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-0001-01-01T00:00:00Z", "+10000-01-01T00:00:00Z"})
+    @DisplayName("범위 밖 연도 - DateTimeFormatter로 처리")
+    void serialize_OutOfRange_Fallback(String text) throws Exception {
+        // given
+        Instant instant = Instant.parse(text);
+
+        // when
+        String json = objectMapper.writeValueAsString(user(instant));
+
+        // then
+        assertThat(UtcMillisInstantSerializer.format(instant, new char[24])).isFalse();
+        assertThat(json).contains("\"createdAt\":\"" + UtcMillisInstantSerializer.FALLBACK.format(instant) + "\"");
+    }
+
+    private static UserResponseDto user(Instant instant) {
+        return new UserResponseDto(1L, UserRole.USER, "user1@test.com", "User 1",
+                "010-1234-5678", UserStatus.ACTIVE, instant, instant, 0L);
+    }
+}
@@ -0,0 +1,82 @@
+package com.boilerplate.springbootjava.infrastructure.thread;
+
+import com.boilerplate.springbootjava.infrastructure.properties.VirtualThreadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * VirtualThreadPinningMonitor 단위 테스트 (JFR 이벤트 대신 프레임 목록으로 집계 검증)
+ */
+class VirtualThreadPinningMonitorTest {
+
+    private static final String BASE_PACKAGE = "com.boilerplate.springbootjava";
+    private static final List<String> RATE_LIMITER_STACK = List.of(
+            "java.lang.Object.wait0:-1",
+            "io.lettuce.core.RedisChannelHandler.await:120",
+            BASE_PACKAGE + ".infrastructure.filter.ratelimit.RateLimiter.tryAcquire:61",
+            BASE_PACKAGE + ".infrastructure.filter.ratelimit.RateLimitFilter.doFilterInternal:40");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private VirtualThreadPinningMonitor monitor(int maxSites) {
+        VirtualThreadProperties properties = new VirtualThreadProperties();
+        properties.getPinning().setMaxSites(maxSites);
+        return new VirtualThreadPinningMonitor(properties, new MockEnvironment(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("위치 - 첫 애플리케이션 프레임, 없으면 최상단 프레임")
+    void site_FirstApplicationFrame() {
+        // when & then
+        assertThat(VirtualThreadPinningMonitor.site(RATE_LIMITER_STACK, BASE_PACKAGE))
+                .isEqualTo(BASE_PACKAGE + ".infrastructure.filter.ratelimit.RateLimiter.tryAcquire:61");
+        assertThat(VirtualThreadPinningMonitor.site(List.of("java.lang.Object.wait0:-1"), BASE_PACKAGE))
+                .isEqualTo("java.lang.Object.wait0:-1");
+        assertThat(VirtualThreadPinningMonitor.site(List.of(), BASE_PACKAGE))
+                .isEqualTo(VirtualThreadPinningMonitor.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("같은 위치 - 횟수 / 최대 시간 집계 및 메트릭 기록")
+    void record_SameSite_Aggregated() {
+        // given
+        VirtualThreadPinningMonitor monitor = monitor(50);
+
+        // when
+        monitor.record(RATE_LIMITER_STACK, Duration.ofMillis(30));
+        monitor.record(RATE_LIMITER_STACK, Duration.ofMillis(50));
+
+        // then
+        assertThat(monitor.sites()).singleElement().satisfies(site -> {
+            assertThat(site.count()).isEqualTo(2);
+            assertThat(site.totalMillis()).isEqualTo(80);
+            assertThat(site.maxMillis()).isEqualTo(50);
+            assertThat(site.stackTrace()).isEqualTo(RATE_LIMITER_STACK);
+        });
+        assertThat(meterRegistry.get("virtual_thread.pinned").timer().count()).isEqualTo(2);
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 위치 수 초과 - other로 합산")
+    void record_MaxSitesExceeded_Other() {
+        // given
+        VirtualThreadPinningMonitor monitor = monitor(1);
+        monitor.record(RATE_LIMITER_STACK, Duration.ofMillis(30));
+
+        // when
+        monitor.record(List.of(BASE_PACKAGE + ".Other.run:1"), Duration.ofMillis(30));
+
+        // then
+        assertThat(monitor.sites()).extracting(VirtualThreadPinningMonitor.PinnedSite::site)
+                .containsExactlyInAnyOrder(VirtualThreadPinningMonitor.site(RATE_LIMITER_STACK, BASE_PACKAGE),
+                        VirtualThreadPinningMonitor.OTHER);
+    }
+}